@@ -35,7 +35,6 @@ import org.ballerinalang.util.program.BLangVMUtils;
 
 import java.io.PrintStream;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
@@ -103,8 +102,7 @@ public class BLangScheduler {
         if (runInCaller) {
             return ctx;
         } else {
-            ExecutorService executor = ThreadPoolFactory.getInstance().getWorkerExecutor();
-            executor.submit(new WorkerExecutor(ctx));
+            ThreadPoolFactory.getInstance().executeWorkerTask(new WorkerExecutor(ctx));
             return null;
         }
     }
@@ -121,7 +119,7 @@ public class BLangScheduler {
         if (runInCaller) {
             return ctx;
         } else {
-            ThreadPoolFactory.getInstance().getWorkerExecutor().submit(new WorkerExecutor(ctx));
+            ThreadPoolFactory.getInstance().executeWorkerTask(new WorkerExecutor(ctx));
             return null;
         }
     }
@@ -208,7 +206,7 @@ public class BLangScheduler {
         AsyncInvocableWorkerResponseContext respCtx = new AsyncInvocableWorkerResponseContext(callableUnitInfo);
         checkAndObserveNativeAsync(nativeCtx, respCtx, callableUnitInfo, flags);
         NativeCallExecutor exec = new NativeCallExecutor(nativeCallable, nativeCtx, respCtx);
-        ThreadPoolFactory.getInstance().getWorkerExecutor().submit(exec);
+        ThreadPoolFactory.getInstance().getBlockingCallExecutor().submit(exec);
         return respCtx;
     }
     
@@ -259,7 +257,7 @@ public class BLangScheduler {
     }
     
     /**
-     * This represents the thread used to run a blocking native call in async mode.
+     * This represents the task used to run a blocking native call in async mode, in the blocking call executor.
      */
     private static class NativeCallExecutor implements Runnable {
 
@@ -301,7 +299,10 @@ public class BLangScheduler {
             } finally {
                 workerCountDown();
             }
-            executeNow(runInCaller);
+            if (runInCaller != null) {
+                /* continue in the worker executor, and give this thread back to the blocking call executor */
+                ThreadPoolFactory.getInstance().executeWorkerTask(new WorkerExecutor(runInCaller));
+            }
         }
         
     }
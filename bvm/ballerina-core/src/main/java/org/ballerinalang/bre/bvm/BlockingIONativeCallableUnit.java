@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.bre.bvm;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.ballerinalang.util.exceptions.BLangNullReferenceException;
+
+/**
+ * {@code BlockingIONativeCallableUnit} represents a native function or action which blocks on I/O,
+ * such as a database call. When offloading of blocking calls is enabled, it is executed in the
+ * blocking call executor and the calling worker is suspended until it completes, so that a slow
+ * backend does not hold the threads of the worker executor.
+ *
+ * @since 0.976.1
+ */
+public abstract class BlockingIONativeCallableUnit extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context, CallableUnitCallback callback) {
+        if (callback == null) {
+            this.execute(context);
+            return;
+        }
+        ThreadPoolFactory.getInstance().getBlockingCallExecutor().submit(() -> executeAndNotify(context, callback));
+    }
+
+    /**
+     * Executes the native in the current thread and notifies the result through the callback.
+     *
+     * @param context  the context of the native call
+     * @param callback the callback of the suspended worker
+     */
+    protected void executeAndNotify(Context context, CallableUnitCallback callback) {
+        try {
+            this.execute(context);
+        } catch (BLangNullReferenceException e) {
+            callback.notifyFailure(BLangVMErrors.createNullRefException(context));
+            return;
+        } catch (Throwable e) {
+            callback.notifyFailure(BLangVMErrors.createError(context, e.getMessage()));
+            return;
+        }
+        callback.notifySuccess();
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return !ThreadPoolFactory.getInstance().isOffloadBlockingCalls();
+    }
+}
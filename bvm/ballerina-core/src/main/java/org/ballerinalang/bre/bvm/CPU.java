@@ -77,6 +77,7 @@ import org.ballerinalang.util.codegen.ForkjoinInfo;
 import org.ballerinalang.util.codegen.FunctionInfo;
 import org.ballerinalang.util.codegen.Instruction;
 import org.ballerinalang.util.codegen.Instruction.InstructionCALL;
+import org.ballerinalang.util.codegen.Instruction.InstructionCmpBranch;
 import org.ballerinalang.util.codegen.Instruction.InstructionFORKJOIN;
 import org.ballerinalang.util.codegen.Instruction.InstructionIteratorNext;
 import org.ballerinalang.util.codegen.Instruction.InstructionLock;
@@ -276,12 +277,23 @@ public class CPU {
                         i = operands[1];
                         sf.refRegs[i] = new BByteArray(((BlobCPEntry) ctx.constPool[cpIndex]).getValue());
                         break;
-    
+
                     case InstructionCodes.IMOVE:
+                        sf.longRegs[operands[1]] = sf.longRegs[operands[0]];
+                        break;
                     case InstructionCodes.FMOVE:
+                        sf.doubleRegs[operands[1]] = sf.doubleRegs[operands[0]];
+                        break;
                     case InstructionCodes.SMOVE:
+                        sf.stringRegs[operands[1]] = sf.stringRegs[operands[0]];
+                        break;
                     case InstructionCodes.BMOVE:
+                        sf.intRegs[operands[1]] = sf.intRegs[operands[0]];
+                        break;
                     case InstructionCodes.RMOVE:
+                        sf.refRegs[operands[1]] = sf.refRegs[operands[0]];
+                        break;
+
                     case InstructionCodes.IALOAD:
                     case InstructionCodes.BIALOAD:
                     case InstructionCodes.FALOAD:
@@ -315,12 +327,17 @@ public class CPU {
                     case InstructionCodes.JSONSTORE:
                         execStoreOpcodes(ctx, sf, opcode, operands);
                         break;
-    
+
                     case InstructionCodes.IADD:
+                        sf.longRegs[operands[2]] = sf.longRegs[operands[0]] + sf.longRegs[operands[1]];
+                        break;
+                    case InstructionCodes.ISUB:
+                        sf.longRegs[operands[2]] = sf.longRegs[operands[0]] - sf.longRegs[operands[1]];
+                        break;
+
                     case InstructionCodes.FADD:
                     case InstructionCodes.SADD:
                     case InstructionCodes.XMLADD:
-                    case InstructionCodes.ISUB:
                     case InstructionCodes.FSUB:
                     case InstructionCodes.IMUL:
                     case InstructionCodes.FMUL:
@@ -390,13 +407,47 @@ public class CPU {
                     case InstructionCodes.FLE:
                     case InstructionCodes.REQ_NULL:
                     case InstructionCodes.RNE_NULL:
-                    case InstructionCodes.BR_TRUE:
-                    case InstructionCodes.BR_FALSE:
-                    case InstructionCodes.GOTO:
                     case InstructionCodes.SEQ_NULL:
                     case InstructionCodes.SNE_NULL:
                         execCmpAndBranchOpcodes(ctx, sf, opcode, operands);
                         break;
+                    case InstructionCodes.BR_TRUE:
+                        if (sf.intRegs[operands[0]] == 1) {
+                            ctx.ip = operands[1];
+                        }
+                        break;
+                    case InstructionCodes.BR_FALSE:
+                        if (sf.intRegs[operands[0]] == 0) {
+                            ctx.ip = operands[1];
+                        }
+                        break;
+                    case InstructionCodes.GOTO:
+                        ctx.ip = operands[0];
+                        break;
+                    case InstructionCodes.IGT_BR:
+                        execCmpAndBranch(ctx, sf, (InstructionCmpBranch) instruction,
+                                sf.longRegs[operands[0]] > sf.longRegs[operands[1]], debugEnabled);
+                        break;
+                    case InstructionCodes.IGE_BR:
+                        execCmpAndBranch(ctx, sf, (InstructionCmpBranch) instruction,
+                                sf.longRegs[operands[0]] >= sf.longRegs[operands[1]], debugEnabled);
+                        break;
+                    case InstructionCodes.ILT_BR:
+                        execCmpAndBranch(ctx, sf, (InstructionCmpBranch) instruction,
+                                sf.longRegs[operands[0]] < sf.longRegs[operands[1]], debugEnabled);
+                        break;
+                    case InstructionCodes.ILE_BR:
+                        execCmpAndBranch(ctx, sf, (InstructionCmpBranch) instruction,
+                                sf.longRegs[operands[0]] <= sf.longRegs[operands[1]], debugEnabled);
+                        break;
+                    case InstructionCodes.IEQ_BR:
+                        execCmpAndBranch(ctx, sf, (InstructionCmpBranch) instruction,
+                                sf.longRegs[operands[0]] == sf.longRegs[operands[1]], debugEnabled);
+                        break;
+                    case InstructionCodes.INE_BR:
+                        execCmpAndBranch(ctx, sf, (InstructionCmpBranch) instruction,
+                                sf.longRegs[operands[0]] != sf.longRegs[operands[1]], debugEnabled);
+                        break;
                     case InstructionCodes.INT_RANGE:
                         execIntegerRangeOpcodes(sf, operands);
                         break;
@@ -808,11 +859,12 @@ public class CPU {
         System.arraycopy(argRegs, 0, newArgRegs, closureVars.size(), argRegs.length);
         int argRegIndex = 0;
 
-        int longIndex = expandLongRegs(sf, fp);
-        int doubleIndex = expandDoubleRegs(sf, fp);
-        int intIndex = expandIntRegs(sf, fp);
-        int stringIndex = expandStringRegs(sf, fp);
-        int refIndex = expandRefRegs(sf, fp);
+        CodeAttributeInfo codeAttribInfo = ctx.workerInfo.getCodeAttributeInfo();
+        int longIndex = expandLongRegs(sf, fp, codeAttribInfo.maxLongRegs);
+        int doubleIndex = expandDoubleRegs(sf, fp, codeAttribInfo.maxDoubleRegs);
+        int intIndex = expandIntRegs(sf, fp, codeAttribInfo.maxIntRegs);
+        int stringIndex = expandStringRegs(sf, fp, codeAttribInfo.maxStringRegs);
+        int refIndex = expandRefRegs(sf, fp, codeAttribInfo.maxBValueRegs);
 
         for (BClosure closure : closureVars) {
             switch (closure.getType().getTag()) {
@@ -861,11 +913,12 @@ public class CPU {
         int[] newArgRegs = new int[closureVars.size()];
         int argRegIndex = 0;
 
-        int longIndex = expandLongRegs(sf, fp);
-        int doubleIndex = expandDoubleRegs(sf, fp);
-        int intIndex = expandIntRegs(sf, fp);
-        int stringIndex = expandStringRegs(sf, fp);
-        int refIndex = expandRefRegs(sf, fp);
+        CodeAttributeInfo codeAttribInfo = ctx.workerInfo.getCodeAttributeInfo();
+        int longIndex = expandLongRegs(sf, fp, codeAttribInfo.maxLongRegs);
+        int doubleIndex = expandDoubleRegs(sf, fp, codeAttribInfo.maxDoubleRegs);
+        int intIndex = expandIntRegs(sf, fp, codeAttribInfo.maxIntRegs);
+        int stringIndex = expandStringRegs(sf, fp, codeAttribInfo.maxStringRegs);
+        int refIndex = expandRefRegs(sf, fp, codeAttribInfo.maxBValueRegs);
 
         for (BClosure closure : closureVars) {
             switch (closure.getType().getTag()) {
@@ -903,79 +956,71 @@ public class CPU {
         return BLangFunctions.invokeCallable(functionInfo, ctx, newArgRegs, new int[0], false);
     }
 
-    private static int expandLongRegs(WorkerData sf, BFunctionPointer fp) {
-        int longIndex = 0;
-        if (fp.getAdditionalIndexCount(BTypes.typeInt.getTag()) > 0) {
-            if (sf.longRegs == null) {
-                sf.longRegs = new long[0];
+    /*
+     * The closure variables are copied to the registers following the ones used by the caller's code, and
+     * from there on to the callee's frame. Since they are not needed after the call, the same registers are
+     * reused for every closure invocation, and the caller's frame is only grown when it is not large enough.
+     */
+
+    private static int expandLongRegs(WorkerData sf, BFunctionPointer fp, int longRegCount) {
+        int count = longRegCount + fp.getAdditionalIndexCount(BTypes.typeInt.getTag());
+        if (sf.longRegs == null || sf.longRegs.length < count) {
+            long[] newLongRegs = new long[count];
+            if (sf.longRegs != null) {
+                System.arraycopy(sf.longRegs, 0, newLongRegs, 0, sf.longRegs.length);
             }
-            long[] newLongRegs = new long[sf.longRegs.length + fp.getAdditionalIndexCount(BTypes.typeInt.getTag())];
-            System.arraycopy(sf.longRegs, 0, newLongRegs, 0, sf.longRegs.length);
-            longIndex = sf.longRegs.length;
             sf.longRegs = newLongRegs;
         }
-        return longIndex;
+        return longRegCount;
     }
 
-    private static int expandIntRegs(WorkerData sf, BFunctionPointer fp) {
-        int intIndex = 0;
-        if (fp.getAdditionalIndexCount(BTypes.typeBoolean.getTag()) > 0  ||
-                fp.getAdditionalIndexCount(BTypes.typeByte.getTag()) > 0) {
-            if (sf.intRegs == null) {
-                sf.intRegs = new int[0];
+    private static int expandIntRegs(WorkerData sf, BFunctionPointer fp, int intRegCount) {
+        int count = intRegCount + fp.getAdditionalIndexCount(BTypes.typeBoolean.getTag()) +
+                fp.getAdditionalIndexCount(BTypes.typeByte.getTag());
+        if (sf.intRegs == null || sf.intRegs.length < count) {
+            int[] newIntRegs = new int[count];
+            if (sf.intRegs != null) {
+                System.arraycopy(sf.intRegs, 0, newIntRegs, 0, sf.intRegs.length);
             }
-            int[] newIntRegs = new int[sf.intRegs.length + fp.getAdditionalIndexCount(BTypes.typeBoolean.getTag()) +
-                    fp.getAdditionalIndexCount(BTypes.typeByte.getTag())];
-            System.arraycopy(sf.intRegs, 0, newIntRegs, 0, sf.intRegs.length);
-            intIndex = sf.intRegs.length;
             sf.intRegs = newIntRegs;
         }
-        return intIndex;
+        return intRegCount;
     }
 
-    private static int expandDoubleRegs(WorkerData sf, BFunctionPointer fp) {
-        int doubleIndex = 0;
-        if (fp.getAdditionalIndexCount(BTypes.typeFloat.getTag()) > 0) {
-            if (sf.doubleRegs == null) {
-                sf.doubleRegs = new double[0];
+    private static int expandDoubleRegs(WorkerData sf, BFunctionPointer fp, int doubleRegCount) {
+        int count = doubleRegCount + fp.getAdditionalIndexCount(BTypes.typeFloat.getTag());
+        if (sf.doubleRegs == null || sf.doubleRegs.length < count) {
+            double[] newDoubleRegs = new double[count];
+            if (sf.doubleRegs != null) {
+                System.arraycopy(sf.doubleRegs, 0, newDoubleRegs, 0, sf.doubleRegs.length);
             }
-            double[] newDoubleRegs = new double[sf.doubleRegs.length +
-                    fp.getAdditionalIndexCount(BTypes.typeFloat.getTag())];
-            System.arraycopy(sf.doubleRegs, 0, newDoubleRegs, 0, sf.doubleRegs.length);
-            doubleIndex = sf.doubleRegs.length;
             sf.doubleRegs = newDoubleRegs;
         }
-        return doubleIndex;
+        return doubleRegCount;
     }
 
-    private static int expandStringRegs(WorkerData sf, BFunctionPointer fp) {
-        int stringIndex = 0;
-        if (fp.getAdditionalIndexCount(BTypes.typeString.getTag()) > 0) {
-            if (sf.stringRegs == null) {
-                sf.stringRegs = new String[0];
+    private static int expandStringRegs(WorkerData sf, BFunctionPointer fp, int stringRegCount) {
+        int count = stringRegCount + fp.getAdditionalIndexCount(BTypes.typeString.getTag());
+        if (sf.stringRegs == null || sf.stringRegs.length < count) {
+            String[] newStringRegs = new String[count];
+            if (sf.stringRegs != null) {
+                System.arraycopy(sf.stringRegs, 0, newStringRegs, 0, sf.stringRegs.length);
             }
-            String[] newStringRegs = new String[sf.stringRegs.length +
-                    fp.getAdditionalIndexCount(BTypes.typeString.getTag())];
-            System.arraycopy(sf.stringRegs, 0, newStringRegs, 0, sf.stringRegs.length);
-            stringIndex = sf.stringRegs.length;
             sf.stringRegs = newStringRegs;
         }
-        return stringIndex;
+        return stringRegCount;
     }
 
-    private static int expandRefRegs(WorkerData sf, BFunctionPointer fp) {
-        int refIndex = 0;
-        if (fp.getAdditionalIndexCount(BTypes.typeAny.getTag()) > 0) {
-            if (sf.refRegs == null) {
-                sf.refRegs = new BRefType[0];
+    private static int expandRefRegs(WorkerData sf, BFunctionPointer fp, int refRegCount) {
+        int count = refRegCount + fp.getAdditionalIndexCount(BTypes.typeAny.getTag());
+        if (sf.refRegs == null || sf.refRegs.length < count) {
+            BRefType[] newRefRegs = new BRefType[count];
+            if (sf.refRegs != null) {
+                System.arraycopy(sf.refRegs, 0, newRefRegs, 0, sf.refRegs.length);
             }
-            BRefType[] newRefRegs = new BRefType[sf.refRegs.length +
-                    fp.getAdditionalIndexCount(BTypes.typeAny.getTag())];
-            System.arraycopy(sf.refRegs, 0, newRefRegs, 0, sf.refRegs.length);
-            refIndex = sf.refRegs.length;
             sf.refRegs = newRefRegs;
         }
-        return refIndex;
+        return refRegCount;
     }
 
     private static void findAndAddAdditionalVarRegIndexes(WorkerExecutionContext ctx, int[] operands,
@@ -1116,29 +1161,21 @@ public class CPU {
                     sf.intRegs[j] = 0;
                 }
                 break;
-            case InstructionCodes.BR_TRUE:
-                i = operands[0];
-                j = operands[1];
-                if (sf.intRegs[i] == 1) {
-                    ctx.ip = j;
-                }
-                break;
-            case InstructionCodes.BR_FALSE:
-                i = operands[0];
-                j = operands[1];
-                if (sf.intRegs[i] == 0) {
-                    ctx.ip = j;
-                }
-                break;
-            case InstructionCodes.GOTO:
-                i = operands[0];
-                ctx.ip = i;
-                break;
             default:
                 throw new UnsupportedOperationException();
         }
     }
 
+    private static void execCmpAndBranch(WorkerExecutionContext ctx, WorkerData sf, InstructionCmpBranch cmpBrIns,
+                                         boolean result, boolean debugEnabled) {
+        sf.intRegs[cmpBrIns.resultReg] = result ? 1 : 0;
+        if (debugEnabled) {
+            // Let the original branch instruction execute on its own, so that stepping is not affected
+            return;
+        }
+        ctx.ip = result == cmpBrIns.branchIfTrue ? cmpBrIns.targetIp : ctx.ip + 1;
+    }
+
     private static void execIntegerRangeOpcodes(WorkerData sf, int[] operands) {
         int i = operands[0];
         int j = operands[1];
@@ -1152,7 +1189,6 @@ public class CPU {
         int j;
         int k;
         int pkgIndex;
-        int lvIndex; // Index of the local variable
 
         BIntArray bIntArray;
         BByteArray bByteArray;
@@ -1164,31 +1200,6 @@ public class CPU {
         BMap<String, BRefType> bMap;
         BJSON jsonVal;
         switch (opcode) {
-            case InstructionCodes.IMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.longRegs[i] = sf.longRegs[lvIndex];
-                break;
-            case InstructionCodes.FMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.doubleRegs[i] = sf.doubleRegs[lvIndex];
-                break;
-            case InstructionCodes.SMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.stringRegs[i] = sf.stringRegs[lvIndex];
-                break;
-            case InstructionCodes.BMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.intRegs[i] = sf.intRegs[lvIndex];
-                break;
-            case InstructionCodes.RMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
-                sf.refRegs[i] = sf.refRegs[lvIndex];
-                break;
             case InstructionCodes.IALOAD:
                 i = operands[0];
                 j = operands[1];
@@ -1587,12 +1598,6 @@ public class CPU {
         int j;
         int k;
         switch (opcode) {
-            case InstructionCodes.IADD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.longRegs[k] = sf.longRegs[i] + sf.longRegs[j];
-                break;
             case InstructionCodes.FADD:
                 i = operands[0];
                 j = operands[1];
@@ -1619,12 +1624,6 @@ public class CPU {
                 // Here it is assumed that a refType addition can only be a xml-concat.
                 sf.refRegs[k] = XMLUtils.concatenate(lhsXMLVal, rhsXMLVal);
                 break;
-            case InstructionCodes.ISUB:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                sf.longRegs[k] = sf.longRegs[i] - sf.longRegs[j];
-                break;
             case InstructionCodes.FSUB:
                 i = operands[0];
                 j = operands[1];
@@ -3010,9 +3009,25 @@ public class CPU {
 
     private static WorkerExecutionContext handleReturn(WorkerExecutionContext ctx) {
         BLangScheduler.workerDone(ctx);
+        releaseWorkerLocal(ctx);
         return ctx.respCtx.signal(new WorkerSignal(ctx, SignalType.RETURN, ctx.workerResult));
     }
 
+    /**
+     * Gives back the frame of a returning worker if it was taken from the {@link WorkerDataPool}. The return
+     * values are already copied to the worker result, and the closures created by the worker hold copies of the
+     * values of its registers, so the frame is no longer needed. It is detached from the context, so that a
+     * finished context which is still referenced, e.g. by a response context, does not reach a reused frame.
+     */
+    private static void releaseWorkerLocal(WorkerExecutionContext ctx) {
+        WorkerData workerLocal = ctx.workerLocal;
+        if (workerLocal == null || !workerLocal.isPooled()) {
+            return;
+        }
+        ctx.workerLocal = null;
+        WorkerDataPool.release(workerLocal);
+    }
+
     private static boolean checkFiniteTypeAssignable(BValue bRefTypeValue, BType lhsType) {
         BFiniteType fType = (BFiniteType) lhsType;
         if (bRefTypeValue == null) {
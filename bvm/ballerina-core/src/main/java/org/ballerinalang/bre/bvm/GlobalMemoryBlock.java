@@ -29,6 +29,7 @@ import org.ballerinalang.util.BLangConstants;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The {@code GlobalMemoryBlock} represents the global memory block in Ballerina VM.
@@ -40,15 +41,15 @@ public final class GlobalMemoryBlock implements BRefType, LockableStructureType
     private HashMap<String, Object> nativeData = new HashMap<>();
 
     private long[] longFields;
-    private VarLock[] longLocks;
+    private final AtomicReferenceArray<VarLock> longLocks;
     private double[] doubleFields;
-    private VarLock[] doubleLocks;
+    private final AtomicReferenceArray<VarLock> doubleLocks;
     private String[] stringFields;
-    private VarLock[] stringLocks;
+    private final AtomicReferenceArray<VarLock> stringLocks;
     private int[] intFields;
-    private VarLock[] intLocks;
+    private final AtomicReferenceArray<VarLock> intLocks;
     private BRefType[] refFields;
-    private VarLock[] refLocks;
+    private final AtomicReferenceArray<VarLock> refLocks;
 
     private BStructureType structType;
 
@@ -66,6 +67,11 @@ public final class GlobalMemoryBlock implements BRefType, LockableStructureType
         stringFields = new String[fieldCount[2]];
         intFields = new int[fieldCount[3]];
         refFields = new BRefType[fieldCount[4]];
+        longLocks = new AtomicReferenceArray<>(fieldCount[0]);
+        doubleLocks = new AtomicReferenceArray<>(fieldCount[1]);
+        stringLocks = new AtomicReferenceArray<>(fieldCount[2]);
+        intLocks = new AtomicReferenceArray<>(fieldCount[3]);
+        refLocks = new AtomicReferenceArray<>(fieldCount[4]);
 
         Arrays.fill(stringFields, BLangConstants.STRING_EMPTY_VALUE);
     }
@@ -172,154 +178,61 @@ public final class GlobalMemoryBlock implements BRefType, LockableStructureType
 
     @Override
     public boolean lockIntField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (longLocks == null) {
-            synchronized (longFields) {
-                if (longLocks == null) {
-                    longLocks = new VarLock[longFields.length];
-                }
-            }
-        }
-        if (longLocks[index] == null) {
-            //locking the whole field array
-            synchronized (longFields) {
-                if (longLocks[index] == null) {
-                    longLocks[index] = new VarLock();
-                }
-            }
-        }
-        return longLocks[index].lock(ctx);
+        return getVarLock(longLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockIntField(int index) {
-        longLocks[index].unlock();
+        longLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockFloatField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (doubleLocks == null) {
-            synchronized (doubleFields) {
-                if (doubleLocks == null) {
-                    doubleLocks = new VarLock[doubleFields.length];
-                }
-            }
-        }
-        if (doubleLocks[index] == null) {
-            //locking the whole field array
-            synchronized (doubleFields) {
-                if (doubleLocks[index] == null) {
-                    doubleLocks[index] = new VarLock();
-                }
-            }
-        }
-        return doubleLocks[index].lock(ctx);
+        return getVarLock(doubleLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockFloatField(int index) {
-        doubleLocks[index].unlock();
+        doubleLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockStringField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (stringLocks == null) {
-            synchronized (stringFields) {
-                if (stringLocks == null) {
-                    stringLocks = new VarLock[stringFields.length];
-                }
-            }
-        }
-        if (stringLocks[index] == null) {
-            synchronized (stringFields) {
-                if (stringLocks[index] == null) {
-                    stringLocks[index] = new VarLock();
-                }
-            }
-        }
-        return stringLocks[index].lock(ctx);
+        return getVarLock(stringLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockStringField(int index) {
-        stringLocks[index].unlock();
+        stringLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockBooleanField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (intLocks == null) {
-            synchronized (intFields) {
-                if (intLocks == null) {
-                    intLocks = new VarLock[intFields.length];
-                }
-            }
-        }
-        if (intLocks[index] == null) {
-            synchronized (intFields) {
-                if (intLocks[index] == null) {
-                    intLocks[index] = new VarLock();
-                }
-            }
-        }
-        return intLocks[index].lock(ctx);
+        return getVarLock(intLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockBooleanField(int index) {
-        intLocks[index].unlock();
+        intLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockRefField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (refLocks == null) {
-            synchronized (refFields) {
-                if (refLocks == null) {
-                    refLocks = new VarLock[refFields.length];
-                }
-            }
-        }
-        if (refLocks[index] == null) {
-            synchronized (refFields) {
-                if (refLocks[index] == null) {
-                    refLocks[index] = new VarLock();
-                }
-            }
-        }
-        return refLocks[index].lock(ctx);
+        return getVarLock(refLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockRefField(int index) {
-        refLocks[index].unlock();
+        refLocks.get(index).unlock();
+    }
+
+    private static VarLock getVarLock(AtomicReferenceArray<VarLock> locks, int index) {
+        VarLock lock = locks.get(index);
+        if (lock != null) {
+            return lock;
+        }
+        VarLock newLock = new VarLock();
+        return locks.compareAndSet(index, null, newLock) ? newLock : locks.get(index);
     }
 
     @Override
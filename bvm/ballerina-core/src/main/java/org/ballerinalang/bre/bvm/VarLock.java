@@ -18,54 +18,96 @@
 package org.ballerinalang.bre.bvm;
 
 import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@code VarLock} represents lock object for variables.
+ * <p>
+ * The current holders are kept as an immutable chain which is updated with CAS, so an uncontended lock or
+ * unlock does not enter the monitor. The monitor is only used to park and resume contexts waiting for the lock.
  *
  * @since 0.961.0
  */
 public class VarLock {
 
-    private ArrayDeque<WorkerExecutionContext> current;
+    private final AtomicReference<Holder> current = new AtomicReference<>();
 
-    private ArrayDeque<WorkerExecutionContext> waitingForLock;
+    private final ArrayDeque<WorkerExecutionContext> waitingForLock = new ArrayDeque<>();
 
-    public VarLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
-    }
+    /* written only while holding the monitor, read without it by the unlock fast path */
+    private volatile int waitingCount;
 
-    public synchronized boolean lock(WorkerExecutionContext ctx) {
-        if (isLockFree() || lockedBySameContext(ctx) || lockedByParentContext(ctx)) {
-            current.offerLast(ctx);
+    public boolean lock(WorkerExecutionContext ctx) {
+        if (tryAcquire(ctx)) {
             return true;
         }
-        waitingForLock.offerLast(ctx);
-        BLangScheduler.workerWaitForLock(ctx);
-        return false;
+        synchronized (this) {
+            waitingForLock.offerLast(ctx);
+            waitingCount++;
+            // the holder may have released the lock before it could see this context waiting
+            if (tryAcquire(ctx)) {
+                waitingForLock.removeLastOccurrence(ctx);
+                waitingCount--;
+                return true;
+            }
+            BLangScheduler.workerWaitForLock(ctx);
+            return false;
+        }
     }
 
-    public synchronized void unlock() {
+    public void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            WorkerExecutionContext ctx = waitingForLock.removeFirst();
-            BLangScheduler.resume(ctx, ctx.ip - 1, false);
+        Holder holder;
+        do {
+            holder = current.get();
+        } while (!current.compareAndSet(holder, holder.previous));
+        if (waitingCount == 0) {
+            return;
+        }
+        WorkerExecutionContext ctx;
+        synchronized (this) {
+            ctx = waitingForLock.pollFirst();
+            if (ctx == null) {
+                return;
+            }
+            waitingCount--;
         }
+        BLangScheduler.resume(ctx, ctx.ip - 1, false);
     }
 
-    private boolean isLockFree() {
-        return current.isEmpty();
+    private boolean tryAcquire(WorkerExecutionContext ctx) {
+        while (true) {
+            Holder holder = current.get();
+            if (holder != null && holder.ctx != ctx && !lockedByParentContext(holder.ctx, ctx)) {
+                return false;
+            }
+            if (current.compareAndSet(holder, new Holder(ctx, holder))) {
+                return true;
+            }
+        }
     }
 
-    private boolean lockedByParentContext(WorkerExecutionContext ctx) {
-        if (ctx.parent == null) {
-            return false;
+    private boolean lockedByParentContext(WorkerExecutionContext holder, WorkerExecutionContext ctx) {
+        for (WorkerExecutionContext parent = ctx.parent; parent != null; parent = parent.parent) {
+            if (parent == holder) {
+                return true;
+            }
         }
-        return current.getLast() == ctx.parent || lockedByParentContext(ctx.parent);
+        return false;
     }
 
-    private boolean lockedBySameContext(WorkerExecutionContext ctx) {
-        return current.getLast() == ctx;
+    /**
+     * An entry in the chain of contexts currently holding the lock, the last holder being the head.
+     */
+    private static class Holder {
+
+        private final WorkerExecutionContext ctx;
+
+        private final Holder previous;
+
+        private Holder(WorkerExecutionContext ctx, Holder previous) {
+            this.ctx = ctx;
+            this.previous = previous;
+        }
     }
 }
@@ -39,6 +39,9 @@ public class WorkerData {
     public byte[][] byteRegs;
     
     public BRefType<?>[] refRegs;
+
+    /* the size class of the {@link WorkerDataPool} this belongs to, or -1 if it is not pooled */
+    int sizeClass = -1;
     
     public WorkerData(CodeAttributeInfo ci) {
         if (ci.maxLongRegs > 0) {
@@ -58,6 +61,19 @@ public class WorkerData {
         }
     }
     
+    WorkerData(int sizeClass, int regCount) {
+        this.sizeClass = sizeClass;
+        this.longRegs = new long[regCount];
+        this.doubleRegs = new double[regCount];
+        this.stringRegs = new String[regCount];
+        this.intRegs = new int[regCount];
+        this.refRegs = new BRefType[regCount];
+    }
+    
+    boolean isPooled() {
+        return sizeClass >= 0;
+    }
+
     public WorkerData(WorkerDataIndex wdi) {
         if (wdi.longRegCount > 0) {
             this.longRegs = new long[wdi.longRegCount];
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.bre.bvm;
+
+import org.ballerinalang.util.codegen.attributes.CodeAttributeInfo;
+
+import java.util.Arrays;
+
+/**
+ * This represents a per thread pool of {@link WorkerData} instances, used for the local frames of the
+ * workers of interpreted callables. A frame is given back when its worker returns, which may happen on
+ * a different thread than the one it was taken on. The frames are grouped into size classes by the
+ * largest register count they have to hold.
+ *
+ * @since 0.976.1
+ */
+public class WorkerDataPool {
+
+    /* frames requiring more than 2^MAX_SIZE_CLASS registers of a kind are not pooled */
+    private static final int MAX_SIZE_CLASS = 5;
+
+    private static final int MAX_FRAMES_PER_SIZE_CLASS = 16;
+
+    private static final ThreadLocal<WorkerDataPool> POOL = ThreadLocal.withInitial(WorkerDataPool::new);
+
+    private final WorkerData[][] frames = new WorkerData[MAX_SIZE_CLASS + 1][MAX_FRAMES_PER_SIZE_CLASS];
+
+    private final int[] frameCounts = new int[MAX_SIZE_CLASS + 1];
+
+    private WorkerDataPool() {
+    }
+
+    /**
+     * Returns a frame which can hold the registers described by the given code attribute info. The frame
+     * should be given back with {@link #release(WorkerData)} once it is no longer referenced.
+     *
+     * @param ci the code attribute info of the callable
+     * @return a pooled frame, or a newly created one if the frame is too large to be pooled
+     */
+    public static WorkerData acquire(CodeAttributeInfo ci) {
+        int maxRegs = Math.max(Math.max(ci.maxLongRegs, ci.maxDoubleRegs),
+                Math.max(Math.max(ci.maxStringRegs, ci.maxIntRegs), ci.maxBValueRegs));
+        int sizeClass = maxRegs <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(maxRegs - 1);
+        if (sizeClass > MAX_SIZE_CLASS) {
+            return new WorkerData(ci);
+        }
+        return POOL.get().acquire(sizeClass);
+    }
+
+    /**
+     * Gives back a frame taken from {@link #acquire(CodeAttributeInfo)}. All the registers are cleared,
+     * so that the pool does not keep values reachable and a reused frame looks like a new one.
+     *
+     * @param wd the frame to be released
+     */
+    public static void release(WorkerData wd) {
+        if (wd.sizeClass < 0) {
+            return;
+        }
+        Arrays.fill(wd.longRegs, 0);
+        Arrays.fill(wd.doubleRegs, 0);
+        Arrays.fill(wd.stringRegs, null);
+        Arrays.fill(wd.intRegs, 0);
+        Arrays.fill(wd.refRegs, null);
+        POOL.get().release(wd, wd.sizeClass);
+    }
+
+    private WorkerData acquire(int sizeClass) {
+        int count = this.frameCounts[sizeClass];
+        if (count == 0) {
+            return new WorkerData(sizeClass, 1 << sizeClass);
+        }
+        this.frameCounts[sizeClass] = --count;
+        WorkerData wd = this.frames[sizeClass][count];
+        this.frames[sizeClass][count] = null;
+        return wd;
+    }
+
+    private void release(WorkerData wd, int sizeClass) {
+        int count = this.frameCounts[sizeClass];
+        if (count == MAX_FRAMES_PER_SIZE_CLASS) {
+            return;
+        }
+        this.frames[sizeClass][count] = wd;
+        this.frameCounts[sizeClass] = count + 1;
+    }
+
+}
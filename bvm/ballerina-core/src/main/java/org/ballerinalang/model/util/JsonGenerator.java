@@ -136,28 +136,28 @@ public class JsonGenerator {
     public void writeFieldName(String fieldName) throws IOException {
         this.processFieldInit();
         this.writeStringValue(fieldName);
-        this.writer.write(":");
+        this.writer.write(':');
     }
     
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");        
+        this.writer.write('"');
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
-        }        
+        }
+        /* the common case of a string without escapable characters is written as is, without copying it */
         if (escaped) {
-            this.writeStringEsc(chs);            
+            this.writeStringEsc(value.toCharArray());
         } else {
-            this.writer.write(chs);
-        }        
-        this.writer.write("\"");
+            this.writer.write(value, 0, count);
+        }
+        this.writer.write('"');
     }
     
     public void writeString(String value) throws IOException {
@@ -245,11 +245,11 @@ public class JsonGenerator {
     
     public void writeStartArray() throws IOException {
         this.processStartLevel();
-        this.writer.write("[");
+        this.writer.write('[');
     }
     
     public void writeEndArray() throws IOException {
-        this.writer.write("]");
+        this.writer.write(']');
         this.processEndLevel();
     }
     
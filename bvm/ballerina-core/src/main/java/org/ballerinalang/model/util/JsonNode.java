@@ -22,11 +22,12 @@ import org.ballerinalang.util.exceptions.BallerinaException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -34,11 +35,18 @@ import java.util.Map.Entry;
 /**
  * This class represents a JSON node. This can be either an object, array, 
  * number, string or null.
+ * <p>
+ * Objects with only a few fields keep them in a pair of parallel name/value arrays, and switch to a
+ * {@link LinkedHashMap} once the field count goes beyond {@link #MAX_COMPACT_FIELDS}.
  * 
  * @since 0.95.5
  */
 public class JsonNode {
 
+    private static final int MAX_COMPACT_FIELDS = 8;
+
+    private static final int INITIAL_COMPACT_FIELDS = 4;
+
     private String stringValue;
     
     private long longValue;
@@ -49,9 +57,15 @@ public class JsonNode {
     
     private Type type;
     
+    private String[] compactFieldNames;
+
+    private JsonNode[] compactFieldValues;
+
+    private int compactFieldCount;
+
     private Map<String, JsonNode> fields;
     
-    private List<JsonNode> arrayElements;
+    private ArrayList<JsonNode> arrayElements;
     
     protected JsonNode parentNode;
     
@@ -87,7 +101,7 @@ public class JsonNode {
     
     public void add(JsonNode arrayElement) {
         if (arrayElements == null) {
-            arrayElements = new LinkedList<>();
+            arrayElements = new ArrayList<>();
         }
         this.arrayElements.add(arrayElement);
     }
@@ -197,45 +211,30 @@ public class JsonNode {
     }
     
     public void set(String name, String stringValue) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
         if (stringValue == null) {
-            this.fields.put(name, new JsonNode(Type.NULL));
+            this.putField(name, new JsonNode(Type.NULL));
         } else {
-            this.fields.put(name, new JsonNode(stringValue));
+            this.putField(name, new JsonNode(stringValue));
         }
     }
     
     public void set(String name, long longValue) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
-        this.fields.put(name, new JsonNode(longValue));
+        this.putField(name, new JsonNode(longValue));
     }
     
     public void set(String name, double doubleValue) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
-        this.fields.put(name, new JsonNode(doubleValue));
+        this.putField(name, new JsonNode(doubleValue));
     }
     
     public void set(String name, boolean booleanValue) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
-        this.fields.put(name, new JsonNode(booleanValue));
+        this.putField(name, new JsonNode(booleanValue));
     }
     
     public void set(String name, JsonNode jsonNode) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
         if (jsonNode != null) {
-            this.fields.put(name, jsonNode);
+            this.putField(name, jsonNode);
         } else {
-            this.fields.put(name, new JsonNode(Type.NULL));
+            this.putField(name, new JsonNode(Type.NULL));
         }
     }
     
@@ -253,9 +252,9 @@ public class JsonNode {
     public JsonNode get(String name) {
         if (this.fields != null) {
             return this.fields.get(name);
-        } else {
-            return null;
         }
+        int index = this.indexOfCompactField(name);
+        return index < 0 ? null : this.compactFieldValues[index];
     }
     
     public JsonNode get(int index) {
@@ -285,32 +284,101 @@ public class JsonNode {
     
     public Iterator<String> fieldNames() {
         if (this.fields != null) {
-            return this.fields.keySet().iterator();
+            return new ArrayList<>(this.fields.keySet()).iterator();
+        } else if (this.compactFieldCount > 0) {
+            return Arrays.asList(Arrays.copyOf(this.compactFieldNames, this.compactFieldCount)).iterator();
         } else {
-            return new HashSet<String>(0).iterator();
+            return Collections.emptyIterator();
         }
     }
     
     public Iterator<Entry<String, JsonNode>> fields() {
         if (this.fields != null) {
             return new LinkedHashMap<>(this.fields).entrySet().iterator();
-        } else {
-            return new LinkedHashMap<String, JsonNode>(0).entrySet().iterator();
         }
+        List<Entry<String, JsonNode>> entries = new ArrayList<>(this.compactFieldCount);
+        for (int i = 0; i < this.compactFieldCount; i++) {
+            entries.add(new SimpleEntry<>(this.compactFieldNames[i], this.compactFieldValues[i]));
+        }
+        return entries.iterator();
     }
     
     public Iterator<JsonNode> elements() {
         if (this.arrayElements != null) {
             return this.arrayElements.iterator();
         } else {
-            return new ArrayList<JsonNode>(0).iterator();
+            return Collections.emptyIterator();
         }
     }
     
     public void remove(String fieldName) {
         if (this.fields != null) {
             this.fields.remove(fieldName);
+            return;
+        }
+        int index = this.indexOfCompactField(fieldName);
+        if (index < 0) {
+            return;
         }
+        int tail = --this.compactFieldCount - index;
+        System.arraycopy(this.compactFieldNames, index + 1, this.compactFieldNames, index, tail);
+        System.arraycopy(this.compactFieldValues, index + 1, this.compactFieldValues, index, tail);
+        this.compactFieldNames[this.compactFieldCount] = null;
+        this.compactFieldValues[this.compactFieldCount] = null;
+    }
+
+    private void putField(String name, JsonNode value) {
+        if (this.fields != null) {
+            this.fields.put(name, value);
+            return;
+        }
+        int index = this.indexOfCompactField(name);
+        if (index >= 0) {
+            this.compactFieldValues[index] = value;
+            return;
+        }
+        if (this.compactFieldNames == null) {
+            this.compactFieldNames = new String[INITIAL_COMPACT_FIELDS];
+            this.compactFieldValues = new JsonNode[INITIAL_COMPACT_FIELDS];
+        } else if (this.compactFieldCount == this.compactFieldNames.length) {
+            if (this.compactFieldCount == MAX_COMPACT_FIELDS) {
+                this.inflateFields().put(name, value);
+                return;
+            }
+            this.compactFieldNames = Arrays.copyOf(this.compactFieldNames, MAX_COMPACT_FIELDS);
+            this.compactFieldValues = Arrays.copyOf(this.compactFieldValues, MAX_COMPACT_FIELDS);
+        }
+        this.compactFieldNames[this.compactFieldCount] = name;
+        this.compactFieldValues[this.compactFieldCount++] = value;
+    }
+
+    private Map<String, JsonNode> inflateFields() {
+        this.fields = new LinkedHashMap<>(MAX_COMPACT_FIELDS * 4);
+        for (int i = 0; i < this.compactFieldCount; i++) {
+            this.fields.put(this.compactFieldNames[i], this.compactFieldValues[i]);
+        }
+        this.compactFieldNames = null;
+        this.compactFieldValues = null;
+        this.compactFieldCount = 0;
+        return this.fields;
+    }
+
+    private int indexOfCompactField(String name) {
+        String[] names = this.compactFieldNames;
+        /* field names coming from the parser are shared instances, so the identity check mostly succeeds */
+        for (int i = 0; i < this.compactFieldCount; i++) {
+            if (names[i] == name) {
+                return i;
+            }
+        }
+        if (name != null) {
+            for (int i = 0; i < this.compactFieldCount; i++) {
+                if (name.equals(names[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
     }
     
     public String toString() {
@@ -384,6 +452,16 @@ public class JsonNode {
                         gen.writeNull();
                     }
                 }
+            } else {
+                for (int i = 0; i < this.compactFieldCount; i++) {
+                    gen.writeFieldName(this.compactFieldNames[i]);
+                    value = this.compactFieldValues[i];
+                    if (value != null) {
+                        value.serialize(gen);
+                    } else {
+                        gen.writeNull();
+                    }
+                }
             }
             gen.endObject();
             break;
@@ -157,7 +157,12 @@ public class JsonParser {
         private static final State STRING_VALUE_UNICODE_HEX_PROCESSING_STATE = 
                 new StringValueUnicodeHexProcessingState();
         
+        /* size of the per thread field name cache, must be a power of two */
+        private static final int FIELD_NAME_CACHE_SIZE = 512;
+        private static final int MAX_CACHED_FIELD_NAME_LENGTH = 32;
+
         private JsonNode currentJsonNode;
+        private String[] fieldNameCache = new String[FIELD_NAME_CACHE_SIZE];
         private StringBuilder hexBuilder = new StringBuilder(4);
         private char[] charBuff = new char[1024];
         private int charBuffIndex;
@@ -495,7 +500,42 @@ public class JsonParser {
         }
         
         private void processFieldName() {
-            this.currentJsonNode.fieldName = this.value();
+            this.currentJsonNode.fieldName = this.fieldName();
+        }
+
+        /**
+         * Returns the field name in the char buffer, reusing the string created for an earlier occurrence of the
+         * same name where possible. Documents usually repeat the same few keys, so this avoids a new string
+         * per field and lets the object lookups match by identity.
+         */
+        private String fieldName() {
+            int length = this.charBuffIndex;
+            if (length > MAX_CACHED_FIELD_NAME_LENGTH) {
+                return this.value();
+            }
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + this.charBuff[i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & (FIELD_NAME_CACHE_SIZE - 1);
+            String cached = this.fieldNameCache[slot];
+            if (cached != null && cached.length() == length && cached.hashCode() == hash
+                    && this.charBuffEquals(cached, length)) {
+                this.charBuffIndex = 0;
+                return cached;
+            }
+            String result = this.value();
+            this.fieldNameCache[slot] = result;
+            return result;
+        }
+
+        private boolean charBuffEquals(String str, int length) {
+            for (int i = 0; i < length; i++) {
+                if (str.charAt(i) != this.charBuff[i]) {
+                    return false;
+                }
+            }
+            return true;
         }
         
         /**
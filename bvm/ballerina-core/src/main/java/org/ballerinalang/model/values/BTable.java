@@ -24,6 +24,8 @@ import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BTableType;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.util.InMemoryTable;
+import org.ballerinalang.util.InMemoryTableIterator;
 import org.ballerinalang.util.TableProvider;
 import org.ballerinalang.util.TableUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
@@ -48,6 +50,10 @@ public class BTable implements BRefType<Object>, BCollection {
     private BStringArray primaryKeys;
     private BStringArray indices;
     private boolean tableClosed;
+    // native storage of the data of an in-memory table or a table query result, null for database tables
+    private InMemoryTable store;
+    // version of the store data which was last copied to the table database for querying
+    private int queryTableVersion;
 
     public BTable() {
         this.iterator = null;
@@ -69,12 +75,9 @@ public class BTable implements BRefType<Object>, BCollection {
     public BTable(String query, BTable fromTable, BTable joinTable,
                   BStructureType constraintType, BRefValueArray params) {
         this.tableProvider = TableProvider.getInstance();
-        if (joinTable != null) {
-            this.tableName = tableProvider.createTable(fromTable.tableName, joinTable.tableName, query,
-                    constraintType, params);
-        } else {
-            this.tableName = tableProvider.createTable(fromTable.tableName, query, constraintType, params);
-        }
+        String joinTableName = joinTable != null ? joinTable.getQueryTableName() : null;
+        this.store = tableProvider.queryTable(fromTable.getQueryTableName(), joinTableName, query, constraintType,
+                params);
         this.constraintType = constraintType;
     }
 
@@ -82,7 +85,7 @@ public class BTable implements BRefType<Object>, BCollection {
         //Create table with given constraints.
         BType constrainedType = ((BTableType) type).getConstrainedType();
         this.tableProvider = TableProvider.getInstance();
-        this.tableName = tableProvider.createTable(constrainedType, keyColumns, indexColumns);
+        this.store = new InMemoryTable((BStructureType) constrainedType, keyColumns);
         this.constraintType = (BStructureType) constrainedType;
         this.primaryKeys = keyColumns;
         this.indices = indexColumns;
@@ -209,7 +212,11 @@ public class BTable implements BRefType<Object>, BCollection {
             throw new BallerinaException("incompatible types: record of type:" + data.getType().getName()
                     + " cannot be added to a table with type:" + this.constraintType.getName());
         }
-        tableProvider.insertData(tableName, data);
+        if (store != null) {
+            addToStore(data);
+        } else {
+            tableProvider.insertData(tableName, data);
+        }
         reset(false);
     }
 
@@ -238,7 +245,11 @@ public class BTable implements BRefType<Object>, BCollection {
                 BValue[] returns = BLangFunctions.invokeCallable(lambdaFunction.value().getFunctionInfo(), args);
                 if (((BBoolean) returns[0]).booleanValue()) {
                     ++deletedCount;
-                    tableProvider.deleteData(tableName, data);
+                    if (store != null) {
+                        ((InMemoryTableIterator) iterator).removeCurrent();
+                    } else {
+                        tableProvider.deleteData(tableName, data);
+                    }
                 }
             }
             context.setReturnValues(new BInteger(deletedCount));
@@ -295,10 +306,48 @@ public class BTable implements BRefType<Object>, BCollection {
     }
 
     protected void generateIterator() {
-        this.iterator = tableProvider.createIterator(tableName, this.constraintType);
+        if (store != null) {
+            this.iterator = store.createIterator();
+        } else {
+            this.iterator = tableProvider.createIterator(tableName, this.constraintType);
+        }
         resetIterationHelperAttributes();
     }
 
+    /**
+     * Returns the name of the table database table to be used when this table is queried. The data of a table
+     * stored in memory is copied to the table database when it is first queried. Rows added afterwards are
+     * added to the copy as well, and if rows are removed, the copy is filled again before the next query.
+     *
+     * @return the name of the table in the table database
+     */
+    private synchronized String getQueryTableName() {
+        if (store == null) {
+            return tableName;
+        }
+        int version = store.getVersion();
+        if (tableName != null && queryTableVersion == version) {
+            return tableName;
+        }
+        if (tableName == null) {
+            tableName = tableProvider.createTable(constraintType, primaryKeys, indices);
+        } else {
+            tableProvider.clearTable(tableName);
+        }
+        tableProvider.insertData(tableName, store.getRows());
+        queryTableVersion = version;
+        return tableName;
+    }
+
+    private synchronized void addToStore(BMap<String, BValue> data) {
+        boolean queryTableInSync = tableName != null && queryTableVersion == store.getVersion();
+        store.addData(data);
+        if (queryTableInSync) {
+            tableProvider.insertData(tableName, data);
+            queryTableVersion = store.getVersion();
+        }
+    }
+
     protected boolean isIteratorGenerationConditionMet() {
         return this.iterator == null;
     }
@@ -313,7 +362,9 @@ public class BTable implements BRefType<Object>, BCollection {
         if (this.iterator != null) {
             this.iterator.close(false);
         }
-        tableProvider.dropTable(this.tableName);
+        if (this.tableName != null && this.tableProvider != null) {
+            tableProvider.dropTable(this.tableName);
+        }
     }
 
     private void insertInitialData(BRefValueArray data) {
@@ -23,6 +23,12 @@ import org.omg.PortableServer.ThreadPolicyOperations;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@code ThreadPoolFactory} holds the thread pools in Ballerina engine.
@@ -35,31 +41,84 @@ public class ThreadPoolFactory {
     private static final int MAX_THREAD_POOL_SIZE = 1000;
     private static final int MIN_THREAD_POOL_SIZE = 1;
 
+    private static final int DEFAULT_BLOCKING_THREAD_POOL_SIZE = 500;
+    private static final int MAX_BLOCKING_THREAD_POOL_SIZE = 10000;
+    private static final long BLOCKING_THREAD_KEEP_ALIVE_SECONDS = 60;
+
     private static final String WORKER_THREAD_POOL_SIZE_PROP = "b7a.runtime.scheduler.threadpoolsize";
 
+    private static final String SCHEDULER_MODE_PROP = "b7a.runtime.scheduler.mode";
+
+    private static final String SCHEDULER_MODE_POOL = "pool";
+
+    private static final String SCHEDULER_MODE_WORK_STEALING = "workstealing";
+
+    private static final String BLOCKING_THREAD_POOL_SIZE_PROP = "b7a.runtime.scheduler.blockingthreadpoolsize";
+
+    private static final String OFFLOAD_BLOCKING_CALLS_PROP = "b7a.runtime.scheduler.offloadblockingcalls";
+
     private static ThreadPoolFactory instance;
 
     private ExecutorService workerExecutor;
 
+    private ExecutorService blockingCallExecutor;
+
+    private boolean workStealing;
+
+    private boolean offloadBlockingCalls;
+
     private ThreadPoolFactory() {
-        int poolSize = this.extractThreadPoolSize();
-        this.workerExecutor = Executors.newFixedThreadPool(poolSize,
-                new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
-    };
+        this.initWorkerExecutor();
+        this.initBlockingCallExecutor();
+    }
+
+    private void initWorkerExecutor() {
+        String mode = ConfigRegistry.getInstance().getAsString(SCHEDULER_MODE_PROP);
+        if (mode == null || SCHEDULER_MODE_POOL.equalsIgnoreCase(mode)) {
+            int poolSize = this.extractThreadPoolSize(WORKER_THREAD_POOL_SIZE_PROP, DEFAULT_THREAD_POOL_SIZE,
+                    MAX_THREAD_POOL_SIZE);
+            this.workerExecutor = Executors.newFixedThreadPool(poolSize,
+                    new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
+        } else if (SCHEDULER_MODE_WORK_STEALING.equalsIgnoreCase(mode)) {
+            /* one carrier thread per core by default, each with its own work queue; tasks are executed
+             * in FIFO order (async mode), since they are not joined */
+            int parallelism = this.extractThreadPoolSize(WORKER_THREAD_POOL_SIZE_PROP,
+                    Runtime.getRuntime().availableProcessors(), MAX_THREAD_POOL_SIZE);
+            this.workerExecutor = new ForkJoinPool(parallelism,
+                    new BLangForkJoinThreadFactory("worker-thread-pool"), null, true);
+            this.workStealing = true;
+        } else {
+            throw new BallerinaException("invalid value for '" + SCHEDULER_MODE_PROP + "': " + mode
+                    + ", expected '" + SCHEDULER_MODE_POOL + "' or '" + SCHEDULER_MODE_WORK_STEALING + "'");
+        }
+    }
+
+    private void initBlockingCallExecutor() {
+        /* threads are only created when blocking calls are submitted, and are let go once they are idle */
+        int poolSize = this.extractThreadPoolSize(BLOCKING_THREAD_POOL_SIZE_PROP, DEFAULT_BLOCKING_THREAD_POOL_SIZE,
+                MAX_BLOCKING_THREAD_POOL_SIZE);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, BLOCKING_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new BLangThreadFactory(new ThreadGroup("blocking"), "blocking-thread-pool"));
+        executor.allowCoreThreadTimeOut(true);
+        this.blockingCallExecutor = executor;
+        /* the carrier threads of the work stealing mode are few, so blocking calls are offloaded by default */
+        String offloadProp = ConfigRegistry.getInstance().getAsString(OFFLOAD_BLOCKING_CALLS_PROP);
+        this.offloadBlockingCalls = offloadProp != null ? Boolean.parseBoolean(offloadProp) : this.workStealing;
+    }
     
-    private int extractThreadPoolSize() {
-        int poolSize = DEFAULT_THREAD_POOL_SIZE;
-        String workerThreadPoolSizeProp = ConfigRegistry.getInstance().getAsString(WORKER_THREAD_POOL_SIZE_PROP);
-        if (workerThreadPoolSizeProp != null) {
+    private int extractThreadPoolSize(String poolSizePropName, int defaultPoolSize, int maxPoolSize) {
+        int poolSize = defaultPoolSize;
+        String poolSizeProp = ConfigRegistry.getInstance().getAsString(poolSizePropName);
+        if (poolSizeProp != null) {
             try {
-                poolSize = Integer.parseInt(workerThreadPoolSizeProp);
-                if (poolSize < MIN_THREAD_POOL_SIZE || poolSize > MAX_THREAD_POOL_SIZE) {
-                    throw new BallerinaException(WORKER_THREAD_POOL_SIZE_PROP + " must be between "
-                            + MIN_THREAD_POOL_SIZE + " and " + MAX_THREAD_POOL_SIZE + " (inclusive)");
+                poolSize = Integer.parseInt(poolSizeProp);
+                if (poolSize < MIN_THREAD_POOL_SIZE || poolSize > maxPoolSize) {
+                    throw new BallerinaException(poolSizePropName + " must be between "
+                            + MIN_THREAD_POOL_SIZE + " and " + maxPoolSize + " (inclusive)");
                 }
             } catch (NumberFormatException ignore) { 
-                throw new BallerinaException("invalid value for '" + WORKER_THREAD_POOL_SIZE_PROP 
-                        + "': " + workerThreadPoolSizeProp);
+                throw new BallerinaException("invalid value for '" + poolSizePropName + "': " + poolSizeProp);
             }
         }
         return poolSize;
@@ -80,4 +139,93 @@ public class ThreadPoolFactory {
         return workerExecutor;
     }
 
+    /**
+     * Returns the executor used to run native calls which block on I/O, so that they do not hold
+     * the threads of the worker executor.
+     *
+     * @return the blocking call executor
+     */
+    public ExecutorService getBlockingCallExecutor() {
+        return blockingCallExecutor;
+    }
+
+    /**
+     * Returns whether native calls which block on I/O should be offloaded to the blocking call executor,
+     * instead of being executed in the calling worker's thread. Unless it is set explicitly, this is enabled
+     * in the work stealing mode.
+     *
+     * @return true if blocking calls are offloaded
+     */
+    public boolean isOffloadBlockingCalls() {
+        return offloadBlockingCalls;
+    }
+
+    /**
+     * Executes the given task in the worker executor. In the work stealing mode, a task submitted by one of
+     * the executor's own threads is pushed to that thread's local queue, so that a resumed worker keeps
+     * running on the thread which resumed it, unless an idle thread steals it.
+     *
+     * @param task the task to be executed
+     */
+    public void executeWorkerTask(Runnable task) {
+        if (this.isWorkerExecutorThread(Thread.currentThread())) {
+            ForkJoinTask.adapt(task).fork();
+        } else {
+            this.workerExecutor.submit(task);
+        }
+    }
+
+    /**
+     * Executes the given blocking call in the current thread. In the work stealing mode, a call made in one of
+     * the executor's own threads is executed as a {@link ForkJoinPool.ManagedBlocker}, so that the executor can
+     * run the other workers in a spare thread while the call blocks.
+     *
+     * @param call the blocking call to be executed
+     */
+    public void executeBlockingCall(Runnable call) {
+        if (!this.isWorkerExecutorThread(Thread.currentThread())) {
+            call.run();
+            return;
+        }
+        try {
+            ForkJoinPool.managedBlock(new BlockingCall(call));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaException("interrupted while executing a blocking call", e);
+        }
+    }
+
+    private boolean isWorkerExecutorThread(Thread thread) {
+        return thread instanceof ForkJoinWorkerThread
+                && ((ForkJoinWorkerThread) thread).getPool() == this.workerExecutor;
+    }
+
+    /**
+     * This represents a blocking call executed in a thread of the work stealing executor.
+     */
+    private static class BlockingCall implements ForkJoinPool.ManagedBlocker {
+
+        private Runnable call;
+
+        private boolean done;
+
+        BlockingCall(Runnable call) {
+            this.call = call;
+        }
+
+        @Override
+        public boolean block() {
+            if (!this.done) {
+                this.call.run();
+                this.done = true;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return this.done;
+        }
+    }
+
 }
@@ -0,0 +1,383 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.util;
+
+import org.ballerinalang.model.ColumnDefinition;
+import org.ballerinalang.model.types.BField;
+import org.ballerinalang.model.types.BStructureType;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.TypeTags;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BStringArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * {@code InMemoryTable} is the native storage of an in-memory table. The data is kept column wise, in a
+ * typed array per column, and rows having a primary key are indexed by a hash map on the key columns.
+ * <p>
+ * Removed rows are only marked as removed, and are dropped when the next iterator is created while no other
+ * iterator of the table is open, so that rows are never moved under an iterator in use. An iterator is open until
+ * it is closed or reset.
+ *
+ * @since 0.976.1
+ */
+public class InMemoryTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BStructureType type;
+    private final BField[] fields;
+    private final int[] columnTypeTags;
+    private final int[] keyColumns;
+    private final List<ColumnDefinition> columnDefs;
+
+    /* long[], double[] and boolean[] for int, float and boolean columns, String[] for string columns
+     * and BValue[] for the rest */
+    private final Object[] columns;
+    private final Map<Object, Integer> primaryKeyIndex;
+    private final BitSet removedRows = new BitSet();
+    private int rowCount;
+    private int removedCount;
+    private int capacity;
+    private int version;
+    private int openIterators;
+
+    public InMemoryTable(BStructureType type, BStringArray primaryKeys) {
+        this.type = type;
+        this.fields = type.getFields();
+        this.columnTypeTags = new int[this.fields.length];
+        this.columns = new Object[this.fields.length];
+        this.capacity = INITIAL_CAPACITY;
+        for (int i = 0; i < this.fields.length; i++) {
+            BType fieldType = this.fields[i].getFieldType();
+            this.columnTypeTags[i] = fieldType.getTag();
+            this.columns[i] = createColumn(fieldType, this.capacity);
+        }
+        this.keyColumns = getKeyColumns(this.fields, primaryKeys);
+        this.primaryKeyIndex = this.keyColumns.length > 0 ? new HashMap<>() : null;
+        this.columnDefs = TableIterator.generateColumnDefinitions(type);
+    }
+
+    public BStructureType getType() {
+        return type;
+    }
+
+    List<ColumnDefinition> getColumnDefinitions() {
+        return columnDefs;
+    }
+
+    /**
+     * Returns a number which changes whenever data is added to or removed from this table.
+     *
+     * @return the modification count of this table
+     */
+    public synchronized int getVersion() {
+        return version;
+    }
+
+    public synchronized void addData(BMap<String, BValue> data) {
+        if (this.rowCount == this.capacity) {
+            this.grow();
+        }
+        int row = this.rowCount;
+        for (int i = 0; i < this.fields.length; i++) {
+            BValue value = data.get(this.fields[i].fieldName);
+            switch (this.columnTypeTags[i]) {
+                case TypeTags.INT_TAG:
+                    ((long[]) this.columns[i])[row] = ((BInteger) value).intValue();
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    ((double[]) this.columns[i])[row] = ((BFloat) value).floatValue();
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    ((boolean[]) this.columns[i])[row] = ((BBoolean) value).booleanValue();
+                    break;
+                case TypeTags.STRING_TAG:
+                    ((String[]) this.columns[i])[row] = value == null ? null : value.stringValue();
+                    break;
+                default:
+                    // the table keeps its own copy, the same way a stored row is not affected by later changes
+                    ((BValue[]) this.columns[i])[row] = value == null ? null : value.copy();
+                    break;
+            }
+        }
+        if (this.primaryKeyIndex != null) {
+            Object key = this.getKey(row);
+            if (this.primaryKeyIndex.containsKey(key)) {
+                this.clearRow(row);
+                throw new BallerinaException("error in adding data to table: Unique index or primary key "
+                        + "violation: " + this.getKeyDescription(key));
+            }
+            this.primaryKeyIndex.put(key, row);
+        }
+        this.rowCount++;
+        this.version++;
+    }
+
+    public synchronized void removeRow(int row) {
+        if (row < 0 || row >= this.rowCount || this.removedRows.get(row)) {
+            return;
+        }
+        if (this.primaryKeyIndex != null) {
+            this.primaryKeyIndex.remove(this.getKey(row));
+        }
+        this.removedRows.set(row);
+        this.removedCount++;
+        this.version++;
+    }
+
+    /**
+     * Returns the rows currently in this table, as records of the table's constraint type.
+     *
+     * @return the current rows of this table
+     */
+    public synchronized List<BMap<String, BValue>> getRows() {
+        List<BMap<String, BValue>> rows = new ArrayList<>(this.rowCount - this.removedCount);
+        for (int row = 0; row < this.rowCount; row++) {
+            if (!this.removedRows.get(row)) {
+                rows.add(this.getRow(row));
+            }
+        }
+        return rows;
+    }
+
+    public synchronized InMemoryTableIterator createIterator() {
+        if (this.openIterators == 0) {
+            this.compact();
+        }
+        this.openIterators++;
+        return new InMemoryTableIterator(this, this.rowCount);
+    }
+
+    synchronized void releaseIterator() {
+        this.openIterators--;
+    }
+
+    synchronized boolean isRemoved(int row) {
+        return this.removedRows.get(row);
+    }
+
+    synchronized BMap<String, BValue> getRow(int row) {
+        BMap<String, BValue> bStruct = new BMap<>(this.type);
+        for (int i = 0; i < this.fields.length; i++) {
+            BValue value;
+            switch (this.columnTypeTags[i]) {
+                case TypeTags.INT_TAG:
+                    value = new BInteger(((long[]) this.columns[i])[row]);
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    value = new BFloat(((double[]) this.columns[i])[row]);
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    value = new BBoolean(((boolean[]) this.columns[i])[row]);
+                    break;
+                case TypeTags.STRING_TAG:
+                    value = new BString(((String[]) this.columns[i])[row]);
+                    break;
+                default:
+                    BValue refValue = ((BValue[]) this.columns[i])[row];
+                    value = refValue == null ? null : refValue.copy();
+                    break;
+            }
+            bStruct.put(this.fields[i].fieldName, value);
+        }
+        return bStruct;
+    }
+
+    synchronized long getInt(int row, int column) {
+        return ((long[]) this.columns[column])[row];
+    }
+
+    synchronized double getFloat(int row, int column) {
+        return ((double[]) this.columns[column])[row];
+    }
+
+    synchronized boolean getBoolean(int row, int column) {
+        return ((boolean[]) this.columns[column])[row];
+    }
+
+    synchronized String getString(int row, int column) {
+        if (this.columnTypeTags[column] == TypeTags.STRING_TAG) {
+            return ((String[]) this.columns[column])[row];
+        }
+        BValue value = ((BValue[]) this.columns[column])[row];
+        return value == null ? null : value.toString();
+    }
+
+    synchronized BValue getRefValue(int row, int column) {
+        return ((BValue[]) this.columns[column])[row];
+    }
+
+    private void grow() {
+        int newCapacity = this.capacity << 1;
+        for (int i = 0; i < this.columns.length; i++) {
+            Object column = this.columns[i];
+            switch (this.columnTypeTags[i]) {
+                case TypeTags.INT_TAG:
+                    this.columns[i] = Arrays.copyOf((long[]) column, newCapacity);
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    this.columns[i] = Arrays.copyOf((double[]) column, newCapacity);
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    this.columns[i] = Arrays.copyOf((boolean[]) column, newCapacity);
+                    break;
+                case TypeTags.STRING_TAG:
+                    this.columns[i] = Arrays.copyOf((String[]) column, newCapacity);
+                    break;
+                default:
+                    this.columns[i] = Arrays.copyOf((BValue[]) column, newCapacity);
+                    break;
+            }
+        }
+        this.capacity = newCapacity;
+    }
+
+    private void compact() {
+        if (this.removedCount == 0) {
+            return;
+        }
+        int target = 0;
+        for (int row = 0; row < this.rowCount; row++) {
+            if (this.removedRows.get(row)) {
+                continue;
+            }
+            if (target != row) {
+                this.moveRow(row, target);
+                if (this.primaryKeyIndex != null) {
+                    this.primaryKeyIndex.put(this.getKey(target), target);
+                }
+            }
+            target++;
+        }
+        for (int row = target; row < this.rowCount; row++) {
+            this.clearRow(row);
+        }
+        this.rowCount = target;
+        this.removedRows.clear();
+        this.removedCount = 0;
+    }
+
+    private void moveRow(int from, int to) {
+        for (int i = 0; i < this.columns.length; i++) {
+            System.arraycopy(this.columns[i], from, this.columns[i], to, 1);
+        }
+    }
+
+    private void clearRow(int row) {
+        for (int i = 0; i < this.columns.length; i++) {
+            if (this.columns[i] instanceof Object[]) {
+                ((Object[]) this.columns[i])[row] = null;
+            }
+        }
+    }
+
+    private Object getKey(int row) {
+        if (this.keyColumns.length == 1) {
+            return this.getKeyValue(row, this.keyColumns[0]);
+        }
+        List<Object> key = new ArrayList<>(this.keyColumns.length);
+        for (int column : this.keyColumns) {
+            key.add(this.getKeyValue(row, column));
+        }
+        return key;
+    }
+
+    private Object getKeyValue(int row, int column) {
+        switch (this.columnTypeTags[column]) {
+            case TypeTags.INT_TAG:
+                return ((long[]) this.columns[column])[row];
+            case TypeTags.FLOAT_TAG:
+                return ((double[]) this.columns[column])[row];
+            case TypeTags.BOOLEAN_TAG:
+                return ((boolean[]) this.columns[column])[row];
+            case TypeTags.STRING_TAG:
+                return ((String[]) this.columns[column])[row];
+            default:
+                BValue value = ((BValue[]) this.columns[column])[row];
+                return value == null ? null : value.stringValue();
+        }
+    }
+
+    private String getKeyDescription(Object key) {
+        StringJoiner columnNames = new StringJoiner(", ", "(", ")");
+        for (int column : this.keyColumns) {
+            columnNames.add(this.fields[column].fieldName);
+        }
+        StringJoiner values = new StringJoiner(", ", "(", ")");
+        if (key instanceof List) {
+            ((List<?>) key).forEach(value -> values.add(String.valueOf(value)));
+        } else {
+            values.add(String.valueOf(key));
+        }
+        return "primary key " + columnNames + " = " + values;
+    }
+
+    private static Object createColumn(BType fieldType, int capacity) {
+        switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+                return new long[capacity];
+            case TypeTags.FLOAT_TAG:
+                return new double[capacity];
+            case TypeTags.BOOLEAN_TAG:
+                return new boolean[capacity];
+            case TypeTags.STRING_TAG:
+                return new String[capacity];
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+            case TypeTags.ARRAY_TAG:
+                return new BValue[capacity];
+            default:
+                throw new BallerinaException("Unsupported column type for table : " + fieldType);
+        }
+    }
+
+    private static int[] getKeyColumns(BField[] fields, BStringArray primaryKeys) {
+        if (primaryKeys == null) {
+            return new int[0];
+        }
+        int[] keyColumns = new int[(int) primaryKeys.size()];
+        for (int i = 0; i < keyColumns.length; i++) {
+            String keyName = primaryKeys.get(i);
+            keyColumns[i] = -1;
+            for (int j = 0; j < fields.length; j++) {
+                if (fields[j].fieldName.equalsIgnoreCase(keyName)) {
+                    keyColumns[i] = j;
+                    break;
+                }
+            }
+            if (keyColumns[i] < 0) {
+                throw new BallerinaException("Column \"" + keyName + "\" not found for the primary key of table");
+            }
+        }
+        return keyColumns;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.util;
+
+import org.ballerinalang.model.ColumnDefinition;
+import org.ballerinalang.model.DataIterator;
+import org.ballerinalang.model.types.BStructureType;
+import org.ballerinalang.model.values.BByteArray;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+
+import java.util.List;
+
+/**
+ * Iterator implementation for tables stored in an {@link InMemoryTable}. The column indexes start from 1,
+ * the same as for the JDBC based iterators.
+ *
+ * @since 0.976.1
+ */
+public class InMemoryTableIterator implements DataIterator {
+
+    private final InMemoryTable table;
+    private final int rowCount;
+    private int cursor = -1;
+    private boolean released;
+
+    InMemoryTableIterator(InMemoryTable table, int rowCount) {
+        this.table = table;
+        this.rowCount = rowCount;
+    }
+
+    @Override
+    public boolean next() {
+        do {
+            cursor++;
+        } while (cursor < rowCount && table.isRemoved(cursor));
+        return cursor < rowCount;
+    }
+
+    @Override
+    public void close(boolean isInTransaction) {
+        // the rows of the table can be moved once none of its iterators are open
+        if (!released) {
+            released = true;
+            table.releaseIterator();
+        }
+    }
+
+    @Override
+    public void reset(boolean isInTransaction) {
+        close(isInTransaction);
+    }
+
+    /**
+     * Removes the current row from the underlying table.
+     */
+    public void removeCurrent() {
+        table.removeRow(cursor);
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        return table.getString(cursor, columnIndex - 1);
+    }
+
+    @Override
+    public long getInt(int columnIndex) {
+        return table.getInt(cursor, columnIndex - 1);
+    }
+
+    @Override
+    public double getFloat(int columnIndex) {
+        return table.getFloat(cursor, columnIndex - 1);
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        return table.getBoolean(cursor, columnIndex - 1);
+    }
+
+    @Override
+    public String getBlob(int columnIndex) {
+        BValue value = table.getRefValue(cursor, columnIndex - 1);
+        return value == null ? null : new String(((BByteArray) value).getBytes());
+    }
+
+    @Override
+    public Object[] getStruct(int columnIndex) {
+        // struct columns are not supported in in-memory tables
+        return null;
+    }
+
+    @Override
+    public Object[] getArray(int columnIndex) {
+        return TableUtils.getArrayData(table.getRefValue(cursor, columnIndex - 1));
+    }
+
+    @Override
+    public BMap<String, BValue> generateNext() {
+        return table.getRow(cursor);
+    }
+
+    @Override
+    public List<ColumnDefinition> getColumnDefinitions() {
+        return table.getColumnDefinitions();
+    }
+
+    @Override
+    public BStructureType getStructType() {
+        return table.getType();
+    }
+}
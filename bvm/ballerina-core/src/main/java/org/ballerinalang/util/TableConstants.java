@@ -38,7 +38,6 @@ public class TableConstants {
     static final String SQL_DELETE_FROM = "DELETE FROM ";
     static final String SQL_WHERE = " WHERE ";
     static final String SQL_AND = " AND ";
-    static final String SQL_AS = "AS ";
     static final String SQL_ON = " ON ";
     static final String PRIMARY_KEY = ",PRIMARY KEY (";
     static final String INDEX = "IDX_";
@@ -78,7 +78,7 @@ public class TableIterator implements DataIterator {
         this.resourceManager = rm;
         this.rs = rs;
         this.type = type;
-        generateColumnDefinitions();
+        this.columnDefs = generateColumnDefinitions(type);
     }
 
     @Override
@@ -406,9 +406,9 @@ public class TableIterator implements DataIterator {
         return arrayElementAttributes;
     }
 
-    private void generateColumnDefinitions() {
-        BField[] structFields = this.type.getFields();
-        columnDefs = new ArrayList<>(structFields.length);
+    static List<ColumnDefinition> generateColumnDefinitions(BStructureType structType) {
+        BField[] structFields = structType.getFields();
+        List<ColumnDefinition> columnDefs = new ArrayList<>(structFields.length);
         for (BField sf : structFields) {
             BType type = sf.getFieldType();
             TypeKind typeKind = TypeKind.ANY;
@@ -443,6 +443,7 @@ public class TableIterator implements DataIterator {
             ColumnDefinition def = new ColumnDefinition(sf.fieldName, typeKind);
             columnDefs.add(def);
         }
+        return columnDefs;
     }
 
     private static class ArrayElementAttributes {
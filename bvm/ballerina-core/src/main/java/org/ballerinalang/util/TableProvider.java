@@ -36,6 +36,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 
 /**
  * {@code TableProvider} creates In Memory database for tables.
@@ -87,22 +88,43 @@ public class TableProvider {
     }
 
 
-    public String createTable(String fromTableName, String joinTableName,  String query, BStructureType tableType,
-                              BRefValueArray params) {
-        String newTableName = TableConstants.TABLE_PREFIX + tableType.getName().toUpperCase()
-                           + "_" + getTableID();
+    /**
+     * Executes the given table query and returns its result as a table stored in memory. The rows are read as soon
+     * as the query is executed, so the connection and the statement are released before this method returns, and
+     * the result is not affected by later changes to the queried tables.
+     *
+     * @param fromTableName name of the table the data is selected from
+     * @param joinTableName name of the joined table, or null if the query has no join
+     * @param query         the query, with the table names as place holders
+     * @param tableType     the constraint type of the result table
+     * @param params        the query parameters
+     * @return the result of the query
+     */
+    public InMemoryTable queryTable(String fromTableName, String joinTableName, String query,
+                                    BStructureType tableType, BRefValueArray params) {
         String sqlStmt = query.replaceFirst(TableConstants.TABLE_NAME_REGEX, fromTableName);
         if (joinTableName != null && !joinTableName.isEmpty()) {
             sqlStmt = sqlStmt.replaceFirst(TableConstants.TABLE_NAME_REGEX, joinTableName);
         }
-        sqlStmt = generateCreateTableStatment(sqlStmt, newTableName);
-        prepareAndExecuteStatement(sqlStmt, params);
-        return newTableName;
-    }
-
-    public String createTable(String fromTableName, String query, BStructureType tableType,
-                              BRefValueArray params) {
-        return createTable(fromTableName, null, query, tableType, params);
+        InMemoryTable result = new InMemoryTable(tableType, null);
+        PreparedStatement stmt = null;
+        Connection conn = this.getConnection();
+        try {
+            stmt = conn.prepareStatement(sqlStmt);
+            setParameters(stmt, params);
+            try (ResultSet rs = stmt.executeQuery()) {
+                TableIterator itr = new TableIterator(null, rs, tableType);
+                while (rs.next()) {
+                    result.addData(itr.generateNext());
+                }
+            }
+        } catch (SQLException e) {
+            throw new BallerinaException(
+                    "error in executing statement : " + sqlStmt + " error:" + e.getMessage());
+        } finally {
+            releaseResources(conn, stmt);
+        }
+        return result;
     }
 
     public String insertData(String tableName, BMap<String, BValue> constrainedType) {
@@ -111,11 +133,41 @@ public class TableProvider {
         return tableName;
     }
 
+    public void insertData(String tableName, List<BMap<String, BValue>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String sqlStmt = TableUtils.generateInsertDataStatment(tableName, rows.get(0));
+        PreparedStatement stmt = null;
+        Connection conn = this.getConnection();
+        try {
+            stmt = conn.prepareStatement(sqlStmt);
+            for (BMap<String, BValue> row : rows) {
+                TableUtils.prepareAndExecuteStatement(stmt, row);
+            }
+        } catch (SQLException e) {
+            throw new BallerinaException(
+                    "error in executing statement : " + sqlStmt + " error:" + e.getMessage());
+        } finally {
+            releaseResources(conn, stmt);
+        }
+    }
+
     public void deleteData(String tableName, BMap<String, BValue> constrainedType) {
         String sqlStmt = TableUtils.generateDeleteDataStatment(tableName, constrainedType);
         prepareAndExecuteStatement(sqlStmt, constrainedType);
     }
 
+    /**
+     * Removes all the rows of the given table, keeping the table and its indexes.
+     *
+     * @param tableName name of the table
+     */
+    public void clearTable(String tableName) {
+        String sqlStmt = TableConstants.SQL_DELETE_FROM + tableName;
+        executeStatement(sqlStmt);
+    }
+
     public void dropTable(String tableName) {
         String sqlStmt = TableConstants.SQL_DROP + tableName;
         executeStatement(sqlStmt);
@@ -205,13 +257,6 @@ public class TableProvider {
         return sb.toString();
     }
 
-    private String generateCreateTableStatment(String query, String newTableName) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(TableConstants.SQL_CREATE).append(newTableName).append(" ").append(TableConstants.SQL_AS);
-        sb.append(query);
-        return sb.toString();
-    }
-
     private void generateIndexesForTable(String tableName, BStringArray indexColumns) {
         int indexCount = (int) indexColumns.size();
         if (indexCount > 0) {
@@ -240,48 +285,37 @@ public class TableProvider {
         }
     }
 
-    private void prepareAndExecuteStatement(String queryStatement, BRefValueArray params) {
-        PreparedStatement stmt = null;
-        Connection conn = this.getConnection();
-        try {
-            stmt = conn.prepareStatement(queryStatement);
-            for (int index = 1; index <= params.size(); index++) {
-                BRefType param = params.get(index - 1);
-                switch (param.getType().getTag()) {
-                    case TypeTags.INT_TAG:
-                        stmt.setLong(index, (Long) param.value());
-                        break;
-                    case TypeTags.STRING_TAG:
-                        stmt.setString(index, (String) param.value());
-                        break;
-                    case TypeTags.FLOAT_TAG:
-                        stmt.setDouble(index, (Double) param.value());
-                        break;
-                    case TypeTags.BOOLEAN_TAG:
-                        stmt.setBoolean(index, (Boolean) param.value());
-                        break;
-                    case TypeTags.XML_TAG:
-                    case TypeTags.JSON_TAG:
-                        stmt.setString(index, (String) param.value());
-                        break;
-                    case TypeTags.ARRAY_TAG:
-                        BType elementType = ((BArrayType) param.getType()).getElementType();
-                        if (elementType.getTag() == TypeTags.BYTE_TAG) {
-                            byte[] blobData = (byte[]) param.value();
-                            stmt.setBlob(index, new ByteArrayInputStream(blobData), blobData.length);
-                        } else {
-                            Object[] arrayData = TableUtils.getArrayData(param);
-                            stmt.setObject(index, arrayData);
-                        }
-                        break;
-                }
+    private void setParameters(PreparedStatement stmt, BRefValueArray params) throws SQLException {
+        for (int index = 1; index <= params.size(); index++) {
+            BRefType param = params.get(index - 1);
+            switch (param.getType().getTag()) {
+                case TypeTags.INT_TAG:
+                    stmt.setLong(index, (Long) param.value());
+                    break;
+                case TypeTags.STRING_TAG:
+                    stmt.setString(index, (String) param.value());
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    stmt.setDouble(index, (Double) param.value());
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    stmt.setBoolean(index, (Boolean) param.value());
+                    break;
+                case TypeTags.XML_TAG:
+                case TypeTags.JSON_TAG:
+                    stmt.setString(index, (String) param.value());
+                    break;
+                case TypeTags.ARRAY_TAG:
+                    BType elementType = ((BArrayType) param.getType()).getElementType();
+                    if (elementType.getTag() == TypeTags.BYTE_TAG) {
+                        byte[] blobData = (byte[]) param.value();
+                        stmt.setBlob(index, new ByteArrayInputStream(blobData), blobData.length);
+                    } else {
+                        Object[] arrayData = TableUtils.getArrayData(param);
+                        stmt.setObject(index, arrayData);
+                    }
+                    break;
             }
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new BallerinaException(
-                    "error in executing statement : " + queryStatement + " error:" + e.getMessage());
-        } finally {
-            releaseResources(conn, stmt);
         }
     }
 
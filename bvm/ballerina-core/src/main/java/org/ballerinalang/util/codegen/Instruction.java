@@ -222,6 +222,45 @@ public class Instruction {
         }
     }
 
+    /**
+     * {@code InstructionCmpBranch} represents an integer comparison fused with the BR_TRUE/BR_FALSE
+     * instruction which immediately follows it and consumes its result.
+     * <p>
+     * The original branch instruction is kept in place, so jump targets and line numbers are not affected.
+     *
+     * @since 0.976.1
+     */
+    public static class InstructionCmpBranch extends Instruction {
+
+        public int cmpOpcode;
+        public int resultReg;
+        public boolean branchIfTrue;
+        public int targetIp;
+
+        InstructionCmpBranch(int opcode, Instruction cmpIns, Instruction branchIns) {
+            super(opcode, cmpIns.operands);
+            this.cmpOpcode = cmpIns.opcode;
+            this.resultReg = cmpIns.operands[2];
+            this.branchIfTrue = branchIns.opcode == InstructionCodes.BR_TRUE;
+            this.targetIp = branchIns.operands[1];
+        }
+
+        InstructionCmpBranch(InstructionCmpBranch cmpBrIns, int targetIp) {
+            super(cmpBrIns.opcode, cmpBrIns.operands);
+            this.cmpOpcode = cmpBrIns.cmpOpcode;
+            this.resultReg = cmpBrIns.resultReg;
+            this.branchIfTrue = cmpBrIns.branchIfTrue;
+            this.targetIp = targetIp;
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner sj = new StringJoiner(" ");
+            Arrays.stream(operands).forEach(i -> sj.add(String.valueOf(i)));
+            return Mnemonics.getMnem(cmpOpcode) + " " + sj.toString();
+        }
+    }
+
     /**
      * {@code {@link InstructionIteratorNext}} represents the ITR_NEXT instruction in Ballerina bytecode.
      *
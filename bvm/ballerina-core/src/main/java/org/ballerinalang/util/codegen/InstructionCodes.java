@@ -297,4 +297,13 @@ public interface InstructionCodes {
     int TNE = 254;
 
     int INSTRUCTION_CODE_COUNT = 255;
+
+    // Superinstructions created by the program loader by fusing an integer comparison with the conditional
+    // branch which consumes its result. These are never emitted by the compiler.
+    int IGT_BR = 256;
+    int IGE_BR = 257;
+    int ILT_BR = 258;
+    int ILE_BR = 259;
+    int IEQ_BR = 260;
+    int INE_BR = 261;
 }
@@ -195,6 +195,10 @@ public class PackageInfo implements ConstantPool, AttributeInfoPool {
         return instructionList.size() - 1;
     }
 
+    List<Instruction> getInstructionList() {
+        return instructionList;
+    }
+
     public Instruction[] getInstructions() {
         return instructions;
     }
@@ -46,6 +46,7 @@ import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.NativeUnitLoader;
 import org.ballerinalang.util.codegen.Instruction.InstructionCALL;
+import org.ballerinalang.util.codegen.Instruction.InstructionCmpBranch;
 import org.ballerinalang.util.codegen.Instruction.InstructionCompensate;
 import org.ballerinalang.util.codegen.Instruction.InstructionFORKJOIN;
 import org.ballerinalang.util.codegen.Instruction.InstructionIteratorNext;
@@ -352,6 +353,12 @@ public class PackageInfoReader {
         // Read instructions
         readInstructions(packageInfo);
 
+        // Fuse integer comparisons with the conditional branches that follow them
+        fuseCompareAndBranchInstructions(packageInfo.getInstructionList());
+
+        // Retarget jumps and branches which land on a GOTO to its final destination
+        threadJumps(packageInfo.getInstructionList());
+
         packageInfo.complete();
     }
 
@@ -1691,6 +1698,92 @@ public class PackageInfoReader {
         return value;
     }
 
+    private void fuseCompareAndBranchInstructions(List<Instruction> instructions) {
+        for (int ip = 0; ip < instructions.size() - 1; ip++) {
+            Instruction cmpIns = instructions.get(ip);
+            Instruction branchIns = instructions.get(ip + 1);
+            if (branchIns.opcode != InstructionCodes.BR_TRUE && branchIns.opcode != InstructionCodes.BR_FALSE) {
+                continue;
+            }
+
+            int fusedOpcode = getCompareAndBranchOpcode(cmpIns.opcode);
+            // The branch should test the register the comparison writes to
+            if (fusedOpcode < 0 || branchIns.operands[0] != cmpIns.operands[2]) {
+                continue;
+            }
+            instructions.set(ip, new InstructionCmpBranch(fusedOpcode, cmpIns, branchIns));
+        }
+    }
+
+    private void threadJumps(List<Instruction> instructions) {
+        for (int ip = 0; ip < instructions.size(); ip++) {
+            Instruction instruction = instructions.get(ip);
+            switch (instruction.opcode) {
+                case InstructionCodes.GOTO: {
+                    int target = getFinalJumpTarget(instructions, instruction.operands[0]);
+                    if (target != instruction.operands[0]) {
+                        instructions.set(ip, new Instruction(InstructionCodes.GOTO, target));
+                    }
+                    break;
+                }
+                case InstructionCodes.BR_TRUE:
+                case InstructionCodes.BR_FALSE: {
+                    int target = getFinalJumpTarget(instructions, instruction.operands[1]);
+                    if (target != instruction.operands[1]) {
+                        instructions.set(ip, new Instruction(instruction.opcode, instruction.operands[0], target));
+                    }
+                    break;
+                }
+                case InstructionCodes.IGT_BR:
+                case InstructionCodes.IGE_BR:
+                case InstructionCodes.ILT_BR:
+                case InstructionCodes.ILE_BR:
+                case InstructionCodes.IEQ_BR:
+                case InstructionCodes.INE_BR: {
+                    InstructionCmpBranch cmpBrIns = (InstructionCmpBranch) instruction;
+                    int target = getFinalJumpTarget(instructions, cmpBrIns.targetIp);
+                    if (target != cmpBrIns.targetIp) {
+                        instructions.set(ip, new InstructionCmpBranch(cmpBrIns, target));
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+        }
+    }
+
+    private int getFinalJumpTarget(List<Instruction> instructions, int target) {
+        // Bound the number of hops, so that a loop made only of jumps does not hang the reader
+        for (int hops = 0; hops < instructions.size(); hops++) {
+            if (target < 0 || target >= instructions.size()
+                    || instructions.get(target).opcode != InstructionCodes.GOTO) {
+                break;
+            }
+            target = instructions.get(target).operands[0];
+        }
+        return target;
+    }
+
+    private int getCompareAndBranchOpcode(int cmpOpcode) {
+        switch (cmpOpcode) {
+            case InstructionCodes.IGT:
+                return InstructionCodes.IGT_BR;
+            case InstructionCodes.IGE:
+                return InstructionCodes.IGE_BR;
+            case InstructionCodes.ILT:
+                return InstructionCodes.ILT_BR;
+            case InstructionCodes.ILE:
+                return InstructionCodes.ILE_BR;
+            case InstructionCodes.IEQ:
+                return InstructionCodes.IEQ_BR;
+            case InstructionCodes.INE:
+                return InstructionCodes.INE_BR;
+            default:
+                return -1;
+        }
+    }
+
     private int[] getArgRegs(DataInputStream codeStream) throws IOException {
         int nArgRegs = codeStream.readInt();
         int[] argRegs = new int[nArgRegs];
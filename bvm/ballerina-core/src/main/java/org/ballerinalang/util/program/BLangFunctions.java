@@ -40,6 +40,7 @@ import org.ballerinalang.model.values.BCallableFuture;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.ballerinalang.util.FunctionFlags;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
 import org.ballerinalang.util.codegen.CallableUnitInfo.WorkerSet;
@@ -376,17 +377,17 @@ public class BLangFunctions {
             WorkerExecutionContext parentCtx, int[] argRegs, int[] retRegs, int flags) {
         WorkerData parentLocalData = parentCtx.workerLocal;
         BType[] retTypes = callableUnitInfo.getRetParamTypes();
-        WorkerData caleeSF = BLangVMUtils.createWorkerDataForLocal(callableUnitInfo.getDefaultWorkerInfo(), parentCtx,
-                argRegs, callableUnitInfo.getParamTypes());
-        Context ctx = new NativeCallContext(parentCtx, callableUnitInfo, caleeSF);
-        NativeCallableUnit nativeCallable = callableUnitInfo.getNativeCallableUnit();        
+        NativeCallableUnit nativeCallable = callableUnitInfo.getNativeCallableUnit();
         if (nativeCallable == null) {
             return parentCtx;
         }
+        WorkerData caleeSF = BLangVMUtils.createWorkerDataForLocal(callableUnitInfo.getDefaultWorkerInfo(), parentCtx,
+                argRegs, callableUnitInfo.getParamTypes());
+        Context ctx = new NativeCallContext(parentCtx, callableUnitInfo, caleeSF);
         try {
             ObserverContext observerContext = checkAndStartNativeCallableObservation(ctx, callableUnitInfo, flags);
             if (nativeCallable.isBlocking()) {
-                nativeCallable.execute(ctx, null);
+                ThreadPoolFactory.getInstance().executeBlockingCall(() -> nativeCallable.execute(ctx, null));
                 BLangVMUtils.populateWorkerDataWithValues(parentLocalData, retRegs, ctx.getReturnValues(), retTypes);
                 checkAndStopCallableObservation(observerContext, flags);
                 /* we want the parent to continue, since we got the response of the native call already */
@@ -435,8 +436,16 @@ public class BLangFunctions {
             int[] argRegs, CallableUnitInfo callableUnitInfo, WorkerInfo workerInfo, WorkerDataIndex wdi,
             WorkerData initWorkerLocalData, CodeAttributeInfo initWorkerCAI, boolean runInCaller,
             ObserverContext observerContext) {
-        WorkerData workerLocal = BLangVMUtils
-                .createWorkerDataForLocal(workerInfo, parentCtx, argRegs, callableUnitInfo.getParamTypes());
+        WorkerData workerLocal;
+        /* the locals of the init worker are read once it returns, so only the frames of the other workers are
+         * pooled, and given back when they return */
+        if (respCtx instanceof InitWorkerResponseContext || parentCtx.programFile.getDebugger().isDebugEnabled()) {
+            workerLocal = BLangVMUtils.createWorkerDataForLocal(workerInfo, parentCtx, argRegs,
+                    callableUnitInfo.getParamTypes());
+        } else {
+            workerLocal = BLangVMUtils.createPooledWorkerDataForLocal(workerInfo, parentCtx, argRegs,
+                    callableUnitInfo.getParamTypes());
+        }
         if (initWorkerLocalData != null) {
             BLangVMUtils.mergeInitWorkertData(initWorkerLocalData, workerLocal, initWorkerCAI);
         }
@@ -20,6 +20,7 @@ package org.ballerinalang.util.program;
 import org.ballerinalang.bre.bvm.CPU;
 import org.ballerinalang.bre.bvm.CPU.HandleErrorException;
 import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.bre.bvm.WorkerDataPool;
 import org.ballerinalang.bre.bvm.WorkerExecutionContext;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.TypeTags;
@@ -118,6 +119,17 @@ public class BLangVMUtils {
         return wd;
     }
 
+    /**
+     * Creates the local frame of a callable, taking it from the current thread's {@link WorkerDataPool}.
+     * The frame should be released back to the pool once its worker has returned.
+     */
+    static WorkerData createPooledWorkerDataForLocal(WorkerInfo workerInfo, WorkerExecutionContext parentCtx,
+                                                     int[] argRegs, BType[] paramTypes) {
+        WorkerData wd = WorkerDataPool.acquire(workerInfo.getCodeAttributeInfo());
+        BLangVMUtils.copyArgValues(parentCtx.workerLocal, wd, argRegs, paramTypes);
+        return wd;
+    }
+
     static WorkerData createWorkerDataForLocal(WorkerInfo workerInfo, WorkerExecutionContext parentCtx,
                                                int[] argRegs) {
         WorkerData wd = createWorkerData(workerInfo);
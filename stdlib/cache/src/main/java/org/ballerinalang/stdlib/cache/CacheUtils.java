@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.cache;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+
+/**
+ * Utility methods used by the cache native functions.
+ *
+ * @since 0.976.1
+ */
+public class CacheUtils {
+
+    private CacheUtils() {
+    }
+
+    /**
+     * Returns the backing store of the cache object the native function is invoked on.
+     *
+     * @param context context of the native function
+     * @return the backing store of the cache
+     */
+    @SuppressWarnings("unchecked")
+    public static LRUCache getCache(Context context) {
+        BMap<String, BValue> cache = (BMap<String, BValue>) context.getRefArgument(0);
+        return (LRUCache) cache.getNativeData(CacheConstants.CACHE_NATIVE_DATA);
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.cache;
+
+import org.ballerinalang.model.values.BValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Backing store of a {@code cache:Cache}. Entries are kept in a concurrent hash map for lookups and in a doubly
+ * linked list in access order, so that evicting the least recently used entries only touches the entries being
+ * removed.
+ * <p>
+ * Writes update the access order list under a lock. Reads do not wait for the lock; when it is held by another
+ * thread the access is recorded in a bounded buffer which is replayed by the next thread to acquire the lock. If
+ * the buffer is full, the read waits for the lock instead, so that no access is lost. Accesses replayed from the
+ * buffer may be applied slightly out of order, so each entry is ordered by the time of its access, raised to the
+ * order time of the entry before it when the access is applied late. The list stays ordered by these times, and
+ * removing expired entries stops at the first entry which has not expired by its order time. An entry whose access
+ * was applied late may be left until the next removal after it expires, but it is never returned by a read.
+ *
+ * @since 0.976.1
+ */
+public class LRUCache {
+
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicReferenceArray<Entry> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicInteger readBufferWriteCount = new AtomicInteger();
+    private final AtomicLong insertionCount = new AtomicLong();
+
+    private final long expiryTimeMillis;
+    private final int capacity;
+    private final int evictionCount;
+
+    // access order list, guarded by the lock
+    private Entry head;
+    private Entry tail;
+    private int readBufferDrainedCount;
+
+    private volatile RemovalListener removalListener;
+
+    public LRUCache(long expiryTimeMillis, int capacity, double evictionFactor) {
+        this.expiryTimeMillis = expiryTimeMillis;
+        this.capacity = capacity;
+        this.evictionCount = Math.max(1, (int) (capacity * evictionFactor));
+    }
+
+    /**
+     * Set the listener to be notified of the values which are removed from the cache.
+     *
+     * @param removalListener listener of removed values
+     */
+    public void setRemovalListener(RemovalListener removalListener) {
+        this.removalListener = removalListener;
+    }
+
+    public boolean hasKey(String key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Add a value to the cache, evicting the least recently used entries if the cache is full.
+     *
+     * @param key   key of the value
+     * @param value value to be cached
+     */
+    public void put(String key, BValue value) {
+        long now = System.currentTimeMillis();
+        List<Entry> removedEntries = null;
+        BValue replacedValue = null;
+        lock.lock();
+        try {
+            drainReadBuffer();
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                replacedValue = entry.value;
+                entry.value = value;
+                entry.lastAccessedTime = now;
+                moveToTail(entry);
+            } else {
+                if (entries.size() >= capacity) {
+                    removedEntries = new ArrayList<>(evictionCount);
+                    for (int i = 0; i < evictionCount && head != null; i++) {
+                        Entry eldest = head;
+                        unlink(eldest);
+                        entries.remove(eldest.key, eldest);
+                        removedEntries.add(eldest);
+                    }
+                }
+                entry = new Entry(key, value, now, insertionCount.getAndIncrement());
+                linkLast(entry);
+                entries.put(key, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (replacedValue != value) {
+            notifyRemoval(key, replacedValue);
+        }
+        notifyRemoval(removedEntries);
+    }
+
+    /**
+     * Get the value associated with the given key. Expired entries are removed and are not returned.
+     *
+     * @param key key of the value
+     * @return the cached value or null if there is no value or it has expired
+     */
+    public BValue get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (now >= entry.lastAccessedTime + expiryTimeMillis) {
+            removeEntry(entry);
+            return null;
+        }
+        entry.lastAccessedTime = now;
+        if (lock.tryLock()) {
+            try {
+                drainReadBuffer();
+                moveToTail(entry);
+            } finally {
+                lock.unlock();
+            }
+        } else {
+            int index = readBufferWriteCount.getAndIncrement();
+            if (!readBuffer.compareAndSet(index & READ_BUFFER_MASK, null, entry)) {
+                // the buffer is full, wait for the lock rather than losing the access
+                lock.lock();
+                try {
+                    drainReadBuffer();
+                    moveToTail(entry);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+        return entry.value;
+    }
+
+    public void remove(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            removeEntry(entry);
+        }
+    }
+
+    /**
+     * Returns the keys of the cache in the order they were first added.
+     *
+     * @return keys of the cache
+     */
+    public String[] keys() {
+        List<Entry> snapshot = new ArrayList<>(entries.values());
+        snapshot.sort((entry1, entry2) -> Long.compare(entry1.insertionIndex, entry2.insertionIndex));
+        String[] keys = new String[snapshot.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = snapshot.get(i).key;
+        }
+        return keys;
+    }
+
+    /**
+     * Remove the entries which have not been accessed within the expiry time.
+     */
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        List<Entry> removedEntries = new ArrayList<>();
+        lock.lock();
+        try {
+            drainReadBuffer();
+            Entry entry = head;
+            while (entry != null && now >= entry.orderTime + expiryTimeMillis) {
+                Entry next = entry.next;
+                // an entry may have been read again while its access is yet to be applied
+                if (now >= entry.lastAccessedTime + expiryTimeMillis) {
+                    unlink(entry);
+                    entries.remove(entry.key, entry);
+                    removedEntries.add(entry);
+                }
+                entry = next;
+            }
+        } finally {
+            lock.unlock();
+        }
+        notifyRemoval(removedEntries);
+    }
+
+    private void removeEntry(Entry entry) {
+        boolean removed;
+        lock.lock();
+        try {
+            // the entry may have been replaced or evicted by another thread
+            removed = entries.remove(entry.key, entry);
+            if (removed) {
+                unlink(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (removed) {
+            notifyRemoval(entry.key, entry.value);
+        }
+    }
+
+    // listeners are notified after the lock is released, so that they may use the cache
+    private void notifyRemoval(List<Entry> removedEntries) {
+        if (removedEntries == null) {
+            return;
+        }
+        for (Entry entry : removedEntries) {
+            notifyRemoval(entry.key, entry.value);
+        }
+    }
+
+    private void notifyRemoval(String key, BValue value) {
+        RemovalListener listener = removalListener;
+        if (listener != null && value != null) {
+            listener.onRemoval(key, value);
+        }
+    }
+
+    private void drainReadBuffer() {
+        int writeCount = readBufferWriteCount.get();
+        if (writeCount == readBufferDrainedCount) {
+            return;
+        }
+        // a read may have claimed its slot but not yet stored the entry, in which case the entry stays in the
+        // buffer and is replayed by a later drain
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Entry entry = readBuffer.getAndSet(i, null);
+            if (entry != null) {
+                moveToTail(entry);
+            }
+        }
+        readBufferDrainedCount = writeCount;
+    }
+
+    private void moveToTail(Entry entry) {
+        if (!entry.linked) {
+            return;
+        }
+        if (entry == tail) {
+            entry.orderTime = Math.max(entry.orderTime, entry.lastAccessedTime);
+            return;
+        }
+        unlink(entry);
+        linkLast(entry);
+    }
+
+    private void linkLast(Entry entry) {
+        entry.previous = tail;
+        entry.next = null;
+        if (tail == null) {
+            head = entry;
+            entry.orderTime = entry.lastAccessedTime;
+        } else {
+            tail.next = entry;
+            entry.orderTime = Math.max(entry.lastAccessedTime, tail.orderTime);
+        }
+        tail = entry;
+        entry.linked = true;
+    }
+
+    private void unlink(Entry entry) {
+        if (!entry.linked) {
+            return;
+        }
+        if (entry.previous == null) {
+            head = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if (entry.next == null) {
+            tail = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.linked = false;
+    }
+
+    /**
+     * Listener of the values removed from a cache, when they are evicted, expire, are removed or are replaced by
+     * another value for the same key.
+     */
+    public interface RemovalListener {
+
+        void onRemoval(String key, BValue value);
+    }
+
+    /**
+     * A cache entry which is also a node of the access order list.
+     */
+    private static class Entry {
+
+        private final String key;
+        private final long insertionIndex;
+        private volatile BValue value;
+        private volatile long lastAccessedTime;
+
+        // guarded by the cache lock
+        private Entry previous;
+        private Entry next;
+        private boolean linked;
+        private long orderTime;
+
+        private Entry(String key, BValue value, long lastAccessedTime, long insertionIndex) {
+            this.key = key;
+            this.value = value;
+            this.lastAccessedTime = lastAccessedTime;
+            this.insertionIndex = insertionIndex;
+        }
+    }
+}
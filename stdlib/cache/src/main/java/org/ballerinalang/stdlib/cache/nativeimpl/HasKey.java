@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.stdlib.cache.CacheConstants;
+import org.ballerinalang.stdlib.cache.CacheUtils;
+
+/**
+ * Native function ballerina/cache:Cache.hasKey.
+ *
+ * @since 0.976.1
+ */
+@BallerinaFunction(
+        orgName = "ballerina",
+        packageName = "cache",
+        functionName = "hasKey",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = CacheConstants.CACHE_STRUCT,
+                structPackage = CacheConstants.CACHE_PACKAGE),
+        isPublic = true
+)
+public class HasKey extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        String key = context.getStringArgument(0);
+        context.setReturnValues(new BBoolean(CacheUtils.getCache(context).hasKey(key)));
+    }
+}
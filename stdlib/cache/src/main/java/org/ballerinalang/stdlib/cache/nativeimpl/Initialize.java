@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.stdlib.cache.CacheConstants;
+import org.ballerinalang.stdlib.cache.LRUCache;
+
+import static org.ballerinalang.stdlib.cache.CacheConstants.CACHE_CAPACITY_FIELD;
+import static org.ballerinalang.stdlib.cache.CacheConstants.CACHE_EVICTION_FACTOR_FIELD;
+import static org.ballerinalang.stdlib.cache.CacheConstants.CACHE_EXPIRY_TIME_FIELD;
+import static org.ballerinalang.stdlib.cache.CacheConstants.CACHE_NATIVE_DATA;
+
+/**
+ * Native function ballerina/cache:Cache.initialize.
+ *
+ * @since 0.976.1
+ */
+@BallerinaFunction(
+        orgName = "ballerina",
+        packageName = "cache",
+        functionName = "initialize",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = CacheConstants.CACHE_STRUCT,
+                structPackage = CacheConstants.CACHE_PACKAGE)
+)
+public class Initialize extends BlockingNativeCallableUnit {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void execute(Context context) {
+        BMap<String, BValue> cache = (BMap<String, BValue>) context.getRefArgument(0);
+        long expiryTimeMillis = ((BInteger) cache.get(CACHE_EXPIRY_TIME_FIELD)).intValue();
+        int capacity = (int) ((BInteger) cache.get(CACHE_CAPACITY_FIELD)).intValue();
+        double evictionFactor = ((BFloat) cache.get(CACHE_EVICTION_FACTOR_FIELD)).floatValue();
+        cache.addNativeData(CACHE_NATIVE_DATA, new LRUCache(expiryTimeMillis, capacity, evictionFactor));
+    }
+}
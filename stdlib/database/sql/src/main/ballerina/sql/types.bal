@@ -30,6 +30,15 @@ documentation {
     F{{minimumIdle}} Minimum number of idle connections that pool tries to maintain in the pool. Default is same as maximumPoolSize
     F{{maxLifetime}} Maximum lifetime of a connection in the pool. Default is 30 minutes
     F{{validationTimeout}} Maximum amount of time that a connection will be tested for aliveness. Default 5 seconds
+    F{{fetchSize}} Number of rows fetched from the database in a round trip while iterating a result. Default is the
+                   fetch size of the driver. Note that PostgreSQL fetches rows in batches only when auto-commit is off
+    F{{maximumPendingActions}} Maximum number of actions which can wait for a free connection when blocking calls are
+                               offloaded from the workers. Default is 100 times the maximumPoolSize
+    F{{updateBatchSize}} Maximum number of concurrent update calls with the same statement which are coalesced into a
+                         single batch. Update calls are not coalesced unless this is greater than 1. Calls within a
+                         transaction are never coalesced
+    F{{updateBatchWindow}} Maximum number of milliseconds an update call waits for other calls to be coalesced with.
+                           Default is 5 milliseconds
 }
 public type PoolOptions record {
     string connectionInitSql,
@@ -42,6 +51,10 @@ public type PoolOptions record {
     int minimumIdle = -1,
     int maxLifetime = 1800000,
     int validationTimeout = 5000,
+    int fetchSize = -1,
+    int maximumPendingActions = -1,
+    int updateBatchSize = -1,
+    int updateBatchWindow = 5,
 };
 
 documentation {
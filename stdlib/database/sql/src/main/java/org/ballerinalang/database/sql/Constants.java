@@ -167,6 +167,10 @@ public final class Constants {
         public static final String MINIMUM_IDLE = "minimumIdle";
         public static final String MAX_LIFE_TIME = "maxLifetime";
         public static final String VALIDATION_TIMEOUT = "validationTimeout";
+        public static final String FETCH_SIZE = "fetchSize";
+        public static final String MAXIMUM_PENDING_ACTIONS = "maximumPendingActions";
+        public static final String UPDATE_BATCH_SIZE = "updateBatchSize";
+        public static final String UPDATE_BATCH_WINDOW = "updateBatchWindow";
     }
 
     /**
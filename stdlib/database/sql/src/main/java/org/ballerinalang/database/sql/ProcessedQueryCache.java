@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.database.sql;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Least recently used cache of the query strings which were processed to match the array parameters of a query.
+ * <p>
+ * A query is keyed by its original string and the number of values of each of its parameters, hence the same
+ * query called with arrays of different sizes is cached separately.
+ *
+ * @since 0.976.1
+ */
+public class ProcessedQueryCache {
+
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Map<QueryKey, String> queries;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    public ProcessedQueryCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ProcessedQueryCache(int maxSize) {
+        this.queries = new LinkedHashMap<QueryKey, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the processed query string for the given query and parameter shape. The processor is called outside the
+     * lock of the cache if the query is not cached yet.
+     *
+     * @param query          the query as given by the user.
+     * @param parameterShape number of values of each parameter of the query.
+     * @param processor      processes the query if it is not cached.
+     * @return the processed query string.
+     */
+    public String getProcessedQuery(String query, int[] parameterShape, Supplier<String> processor) {
+        QueryKey key = new QueryKey(query, parameterShape);
+        String processedQuery;
+        synchronized (queries) {
+            processedQuery = queries.get(key);
+        }
+        if (processedQuery != null) {
+            hitCount.increment();
+            return processedQuery;
+        }
+        missCount.increment();
+        processedQuery = processor.get();
+        synchronized (queries) {
+            queries.put(key, processedQuery);
+        }
+        return processedQuery;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        synchronized (queries) {
+            return queries.size();
+        }
+    }
+
+    /**
+     * Key of a processed query.
+     */
+    private static class QueryKey {
+        private final String query;
+        private final int[] parameterShape;
+        private final int hash;
+
+        private QueryKey(String query, int[] parameterShape) {
+            this.query = query;
+            this.parameterShape = parameterShape;
+            this.hash = 31 * query.hashCode() + Arrays.hashCode(parameterShape);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey other = (QueryKey) o;
+            return hash == other.hash && query.equals(other.query)
+                    && Arrays.equals(parameterShape, other.parameterShape);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -42,6 +42,7 @@ import org.ballerinalang.util.codegen.StructureTypeInfo;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Date;
@@ -51,6 +52,7 @@ import java.sql.Struct;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 import javax.sql.rowset.CachedRowSet;
@@ -66,6 +68,7 @@ public class SQLDataIterator extends TableIterator {
     private Calendar utcCalendar;
     private StructureTypeInfo timeStructInfo;
     private StructureTypeInfo zoneStructInfo;
+    private ColumnReader[] columnReaders;
     private static final String UNASSIGNABLE_UNIONTYPE_EXCEPTION =
             "Corresponding Union type in the record is not an assignable nillable type";
     private static final String MISMATCHING_FIELD_ASSIGNMENT = "Trying to assign to a mismatching type";
@@ -128,117 +131,20 @@ public class SQLDataIterator extends TableIterator {
         if (this.type == null) {
             throw new BallerinaException("the expected struct type is not specified in action");
         }
+        if (columnReaders == null) {
+            columnReaders = createColumnReaders();
+        }
         BMap<String, BValue> bStruct = new BMap<>(this.type);
-        int index = 0;
-        String columnName = null;
-        int sqlType = -1;
+        ColumnReader columnReader = null;
         try {
-            BField[] structFields = this.type.getFields();
-            for (ColumnDefinition columnDef : columnDefs) {
-                if (columnDef instanceof SQLColumnDefinition) {
-                    SQLColumnDefinition def = (SQLColumnDefinition) columnDef;
-                    columnName = def.getName();
-                    sqlType = def.getSqlType();
-                    ++index;
-                    BField field = structFields[index - 1];
-                    BType fieldType = field.getFieldType();
-                    String fieldName = field.fieldName;
-                    switch (sqlType) {
-                    case Types.ARRAY:
-                        Array data = rs.getArray(index);
-                        handleArrayValue(bStruct, fieldName, data, fieldType);
-                        break;
-                    case Types.CHAR:
-                    case Types.VARCHAR:
-                    case Types.LONGVARCHAR:
-                    case Types.NCHAR:
-                    case Types.NVARCHAR:
-                    case Types.LONGNVARCHAR:
-                        String sValue = rs.getString(index);
-                        handleStringValue(sValue, fieldName, bStruct, fieldType);
-                        break;
-                    case Types.BINARY:
-                    case Types.VARBINARY:
-                    case Types.LONGVARBINARY:
-                        byte[] binaryValue = rs.getBytes(index);
-                        handleBinaryValue(bStruct, fieldName, binaryValue, fieldType);
-                        break;
-                    case Types.BLOB:
-                        Blob blobValue = rs.getBlob(index);
-                        handleBinaryValue(bStruct, fieldName,
-                                blobValue == null ? null : blobValue.getBytes(1L, (int) blobValue.length()), fieldType);
-                        break;
-                    case Types.CLOB:
-                        String clobValue = SQLDatasourceUtils.getString((rs.getClob(index)));
-                        handleStringValue(clobValue, fieldName, bStruct, fieldType);
-                        break;
-                    case Types.NCLOB:
-                        String nClobValue = SQLDatasourceUtils.getString((rs.getNClob(index)));
-                        handleStringValue(nClobValue, fieldName, bStruct, fieldType);
-                        break;
-                    case Types.DATE:
-                        Date date = rs.getDate(index);
-                        handleDateValue(bStruct, fieldName, date, fieldType);
-                        break;
-                    case Types.TIME:
-                    case Types.TIME_WITH_TIMEZONE:
-                        Time time = rs.getTime(index, utcCalendar);
-                        handleDateValue(bStruct, fieldName, time, fieldType);
-                        break;
-                    case Types.TIMESTAMP:
-                    case Types.TIMESTAMP_WITH_TIMEZONE:
-                        Timestamp timestamp = rs.getTimestamp(index, utcCalendar);
-                        handleDateValue(bStruct, fieldName, timestamp, fieldType);
-                        break;
-                    case Types.ROWID:
-                        sValue = new String(rs.getRowId(index).getBytes(), "UTF-8");
-                        handleStringValue(sValue, fieldName, bStruct, fieldType);
-                        break;
-                    case Types.TINYINT:
-                    case Types.SMALLINT:
-                        long iValue = rs.getInt(index);
-                        handleLongValue(iValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.INTEGER:
-                    case Types.BIGINT:
-                        long lValue = rs.getLong(index);
-                        handleLongValue(lValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.REAL:
-                    case Types.FLOAT:
-                        double fValue = rs.getFloat(index);
-                        handleDoubleValue(fValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.DOUBLE:
-                        double dValue = rs.getDouble(index);
-                        handleDoubleValue(dValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.NUMERIC:
-                    case Types.DECIMAL:
-                        double decimalValue = 0;
-                        BigDecimal bigDecimalValue = rs.getBigDecimal(index);
-                        if (bigDecimalValue != null) {
-                            decimalValue = bigDecimalValue.doubleValue();
-                        }
-                        handleDoubleValue(decimalValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.BIT:
-                    case Types.BOOLEAN:
-                        boolean boolValue = rs.getBoolean(index);
-                        handleBooleanValue(bStruct, fieldName, boolValue, fieldType);
-                        break;
-                    case Types.STRUCT:
-                        Struct structData = (Struct) rs.getObject(index);
-                        handleStructValue(bStruct, fieldName, structData, fieldType);
-                        break;
-                    default:
-                        throw new BallerinaException(
-                                "unsupported sql type " + sqlType + " found for the column " + columnName + " index:"
-                                        + index);
-                    }
-                }
+            for (ColumnReader reader : columnReaders) {
+                columnReader = reader;
+                reader.valueReader.read(bStruct);
             }
         } catch (Throwable e) {
+            String columnName = columnReader != null ? columnReader.columnName : null;
+            int sqlType = columnReader != null ? columnReader.sqlType : -1;
+            int index = columnReader != null ? columnReader.index : 0;
             throw new BallerinaException(
                     "error in retrieving next value for column: " + columnName + ": of SQL Type: " + sqlType + ": "
                             + "at " + "index:" + index + ":" + e.getMessage());
@@ -246,6 +152,107 @@ public class SQLDataIterator extends TableIterator {
         return bStruct;
     }
 
+    /**
+     * Resolves the reader of each column once, so that the rows are converted without looking up the SQL type and
+     * the field of each column again.
+     */
+    private ColumnReader[] createColumnReaders() {
+        List<ColumnReader> readers = new ArrayList<>(columnDefs.size());
+        BField[] structFields = this.type.getFields();
+        int index = 0;
+        for (ColumnDefinition columnDef : columnDefs) {
+            if (columnDef instanceof SQLColumnDefinition) {
+                SQLColumnDefinition def = (SQLColumnDefinition) columnDef;
+                ++index;
+                BField field = index <= structFields.length ? structFields[index - 1] : null;
+                readers.add(new ColumnReader(def.getName(), def.getSqlType(), index,
+                        createValueReader(def.getName(), def.getSqlType(), index, field)));
+            }
+        }
+        return readers.toArray(new ColumnReader[0]);
+    }
+
+    private ColumnValueReader createValueReader(String columnName, int sqlType, int index, BField field) {
+        if (field == null) {
+            return bStruct -> {
+                throw new BallerinaException("no field in " + type.getName() + " at position " + index
+                        + " to hold the value of column " + columnName);
+            };
+        }
+        BType fieldType = field.getFieldType();
+        String fieldName = field.fieldName;
+        switch (sqlType) {
+        case Types.ARRAY:
+            return bStruct -> handleArrayValue(bStruct, fieldName, rs.getArray(index), fieldType);
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.LONGVARCHAR:
+        case Types.NCHAR:
+        case Types.NVARCHAR:
+        case Types.LONGNVARCHAR:
+            return bStruct -> handleStringValue(rs.getString(index), fieldName, bStruct, fieldType);
+        case Types.BINARY:
+        case Types.VARBINARY:
+        case Types.LONGVARBINARY:
+            return bStruct -> handleBinaryValue(bStruct, fieldName, rs.getBytes(index), fieldType);
+        case Types.BLOB:
+            return bStruct -> {
+                Blob blobValue = rs.getBlob(index);
+                handleBinaryValue(bStruct, fieldName,
+                        blobValue == null ? null : blobValue.getBytes(1L, (int) blobValue.length()), fieldType);
+            };
+        case Types.CLOB:
+            return bStruct -> handleStringValue(SQLDatasourceUtils.getString((rs.getClob(index))), fieldName,
+                    bStruct, fieldType);
+        case Types.NCLOB:
+            return bStruct -> handleStringValue(SQLDatasourceUtils.getString((rs.getNClob(index))), fieldName,
+                    bStruct, fieldType);
+        case Types.DATE:
+            return bStruct -> handleDateValue(bStruct, fieldName, rs.getDate(index), fieldType);
+        case Types.TIME:
+        case Types.TIME_WITH_TIMEZONE:
+            return bStruct -> handleDateValue(bStruct, fieldName, rs.getTime(index, utcCalendar), fieldType);
+        case Types.TIMESTAMP:
+        case Types.TIMESTAMP_WITH_TIMEZONE:
+            return bStruct -> handleDateValue(bStruct, fieldName, rs.getTimestamp(index, utcCalendar), fieldType);
+        case Types.ROWID:
+            return bStruct -> handleStringValue(new String(rs.getRowId(index).getBytes(), StandardCharsets.UTF_8),
+                    fieldName, bStruct, fieldType);
+        case Types.TINYINT:
+        case Types.SMALLINT:
+            return bStruct -> handleLongValue(rs.getInt(index), bStruct, fieldName, fieldType);
+        case Types.INTEGER:
+        case Types.BIGINT:
+            return bStruct -> handleLongValue(rs.getLong(index), bStruct, fieldName, fieldType);
+        case Types.REAL:
+        case Types.FLOAT:
+            return bStruct -> handleDoubleValue(rs.getFloat(index), bStruct, fieldName, fieldType);
+        case Types.DOUBLE:
+            return bStruct -> handleDoubleValue(rs.getDouble(index), bStruct, fieldName, fieldType);
+        case Types.NUMERIC:
+        case Types.DECIMAL:
+            return bStruct -> {
+                double decimalValue = 0;
+                BigDecimal bigDecimalValue = rs.getBigDecimal(index);
+                if (bigDecimalValue != null) {
+                    decimalValue = bigDecimalValue.doubleValue();
+                }
+                handleDoubleValue(decimalValue, bStruct, fieldName, fieldType);
+            };
+        case Types.BIT:
+        case Types.BOOLEAN:
+            return bStruct -> handleBooleanValue(bStruct, fieldName, rs.getBoolean(index), fieldType);
+        case Types.STRUCT:
+            return bStruct -> handleStructValue(bStruct, fieldName, (Struct) rs.getObject(index), fieldType);
+        default:
+            return bStruct -> {
+                throw new BallerinaException(
+                        "unsupported sql type " + sqlType + " found for the column " + columnName + " index:"
+                                + index);
+            };
+        }
+    }
+
     private void validateAndSetRefRecordField(BMap<String, BValue> bStruct, String fieldName, int expectedTypeTag,
                                               int actualTypeTag, BRefType value, String exceptionMessage) {
         if (expectedTypeTag == actualTypeTag) {
@@ -572,6 +579,30 @@ public class SQLDataIterator extends TableIterator {
         }
     }
 
+    /**
+     * Reads the value of a column in the current row into the given struct.
+     */
+    private interface ColumnValueReader {
+        void read(BMap<String, BValue> bStruct) throws SQLException;
+    }
+
+    /**
+     * Reader of a column which is resolved from the column definition.
+     */
+    private static class ColumnReader {
+        private final String columnName;
+        private final int sqlType;
+        private final int index;
+        private final ColumnValueReader valueReader;
+
+        private ColumnReader(String columnName, int sqlType, int index, ColumnValueReader valueReader) {
+            this.columnName = columnName;
+            this.sqlType = sqlType;
+            this.index = index;
+            this.valueReader = valueReader;
+        }
+    }
+
     /**
      * This represents a column definition for a column in a table.
      */
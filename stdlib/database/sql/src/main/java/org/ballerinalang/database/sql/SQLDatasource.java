@@ -30,13 +30,19 @@ import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.util.exceptions.BallerinaException;
+import org.ballerinalang.util.metrics.DefaultMetricRegistry;
+import org.ballerinalang.util.metrics.MetricRegistry;
+import org.ballerinalang.util.metrics.PolledGauge;
 
 import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import javax.sql.XADataSource;
@@ -48,12 +54,31 @@ import javax.sql.XADataSource;
  */
 public class SQLDatasource implements BValue {
 
+    /**
+     * Driver properties which enable the per connection prepared statement cache of the MySQL driver.
+     */
+    private static final String MYSQL_CACHE_PREP_STMTS = "cachePrepStmts";
+    private static final String MYSQL_PREP_STMT_CACHE_SIZE = "prepStmtCacheSize";
+    private static final String MYSQL_PREP_STMT_CACHE_SQL_LIMIT = "prepStmtCacheSqlLimit";
+    private static final int MYSQL_DEFAULT_PREP_STMT_CACHE_SIZE = 250;
+    private static final int MYSQL_DEFAULT_PREP_STMT_CACHE_SQL_LIMIT = 2048;
+    private static final String MYSQL_USE_CURSOR_FETCH = "useCursorFetch";
+
+    private static final int DEFAULT_PENDING_ACTIONS_PER_CONNECTION = 100;
+
     private HikariDataSource hikariDataSource;
     private String peerAddress;
     private String databaseName;
     private String databaseProductName;
+    private boolean mysql;
     private String connectorId;
     private boolean xaConn;
+    private int fetchSize = -1;
+    private int maximumPendingActions = -1;
+    private volatile SQLQueryExecutor queryExecutor;
+    private UpdateCoalescer updateCoalescer;
+    private final ProcessedQueryCache processedQueryCache = new ProcessedQueryCache();
+    private final List<PolledGauge> gauges = new ArrayList<>();
 
     public SQLDatasource() {
     }
@@ -67,10 +92,12 @@ public class SQLDatasource implements BValue {
         xaConn = isXADataSource();
         try (Connection con = getSQLConnection()) {
             databaseProductName = con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ENGLISH);
+            mysql = databaseProductName.contains("mysql");
         } catch (SQLException e) {
             throw new BallerinaException("error in get connection: " + Constants.CONNECTOR_NAME + ": " + e.getMessage(),
                     e);
         }
+        registerMetrics();
         return true;
     }
 
@@ -102,6 +129,65 @@ public class SQLDatasource implements BValue {
         return databaseProductName;
     }
 
+    /**
+     * Check whether the database of this datasource is MySQL.
+     *
+     * @return true if the database product is MySQL.
+     */
+    public boolean isMySQL() {
+        return mysql;
+    }
+
+    /**
+     * Get the cache of the query strings which were processed to match the array parameters.
+     *
+     * @return The processed query cache of this datasource.
+     */
+    public ProcessedQueryCache getProcessedQueryCache() {
+        return processedQueryCache;
+    }
+
+    /**
+     * Get the number of rows which should be fetched in a round trip while iterating a result.
+     *
+     * @return The fetch size, or -1 if the default of the driver is used.
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Get the executor which runs the actions of this datasource when blocking calls are offloaded from the workers.
+     * The executor is created when it is first requested.
+     *
+     * @return The query executor of this datasource.
+     */
+    public SQLQueryExecutor getQueryExecutor() {
+        SQLQueryExecutor executor = queryExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = queryExecutor;
+                if (executor == null) {
+                    int poolSize = hikariDataSource.getMaximumPoolSize();
+                    int queueSize = maximumPendingActions > 0 ? maximumPendingActions
+                            : poolSize * DEFAULT_PENDING_ACTIONS_PER_CONNECTION;
+                    executor = new SQLQueryExecutor(poolSize, queueSize, hikariDataSource.getConnectionTimeout());
+                    queryExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Get the coalescer of the update calls of this datasource.
+     *
+     * @return The update coalescer, or null if update calls should not be coalesced.
+     */
+    public UpdateCoalescer getUpdateCoalescer() {
+        return updateCoalescer;
+    }
+
     public Connection getSQLConnection() {
         try {
             return hikariDataSource.getConnection();
@@ -130,7 +216,17 @@ public class SQLDatasource implements BValue {
     }
 
     public void closeConnectionPool() {
+        // The coalescer is shut down first, so that it does not hand batches to a query executor which is shut down
+        if (updateCoalescer != null) {
+            updateCoalescer.shutdown();
+        }
+        synchronized (this) {
+            if (queryExecutor != null) {
+                queryExecutor.shutdown();
+            }
+        }
         hikariDataSource.close();
+        unregisterMetrics();
     }
 
     private void buildDataSource(Struct options, String jdbcurl, String dbType, String hostOrPath, String dbName,
@@ -190,6 +286,13 @@ public class SQLDatasource implements BValue {
                 }
                 boolean autoCommit = options.getBooleanField(Constants.Options.AUTOCOMMIT);
                 config.setAutoCommit(autoCommit);
+                fetchSize = (int) options.getIntField(Constants.Options.FETCH_SIZE);
+                maximumPendingActions = (int) options.getIntField(Constants.Options.MAXIMUM_PENDING_ACTIONS);
+                int updateBatchSize = (int) options.getIntField(Constants.Options.UPDATE_BATCH_SIZE);
+                if (updateBatchSize > 1) {
+                    updateCoalescer = new UpdateCoalescer(updateBatchSize,
+                            options.getIntField(Constants.Options.UPDATE_BATCH_WINDOW), this::getQueryExecutor);
+                }
 
                 if (dataSourceConfigMap != null) {
                     setDataSourceProperties(dataSourceConfigMap, config);
@@ -197,6 +300,7 @@ public class SQLDatasource implements BValue {
             } else {
                 config.setJdbcUrl(jdbcurl);
             }
+            setMySQLDriverProperties(config, dbType, jdbcurl);
             hikariDataSource = new HikariDataSource(config);
         } catch (Throwable t) {
             throw new BallerinaException("error in sql connector configuration:" + t.getMessage());
@@ -387,6 +491,56 @@ public class SQLDatasource implements BValue {
         return xaDataSource;
     }
 
+    /**
+     * Enable the prepared statement cache of the MySQL driver, which is kept per pooled connection. Hikari does not
+     * cache statements itself, hence statements which are closed after each call are served from the cache of the
+     * connection they were prepared on. If a fetch size is given, cursor based fetching is enabled since the driver
+     * ignores the fetch size otherwise. Properties which are given by the user are not overridden.
+     */
+    private void setMySQLDriverProperties(HikariConfig config, String dbType, String jdbcurl) {
+        if (!Constants.DBTypes.MYSQL.equalsIgnoreCase(dbType) && !jdbcurl.startsWith("jdbc:mysql:")) {
+            return;
+        }
+        Properties properties = config.getDataSourceProperties();
+        properties.putIfAbsent(MYSQL_CACHE_PREP_STMTS, true);
+        properties.putIfAbsent(MYSQL_PREP_STMT_CACHE_SIZE, MYSQL_DEFAULT_PREP_STMT_CACHE_SIZE);
+        properties.putIfAbsent(MYSQL_PREP_STMT_CACHE_SQL_LIMIT, MYSQL_DEFAULT_PREP_STMT_CACHE_SQL_LIMIT);
+        if (fetchSize > 0) {
+            properties.putIfAbsent(MYSQL_USE_CURSOR_FETCH, true);
+        }
+    }
+
+    private void registerMetrics() {
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (metricRegistry == null) {
+            return;
+        }
+        final String prefix = "ballerina_sql_processed_query_cache_";
+        gauges.add(PolledGauge.builder(prefix + "hit_count", processedQueryCache, ProcessedQueryCache::getHitCount)
+                .tag("datasource", connectorId).register(metricRegistry));
+        gauges.add(PolledGauge.builder(prefix + "miss_count", processedQueryCache, ProcessedQueryCache::getMissCount)
+                .tag("datasource", connectorId).register(metricRegistry));
+        gauges.add(PolledGauge.builder(prefix + "size", processedQueryCache, ProcessedQueryCache::size)
+                .tag("datasource", connectorId).register(metricRegistry));
+        gauges.add(PolledGauge.builder("ballerina_sql_pending_action_count", this,
+                datasource -> datasource.queryExecutor != null ? datasource.queryExecutor.getPendingActionCount() : 0)
+                .tag("datasource", connectorId).register(metricRegistry));
+        gauges.add(PolledGauge.builder("ballerina_sql_active_action_count", this,
+                datasource -> datasource.queryExecutor != null ? datasource.queryExecutor.getActiveActionCount() : 0)
+                .tag("datasource", connectorId).register(metricRegistry));
+    }
+
+    private void unregisterMetrics() {
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (metricRegistry == null) {
+            return;
+        }
+        for (PolledGauge gauge : gauges) {
+            metricRegistry.unregister(gauge);
+        }
+        gauges.clear();
+    }
+
     private void setDataSourceProperties(BMap options, HikariConfig config) {
         Set<String> keySet = options.keySet();
         for (String key : keySet) {
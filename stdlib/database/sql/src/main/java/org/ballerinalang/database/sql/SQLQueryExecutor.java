@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.database.sql;
+
+import org.ballerinalang.runtime.threadpool.BLangThreadFactory;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Executes the actions of a datasource whose callers are suspended until the action completes.
+ * <p>
+ * The number of threads is bounded by the size of the connection pool, since more threads would only wait for a
+ * connection. Actions which arrive while all threads are busy wait in a bounded queue. An action is rejected if the
+ * queue is full, or if it waited in the queue for longer than the connection timeout of the pool.
+ *
+ * @since 0.976.1
+ */
+public class SQLQueryExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    private final long queueTimeoutNanos;
+
+    public SQLQueryExecutor(int poolSize, int queueSize, long queueTimeoutMillis) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new BLangThreadFactory(new ThreadGroup("sql"), "sql-query-executor"));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+    }
+
+    /**
+     * Execute the given action once a thread is available.
+     *
+     * @param action    the action to be executed.
+     * @param rejection called with the error if the action is rejected without being executed.
+     */
+    public void execute(Runnable action, Consumer<BallerinaException> rejection) {
+        long queuedTime = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                if (System.nanoTime() - queuedTime > queueTimeoutNanos) {
+                    rejection.accept(new BallerinaException("timed out after waiting "
+                            + TimeUnit.NANOSECONDS.toMillis(queueTimeoutNanos) + "ms for a free connection"));
+                    return;
+                }
+                action.run();
+            });
+        } catch (RejectedExecutionException e) {
+            rejection.accept(new BallerinaException(executor.isShutdown() ? "datasource is closed" :
+                    "too many pending actions: " + executor.getQueue().size() + " actions are waiting for a free "
+                            + "connection"));
+        }
+    }
+
+    /**
+     * Get the number of actions which are waiting for a thread.
+     *
+     * @return the number of pending actions.
+     */
+    public int getPendingActionCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Get the number of actions which are being executed.
+     *
+     * @return the number of active actions.
+     */
+    public int getActiveActionCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Stop accepting actions. Actions which were already accepted are still executed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
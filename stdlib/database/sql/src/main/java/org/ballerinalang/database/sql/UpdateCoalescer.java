@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.database.sql;
+
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.runtime.threadpool.BLangThreadFactory;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent update calls of a datasource which have the same statement into a single batch.
+ * <p>
+ * The first update of a statement opens a batch, which is executed once it reaches the maximum batch size or once
+ * the batch window of the first update is over, whichever comes first. Batches are executed in the query executor of
+ * the datasource, and the result of each update is notified to its own callback.
+ * <p>
+ * Once the coalescer is shut down, updates are failed instead of being added to a batch, and open batches are failed
+ * instead of being executed.
+ *
+ * @since 0.976.1
+ */
+public class UpdateCoalescer {
+
+    private final int maxBatchSize;
+
+    private final long batchWindowMillis;
+
+    private final Supplier<SQLQueryExecutor> queryExecutor;
+
+    private final ScheduledThreadPoolExecutor timer;
+
+    private final Map<String, Batch> openBatches = new HashMap<>();
+
+    /**
+     * Whether the coalescer is shut down, only set while holding the lock of the open batches.
+     */
+    private volatile boolean closed;
+
+    private volatile boolean enabled = true;
+
+    public UpdateCoalescer(int maxBatchSize, long batchWindowMillis, Supplier<SQLQueryExecutor> queryExecutor) {
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowMillis = batchWindowMillis;
+        this.queryExecutor = queryExecutor;
+        this.timer = new ScheduledThreadPoolExecutor(1, new BLangThreadFactory("sql-update-coalescer"));
+        this.timer.setKeepAliveTime(60L, TimeUnit.SECONDS);
+        this.timer.allowCoreThreadTimeOut(true);
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Add an update to the open batch of its statement.
+     *
+     * @param query         the processed query of the update.
+     * @param parameters    the parameters of the update.
+     * @param batchExecutor executes the batch if this update opens it.
+     * @param callback      notified with the result of the update.
+     */
+    public void submit(String query, BRefValueArray parameters, BatchExecutor batchExecutor,
+                       UpdateCallback callback) {
+        Batch executableBatch = null;
+        synchronized (openBatches) {
+            if (closed) {
+                callback.onFailure(new BallerinaException("datasource is closed"));
+                return;
+            }
+            Batch batch = openBatches.get(query);
+            if (batch == null) {
+                batch = new Batch(query, batchExecutor);
+                Batch scheduledBatch = batch;
+                try {
+                    batch.timeout = timer.schedule(() -> closeOnTimeout(scheduledBatch), batchWindowMillis,
+                            TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    callback.onFailure(new BallerinaException("datasource is closed"));
+                    return;
+                }
+                openBatches.put(query, batch);
+            }
+            batch.updates.add(new CoalescedUpdate(parameters, callback));
+            if (batch.updates.size() >= maxBatchSize) {
+                openBatches.remove(query);
+                batch.timeout.cancel(false);
+                executableBatch = batch;
+            }
+        }
+        if (executableBatch != null) {
+            execute(executableBatch);
+        }
+    }
+
+    /**
+     * Check whether updates should be coalesced.
+     *
+     * @return false if coalescing was disabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Stop coalescing updates. Updates which were already added to a batch are still executed with it.
+     */
+    public void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Stop the batch timer and fail the updates of the open batches.
+     */
+    public void shutdown() {
+        List<Batch> pendingBatches;
+        synchronized (openBatches) {
+            closed = true;
+            pendingBatches = new ArrayList<>(openBatches.values());
+            openBatches.clear();
+        }
+        timer.shutdownNow();
+        for (Batch batch : pendingBatches) {
+            failAll(batch, new BallerinaException("datasource is closed"));
+        }
+    }
+
+    private void closeOnTimeout(Batch batch) {
+        synchronized (openBatches) {
+            if (closed || openBatches.get(batch.query) != batch) {
+                // The batch was already executed since it reached the maximum size, or failed on shut down
+                return;
+            }
+            openBatches.remove(batch.query);
+        }
+        execute(batch);
+    }
+
+    private void execute(Batch batch) {
+        if (closed) {
+            // The query executor is not requested, as it would be created again if it was never used
+            failAll(batch, new BallerinaException("datasource is closed"));
+            return;
+        }
+        queryExecutor.get().execute(() -> {
+            try {
+                batch.executor.execute(batch.query, batch.updates);
+            } catch (Throwable e) {
+                failAll(batch, e);
+            }
+        }, e -> failAll(batch, e));
+    }
+
+    private static void failAll(Batch batch, Throwable error) {
+        for (CoalescedUpdate update : batch.updates) {
+            update.fail(error);
+        }
+    }
+
+    /**
+     * Executes the updates of a batch and notifies the result of each update.
+     */
+    public interface BatchExecutor {
+
+        /**
+         * Execute the given updates of the query.
+         *
+         * @param query   the processed query of the updates.
+         * @param updates the updates in the order they were submitted.
+         */
+        void execute(String query, List<CoalescedUpdate> updates);
+    }
+
+    /**
+     * Callback which is notified with the result of a coalesced update.
+     */
+    public interface UpdateCallback {
+
+        void onSuccess(int updatedCount);
+
+        void onFailure(Throwable error);
+    }
+
+    /**
+     * An update call which was added to a batch.
+     */
+    public static class CoalescedUpdate {
+        private final BRefValueArray parameters;
+        private final UpdateCallback callback;
+        private boolean notified;
+
+        private CoalescedUpdate(BRefValueArray parameters, UpdateCallback callback) {
+            this.parameters = parameters;
+            this.callback = callback;
+        }
+
+        public BRefValueArray getParameters() {
+            return parameters;
+        }
+
+        /**
+         * Notify the number of rows updated by this update. An update is notified only once.
+         *
+         * @param updatedCount the updated row count.
+         */
+        public void complete(int updatedCount) {
+            if (!notified) {
+                notified = true;
+                callback.onSuccess(updatedCount);
+            }
+        }
+
+        /**
+         * Notify the failure of this update. An update is notified only once.
+         *
+         * @param error the cause of the failure.
+         */
+        public void fail(Throwable error) {
+            if (!notified) {
+                notified = true;
+                callback.onFailure(error);
+            }
+        }
+    }
+
+    /**
+     * Updates of a statement which are executed together.
+     */
+    private static class Batch {
+        private final String query;
+        private final BatchExecutor executor;
+        private final List<CoalescedUpdate> updates = new ArrayList<>();
+        private ScheduledFuture<?> timeout;
+
+        private Batch(String query, BatchExecutor executor) {
+            this.query = query;
+            this.executor = executor;
+        }
+    }
+}
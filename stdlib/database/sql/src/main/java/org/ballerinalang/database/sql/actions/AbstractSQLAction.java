@@ -18,11 +18,13 @@
 package org.ballerinalang.database.sql.actions;
 
 import org.ballerinalang.bre.Context;
-import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.bre.bvm.BlockingIONativeCallableUnit;
+import org.ballerinalang.bre.bvm.CallableUnitCallback;
 import org.ballerinalang.database.sql.Constants;
 import org.ballerinalang.database.sql.SQLDataIterator;
 import org.ballerinalang.database.sql.SQLDatasource;
 import org.ballerinalang.database.sql.SQLDatasourceUtils;
+import org.ballerinalang.database.sql.UpdateCoalescer;
 import org.ballerinalang.database.table.BCursorTable;
 import org.ballerinalang.database.table.BMirrorTable;
 import org.ballerinalang.model.ColumnDefinition;
@@ -56,6 +58,7 @@ import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.observability.ObservabilityConstants;
 import org.ballerinalang.util.observability.ObservabilityUtils;
 import org.ballerinalang.util.observability.ObserverContext;
+import org.ballerinalang.util.transactions.LocalTransactionInfo;
 
 import java.math.BigDecimal;
 import java.sql.Array;
@@ -99,7 +102,7 @@ import static org.ballerinalang.util.observability.ObservabilityConstants.TAG_KE
  *
  * @since 0.8.0
  */
-public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
+public abstract class AbstractSQLAction extends BlockingIONativeCallableUnit {
     
     private Calendar utcCalendar;
     private static final BTupleType executeUpdateWithKeysTupleType = new BTupleType(
@@ -109,6 +112,43 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         utcCalendar = Calendar.getInstance(TimeZone.getTimeZone(Constants.TIMEZONE_UTC));
     }
 
+    /**
+     * Executes the action in the query executor of the datasource, which is bounded by the size of the connection
+     * pool. If the action cannot be accepted, the error is returned to the caller without executing the action.
+     * <p>
+     * An action of a transaction which already holds a connection of the datasource is executed in the calling
+     * worker instead. Queued, it could wait for the threads of the executor, while those wait for the connection
+     * held by the transaction.
+     */
+    @Override
+    public void execute(Context context, CallableUnitCallback callback) {
+        if (callback == null) {
+            this.execute(context);
+            return;
+        }
+        BMap<String, BValue> bConnector = (BMap<String, BValue>) context.getRefArgument(0);
+        SQLDatasource datasource = (SQLDatasource) bConnector.getNativeData(Constants.CALLER_ACTIONS);
+        if (isConnectionEnlisted(context, datasource)) {
+            executeAndNotify(context, callback);
+            return;
+        }
+        datasource.getQueryExecutor().execute(() -> executeAndNotify(context, callback), e -> {
+            context.setReturnValues(SQLDatasourceUtils.getSQLConnectorError(context, e));
+            SQLDatasourceUtils.handleErrorOnTransaction(context);
+            checkAndObserveSQLError(context, e.getMessage());
+            callback.notifySuccess();
+        });
+    }
+
+    private static boolean isConnectionEnlisted(Context context, SQLDatasource datasource) {
+        if (!context.isInTransaction()) {
+            return false;
+        }
+        LocalTransactionInfo localTransactionInfo = context.getLocalTransactionInfo();
+        return localTransactionInfo.hasTransactionBlock()
+                && localTransactionInfo.getTransactionContext(datasource.getConnectorId()) != null;
+    }
+
     protected void executeQuery(Context context, SQLDatasource datasource, String query, BRefValueArray parameters,
             BStructureType structType, boolean loadSQLTableToMemory) {
         Connection conn = null;
@@ -118,7 +158,7 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         try {
             BRefValueArray generatedParams = constructParameters(context, parameters);
             conn = SQLDatasourceUtils.getDatabaseConnection(context, datasource, isInTransaction);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = createProcessedQueryString(datasource, query, generatedParams);
             stmt = getPreparedStatement(conn, datasource, processedQuery, loadSQLTableToMemory);
             createProcessedStatement(conn, stmt, generatedParams);
             rs = stmt.executeQuery();
@@ -147,7 +187,7 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         try {
             BRefValueArray generatedParams = constructParameters(context, parameters);
             conn = SQLDatasourceUtils.getDatabaseConnection(context, datasource, isInTransaction);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = createProcessedQueryString(datasource, query, generatedParams);
             stmt = conn.prepareStatement(processedQuery);
             createProcessedStatement(conn, stmt, generatedParams, datasource.getDatabaseProductName());
             int count = stmt.executeUpdate();
@@ -159,6 +199,107 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         }
     }
 
+    /**
+     * Adds the update to the open batch of its statement in the update coalescer of the datasource. The callback is
+     * notified once the batch is executed.
+     */
+    protected void executeCoalescedUpdate(Context context, SQLDatasource datasource, String query,
+            BRefValueArray parameters, UpdateCoalescer.UpdateCallback callback) {
+        BRefValueArray generatedParams = constructParameters(context, parameters);
+        String processedQuery = createProcessedQueryString(datasource, query, generatedParams);
+        datasource.getUpdateCoalescer().submit(processedQuery, generatedParams,
+                (batchQuery, updates) -> executeCoalescedBatch(datasource, batchQuery, updates), callback);
+    }
+
+    /**
+     * Executes the coalesced updates of a statement as a single batch. If the batch fails, it is rolled back and
+     * each update is executed on its own, so that each caller gets the result it would get without coalescing.
+     * The same is done if the driver does not report the updated count of each update, in which case the updates
+     * of the datasource are no longer coalesced.
+     */
+    private void executeCoalescedBatch(SQLDatasource datasource, String query,
+            List<UpdateCoalescer.CoalescedUpdate> updates) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        int[] updatedCounts = null;
+        try {
+            conn = datasource.getSQLConnection();
+            conn.setAutoCommit(false);
+            stmt = conn.prepareStatement(query);
+            for (UpdateCoalescer.CoalescedUpdate update : updates) {
+                createProcessedStatement(conn, stmt, update.getParameters(), datasource.getDatabaseProductName());
+                stmt.addBatch();
+            }
+            updatedCounts = stmt.executeBatch();
+            if (isCountedPerUpdate(datasource, updatedCounts, updates.size())) {
+                conn.commit();
+            } else {
+                updatedCounts = null;
+                rollback(conn);
+            }
+        } catch (Throwable e) {
+            updatedCounts = null;
+            rollback(conn);
+        } finally {
+            SQLDatasourceUtils.cleanupResources(stmt, conn, false);
+        }
+        if (updatedCounts != null) {
+            for (int i = 0; i < updatedCounts.length; i++) {
+                updates.get(i).complete(updatedCounts[i]);
+            }
+            return;
+        }
+        for (UpdateCoalescer.CoalescedUpdate update : updates) {
+            executeSingleUpdate(datasource, query, update);
+        }
+    }
+
+    private boolean isCountedPerUpdate(SQLDatasource datasource, int[] updatedCounts, int updateCount) {
+        if (updatedCounts.length != updateCount) {
+            return false;
+        }
+        for (int updatedCount : updatedCounts) {
+            if (updatedCount == Statement.SUCCESS_NO_INFO) {
+                datasource.getUpdateCoalescer().disable();
+                return false;
+            }
+            if (updatedCount < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void executeSingleUpdate(SQLDatasource datasource, String query,
+            UpdateCoalescer.CoalescedUpdate update) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        int count;
+        try {
+            conn = datasource.getSQLConnection();
+            stmt = conn.prepareStatement(query);
+            createProcessedStatement(conn, stmt, update.getParameters(), datasource.getDatabaseProductName());
+            count = stmt.executeUpdate();
+        } catch (Throwable e) {
+            update.fail(new BallerinaException("execute update failed: " + e.getMessage(), e));
+            return;
+        } finally {
+            SQLDatasourceUtils.cleanupResources(stmt, conn, false);
+        }
+        update.complete(count);
+    }
+
+    private void rollback(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            // The connection is discarded by the pool if it is broken
+        }
+    }
+
     protected void executeUpdateWithKeys(Context context, SQLDatasource datasource, String query,
             BStringArray keyColumns, BRefValueArray parameters) {
         Connection conn = null;
@@ -168,7 +309,7 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         try {
             BRefValueArray generatedParams = constructParameters(context, parameters);
             conn = SQLDatasourceUtils.getDatabaseConnection(context, datasource, isInTransaction);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = createProcessedQueryString(datasource, query, generatedParams);
             int keyColumnCount = 0;
             if (keyColumns != null) {
                 keyColumnCount = (int) keyColumns.size();
@@ -372,33 +513,53 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
 
     /**
      * If there are any arrays of parameter for types other than sql array, the given query is expanded by adding "?" s
-     * to match with the array size.
+     * to match with the array size. Expanded queries are cached in the datasource by the sizes of the arrays.
      */
-    private String createProcessedQueryString(String query, BRefValueArray parameters) {
-        String currentQuery = query;
-        if (parameters != null) {
-            int start = 0;
-            Object[] vals;
-            int count;
-            int paramCount = (int) parameters.size();
-            for (int i = 0; i < paramCount; i++) {
-                // types.bal Parameter
-                BMap<String, BValue> paramValue = (BMap<String, BValue>) parameters.get(i);
-                if (paramValue != null) {
-                    String sqlType = getSQLType(paramValue);
-                    BValue value = paramValue.get(PARAMETER_VALUE_FIELD);
-                    if (value != null && (value.getType().getTag() == TypeTags.ARRAY_TAG
-                            && ((BArrayType) value.getType()).getElementType().getTag() != TypeTags.BYTE_TAG)
-                            && !Constants.SQLDataTypes.ARRAY.equalsIgnoreCase(sqlType)) {
-                        count = (int) ((BNewArray) value).size();
-                    } else {
-                        count = 1;
-                    }
-                    vals = this.expandQuery(start, count, currentQuery);
-                    start = (Integer) vals[0];
-                    currentQuery = (String) vals[1];
+    private String createProcessedQueryString(SQLDatasource datasource, String query, BRefValueArray parameters) {
+        if (parameters == null) {
+            return query;
+        }
+        int paramCount = (int) parameters.size();
+        int[] parameterShape = new int[paramCount];
+        boolean expansionRequired = false;
+        for (int i = 0; i < paramCount; i++) {
+            // types.bal Parameter
+            BMap<String, BValue> paramValue = (BMap<String, BValue>) parameters.get(i);
+            if (paramValue != null) {
+                String sqlType = getSQLType(paramValue);
+                BValue value = paramValue.get(PARAMETER_VALUE_FIELD);
+                if (value != null && (value.getType().getTag() == TypeTags.ARRAY_TAG
+                        && ((BArrayType) value.getType()).getElementType().getTag() != TypeTags.BYTE_TAG)
+                        && !Constants.SQLDataTypes.ARRAY.equalsIgnoreCase(sqlType)) {
+                    parameterShape[i] = (int) ((BNewArray) value).size();
+                    expansionRequired = true;
+                } else {
+                    parameterShape[i] = 1;
                 }
+            } else {
+                parameterShape[i] = -1;
+            }
+        }
+        if (!expansionRequired) {
+            // Each "?" is replaced with a single "?", hence the query does not change
+            return query;
+        }
+        return datasource.getProcessedQueryCache()
+                .getProcessedQuery(query, parameterShape, () -> expandQuery(query, parameterShape));
+    }
+
+    private String expandQuery(String query, int[] parameterShape) {
+        String currentQuery = query;
+        int start = 0;
+        Object[] vals;
+        for (int count : parameterShape) {
+            // A null parameter does not take a "?" of the query
+            if (count < 0) {
+                continue;
             }
+            vals = this.expandQuery(start, count, currentQuery);
+            start = (Integer) vals[0];
+            currentQuery = (String) vals[1];
         }
         return currentQuery;
     }
@@ -448,10 +609,11 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
     private PreparedStatement getPreparedStatement(Connection conn, SQLDatasource datasource, String query,
             boolean loadToMemory) throws SQLException {
         PreparedStatement stmt;
-        boolean mysql = datasource.getDatabaseProductName().contains("mysql");
+        int fetchSize = datasource.getFetchSize();
         /* In MySQL by default, ResultSets are completely retrieved and stored in memory.
-           Following properties are set to stream the results back one row at a time.*/
-        if (mysql && !loadToMemory) {
+           Following properties are set to stream the results back one row at a time, unless a fetch size is given
+           in which case the rows are fetched through a cursor.*/
+        if (datasource.isMySQL() && !loadToMemory && fetchSize <= 0) {
             stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
             // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
             try {
@@ -461,6 +623,15 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
             }
         } else {
             stmt = conn.prepareStatement(query);
+            if (fetchSize > 0) {
+                // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
+                try {
+                    stmt.setFetchSize(fetchSize);
+                } catch (SQLException e) {
+                    stmt.close();
+                    throw e;
+                }
+            }
         }
         return stmt;
     }
@@ -468,8 +639,7 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
     private CallableStatement getPreparedCall(Connection conn, SQLDatasource datasource, String query,
             BRefValueArray parameters) throws SQLException {
         CallableStatement stmt;
-        boolean mysql = datasource.getDatabaseProductName().contains("mysql");
-        if (mysql) {
+        if (datasource.isMySQL()) {
             stmt = conn.prepareCall(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
             /* Only stream if there aren't any OUT parameters since can't use streaming result sets with callable
                statements that have output parameters */
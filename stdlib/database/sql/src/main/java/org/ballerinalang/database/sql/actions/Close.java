@@ -49,4 +49,13 @@ public class Close extends AbstractSQLAction {
         SQLDatasource datasource = (SQLDatasource) bConnector.getNativeData(Constants.CALLER_ACTIONS);
         closeConnections(datasource);
     }
+
+    /**
+     * Closing is not queued behind the pending actions of the datasource, hence it is always executed in the calling
+     * worker.
+     */
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
 }
@@ -18,10 +18,13 @@
 package org.ballerinalang.database.sql.actions;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.CallableUnitCallback;
 import org.ballerinalang.database.sql.Constants;
 import org.ballerinalang.database.sql.SQLDatasource;
 import org.ballerinalang.database.sql.SQLDatasourceUtils;
+import org.ballerinalang.database.sql.UpdateCoalescer;
 import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BRefValueArray;
 import org.ballerinalang.model.values.BValue;
@@ -29,6 +32,10 @@ import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.Receiver;
 import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.ballerinalang.util.BLangConstants.BALLERINA_BUILTIN_PKG;
 
@@ -62,11 +69,82 @@ public class Update extends AbstractSQLAction {
             SQLDatasource datasource = (SQLDatasource) bConnector.getNativeData(Constants.CALLER_ACTIONS);
 
             checkAndObserveSQLAction(context, datasource, query);
-            executeUpdate(context, datasource, query, parameters);
+            if (isCoalesced(context, datasource)) {
+                CompletableFuture<Integer> result = new CompletableFuture<>();
+                executeCoalescedUpdate(context, datasource, query, parameters, new UpdateCoalescer.UpdateCallback() {
+                    @Override
+                    public void onSuccess(int updatedCount) {
+                        result.complete(updatedCount);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable error) {
+                        result.completeExceptionally(error);
+                    }
+                });
+                context.setReturnValues(new BInteger(waitForResult(result)));
+            } else {
+                executeUpdate(context, datasource, query, parameters);
+            }
         } catch (Throwable e) {
-            context.setReturnValues(SQLDatasourceUtils.getSQLConnectorError(context, e));
-            SQLDatasourceUtils.handleErrorOnTransaction(context);
-            checkAndObserveSQLError(context, e.getMessage());
+            handleError(context, e);
+        }
+    }
+
+    /**
+     * Update calls which are coalesced suspend the worker until their batch is executed, without holding a thread.
+     * Other calls are executed as any other action.
+     */
+    @Override
+    public void execute(Context context, CallableUnitCallback callback) {
+        BMap<String, BValue> bConnector = (BMap<String, BValue>) context.getRefArgument(0);
+        SQLDatasource datasource = (SQLDatasource) bConnector.getNativeData(Constants.CALLER_ACTIONS);
+        if (callback == null || !isCoalesced(context, datasource)) {
+            super.execute(context, callback);
+            return;
         }
+        try {
+            String query = context.getStringArgument(0);
+            BRefValueArray parameters = (BRefValueArray) context.getNullableRefArgument(1);
+            checkAndObserveSQLAction(context, datasource, query);
+            executeCoalescedUpdate(context, datasource, query, parameters, new UpdateCoalescer.UpdateCallback() {
+                @Override
+                public void onSuccess(int updatedCount) {
+                    context.setReturnValues(new BInteger(updatedCount));
+                    callback.notifySuccess();
+                }
+
+                @Override
+                public void onFailure(Throwable error) {
+                    handleError(context, error);
+                    callback.notifySuccess();
+                }
+            });
+        } catch (Throwable e) {
+            handleError(context, e);
+            callback.notifySuccess();
+        }
+    }
+
+    private boolean isCoalesced(Context context, SQLDatasource datasource) {
+        UpdateCoalescer updateCoalescer = datasource.getUpdateCoalescer();
+        return updateCoalescer != null && updateCoalescer.isEnabled() && !context.isInTransaction();
+    }
+
+    private int waitForResult(CompletableFuture<Integer> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw new BallerinaException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaException("interrupted while waiting for the update to complete", e);
+        }
+    }
+
+    private void handleError(Context context, Throwable e) {
+        context.setReturnValues(SQLDatasourceUtils.getSQLConnectorError(context, e));
+        SQLDatasourceUtils.handleErrorOnTransaction(context);
+        checkAndObserveSQLError(context, e.getMessage());
     }
 }
@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import org.ballerinalang.net.grpc.exception.UnsupportedFieldTypeException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proto Message Codec.
+ * Contains the fields of a message type compiled once from its descriptor, so that encoding and decoding a message
+ * does not process the descriptor again. Fields are looked up by the tag read from the wire through an array indexed
+ * by the tag, and each field keeps its pre-computed tag and tag size.
+ *
+ * @since 0.976.1
+ */
+class MessageCodec {
+
+    /**
+     * Tags up to this value are looked up through the array, since field numbers are usually small.
+     */
+    private static final int MAX_INDEXED_TAG = 1024;
+
+    private final FieldCodec[] fields;
+
+    private final FieldCodec[] indexedFields;
+
+    private final Map<Integer, FieldCodec> otherFields = new HashMap<>();
+
+    MessageCodec(Descriptors.Descriptor messageDescriptor) {
+        List<Descriptors.FieldDescriptor> fieldDescriptors = messageDescriptor.getFields();
+        fields = new FieldCodec[fieldDescriptors.size()];
+        int maxTag = 0;
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = new FieldCodec(fieldDescriptors.get(i));
+            maxTag = Math.max(maxTag, fields[i].tag);
+        }
+        indexedFields = new FieldCodec[Math.min(maxTag, MAX_INDEXED_TAG) + 1];
+        for (FieldCodec field : fields) {
+            // tags of the largest field numbers overflow to negative values
+            if (field.tag >= 0 && field.tag < indexedFields.length) {
+                indexedFields[field.tag] = field;
+            } else {
+                otherFields.put(field.tag, field);
+            }
+        }
+    }
+
+    /**
+     * Returns the fields of the message in the order of the descriptor.
+     */
+    FieldCodec[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the field which is encoded with the given tag, or null if the message does not have such a field.
+     */
+    FieldCodec getField(int tag) {
+        if (tag >= 0 && tag < indexedFields.length) {
+            return indexedFields[tag];
+        }
+        return otherFields.get(tag);
+    }
+
+    /**
+     * Encodes and decodes the values of a single message field.
+     */
+    static class FieldCodec {
+        private final Descriptors.FieldDescriptor fieldDescriptor;
+        private final String name;
+        private final int type;
+        private final int tag;
+        private final int tagSize;
+        private final boolean repeated;
+        private final String messageTypeName;
+
+        private FieldCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            this.fieldDescriptor = fieldDescriptor;
+            this.name = fieldDescriptor.getName();
+            this.type = fieldDescriptor.getType().toProto().getNumber();
+            this.tag = (fieldDescriptor.getNumber() << 3)
+                    + MessageUtils.getFieldWireType(fieldDescriptor.getType());
+            this.tagSize = CodedOutputStream.computeUInt32SizeNoTag(tag);
+            this.repeated = fieldDescriptor.isRepeated();
+            this.messageTypeName = type == DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE ?
+                    fieldDescriptor.getMessageType().getName() : null;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean isRepeated() {
+            return repeated;
+        }
+
+        /**
+         * Reads a single value of the field, after its tag was read.
+         */
+        Object read(CodedInputStream input) throws IOException {
+            switch (type) {
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
+                    return input.readDouble();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE:
+                    return input.readFloat();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+                    return input.readInt64();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE:
+                    return input.readUInt64();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE:
+                    return input.readInt32();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE:
+                    return input.readFixed64();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE:
+                    return input.readFixed32();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE:
+                    return input.readBool();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE:
+                    return input.readStringRequireUtf8();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE:
+                    return input.readEnum();
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
+                    int length = input.readRawVarint32();
+                    final int oldLimit = input.pushLimit(length);
+                    Message message = new Message(messageTypeName, input);
+                    input.popLimit(oldLimit);
+                    return message;
+                }
+                default:
+                    throw new UnsupportedFieldTypeException("Error while decoding request message. Field " +
+                            "type is not supported : " + fieldDescriptor.getType());
+            }
+        }
+
+        /**
+         * Writes a single value of the field along with its tag.
+         */
+        void write(CodedOutputStream output, Object value) throws IOException {
+            output.writeUInt32NoTag(tag);
+            switch (type) {
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
+                    output.writeDoubleNoTag(((Number) value).doubleValue());
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE:
+                    output.writeFloatNoTag(((Number) value).floatValue());
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+                    output.writeInt64NoTag(((Number) value).longValue());
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE:
+                    output.writeUInt64NoTag(((Number) value).longValue());
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE:
+                    output.writeInt32NoTag(((Number) value).intValue());
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE:
+                    output.writeFixed64NoTag(((Number) value).longValue());
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE:
+                    output.writeFixed32NoTag(((Number) value).intValue());
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE:
+                    output.writeBoolNoTag((Boolean) value);
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE:
+                    if (value instanceof String) {
+                        output.writeStringNoTag((String) value);
+                    } else {
+                        output.writeBytesNoTag((ByteString) value);
+                    }
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE:
+                    output.writeEnumNoTag(((Descriptors.EnumValueDescriptor) value).getNumber());
+                    break;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
+                    Message message = (Message) value;
+                    output.writeUInt32NoTag(message.getSerializedSize());
+                    message.writeTo(output);
+                    break;
+                }
+                default:
+                    throw new UnsupportedFieldTypeException("Error while writing output stream. Field " +
+                            "type is not supported : " + fieldDescriptor.getType());
+            }
+        }
+
+        /**
+         * Computes the serialized size of a single value of the field along with its tag.
+         */
+        int computeSize(Object value) {
+            switch (type) {
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE:
+                    return tagSize + 8;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE:
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE:
+                    return tagSize + 4;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE:
+                    return tagSize + 1;
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+                    return tagSize + CodedOutputStream.computeInt64SizeNoTag(((Number) value).longValue());
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE:
+                    return tagSize + CodedOutputStream.computeUInt64SizeNoTag(((Number) value).longValue());
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE:
+                    return tagSize + CodedOutputStream.computeInt32SizeNoTag(((Number) value).intValue());
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE:
+                    if (value instanceof String) {
+                        return tagSize + CodedOutputStream.computeStringSizeNoTag((String) value);
+                    }
+                    return tagSize + CodedOutputStream.computeBytesSizeNoTag((ByteString) value);
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE:
+                    return tagSize + CodedOutputStream.computeEnumSizeNoTag(
+                            ((Descriptors.EnumValueDescriptor) value).getNumber());
+                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
+                    int messageSize = ((Message) value).getSerializedSize();
+                    return tagSize + CodedOutputStream.computeUInt32SizeNoTag(messageSize) + messageSize;
+                }
+                default:
+                    throw new UnsupportedFieldTypeException("Error while calculating the serialized type. Field " +
+                            "type is not supported : " + fieldDescriptor.getType());
+            }
+        }
+    }
+}
@@ -157,6 +157,11 @@ public class MessageFramer {
         // Allocate the initial buffer chunk based on frame header + payload length.
         if (buffer == null) {
             buffer = ByteBuffer.allocate(header.position() + messageLength);
+            if (message instanceof ProtoInputStream) {
+                // Serialize the message directly into the frame, since it fits in the buffer.
+                buffer.put(headerScratch, 0, header.position());
+                return ((ProtoInputStream) message).drainTo(buffer);
+            }
         }
         writeRaw(headerScratch, 0, header.position());
         return writeToOutputStream(message, outputStreamAdapter);
@@ -23,7 +23,7 @@ import java.util.Map;
 
 /**
  * Proto Message Registry.
- * Contains message descriptor against message name.
+ * Contains message descriptor against message name, along with the codec compiled from the descriptor.
  *
  * @since 1.0.0
  */
@@ -31,6 +31,8 @@ public class MessageRegistry {
 
     private Map<String, Descriptors.Descriptor> messageDescriptors = new HashMap<>();
 
+    private Map<String, MessageCodec> messageCodecs = new HashMap<>();
+
     private static volatile MessageRegistry messageRegistry = new MessageRegistry();
 
     private MessageRegistry() {}
@@ -41,12 +43,17 @@ public class MessageRegistry {
 
     void addMessageDescriptor(String messageName, Descriptors.Descriptor messageDescriptor) {
         messageDescriptors.put(messageName, messageDescriptor);
+        messageCodecs.put(messageName, new MessageCodec(messageDescriptor));
     }
 
     public Descriptors.Descriptor getMessageDescriptor(String messageName) {
         return messageDescriptors.get(messageName);
     }
 
+    MessageCodec getMessageCodec(String messageName) {
+        return messageCodecs.get(messageName);
+    }
+
     public Map<String, Descriptors.Descriptor> getMessageDescriptorMap() {
         return Collections.unmodifiableMap(messageDescriptors);
     }
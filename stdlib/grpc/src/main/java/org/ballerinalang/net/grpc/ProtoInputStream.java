@@ -23,6 +23,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import static com.google.protobuf.CodedOutputStream.DEFAULT_BUFFER_SIZE;
 
@@ -121,4 +122,28 @@ class ProtoInputStream extends InputStream implements Drainable, KnownLength {
         }
         return written;
     }
+
+    /**
+     * Writes the message directly into the given heap buffer, which should have space for the whole message.
+     *
+     * @param target buffer which the message is written to.
+     * @return number of bytes written.
+     * @throws IOException if an error occurred while serializing the message.
+     */
+    int drainTo(ByteBuffer target) throws IOException {
+        int start = target.position();
+        if (message != null) {
+            final CodedOutputStream codedOutput = CodedOutputStream.newInstance(target);
+            message.writeTo(codedOutput);
+            codedOutput.flush();
+            message = null;
+        } else if (partial != null) {
+            int count = partial.read(target.array(), target.arrayOffset() + start, target.remaining());
+            if (count > 0) {
+                target.position(start + count);
+            }
+            partial = null;
+        }
+        return target.position() - start;
+    }
 }
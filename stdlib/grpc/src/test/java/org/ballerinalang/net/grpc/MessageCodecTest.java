@@ -0,0 +1,270 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.transport.http.netty.message.HTTPCarbonMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for encoding and decoding messages with the codecs compiled from their descriptors.
+ */
+public class MessageCodecTest {
+
+    private static final String ALL_TYPES = "AllTypes";
+    private static final String INNER = "Inner";
+    private static final String COLOR = "Color";
+
+    // field numbers whose tags are above the indexed range, including the largest valid field number
+    private static final int LARGE_FIELD_NUMBER = 2000;
+    private static final int LARGEST_FIELD_NUMBER = (1 << 29) - 1;
+
+    private Descriptors.Descriptor allTypesDescriptor;
+    private Descriptors.Descriptor innerDescriptor;
+    private Descriptors.EnumDescriptor colorDescriptor;
+
+    @BeforeClass
+    public void setup() throws Descriptors.DescriptorValidationException {
+        FileDescriptorProto fileProto = FileDescriptorProto.newBuilder()
+                .setName("message_codec_test.proto")
+                .setSyntax("proto3")
+                .addEnumType(EnumDescriptorProto.newBuilder().setName(COLOR)
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("RED").setNumber(0))
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("GREEN").setNumber(1))
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("BLUE").setNumber(200)))
+                .addMessageType(DescriptorProto.newBuilder().setName(INNER)
+                        .addField(field("name", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(field("id", 2, FieldDescriptorProto.Type.TYPE_INT64)))
+                .addMessageType(DescriptorProto.newBuilder().setName(ALL_TYPES)
+                        .addField(field("doubleValue", 1, FieldDescriptorProto.Type.TYPE_DOUBLE))
+                        .addField(field("floatValue", 2, FieldDescriptorProto.Type.TYPE_FLOAT))
+                        .addField(field("int64Value", 3, FieldDescriptorProto.Type.TYPE_INT64))
+                        .addField(field("uint64Value", 4, FieldDescriptorProto.Type.TYPE_UINT64))
+                        .addField(field("int32Value", 5, FieldDescriptorProto.Type.TYPE_INT32))
+                        .addField(field("fixed64Value", 6, FieldDescriptorProto.Type.TYPE_FIXED64))
+                        .addField(field("fixed32Value", 7, FieldDescriptorProto.Type.TYPE_FIXED32))
+                        .addField(field("boolValue", 8, FieldDescriptorProto.Type.TYPE_BOOL))
+                        .addField(field("stringValue", 9, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(field("color", 10, FieldDescriptorProto.Type.TYPE_ENUM).setTypeName(COLOR))
+                        .addField(field("inner", 11, FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(INNER))
+                        .addField(repeatedField("int32Values", 12, FieldDescriptorProto.Type.TYPE_INT32))
+                        .addField(repeatedField("stringValues", 13, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(repeatedField("inners", 14, FieldDescriptorProto.Type.TYPE_MESSAGE)
+                                .setTypeName(INNER))
+                        .addField(repeatedField("colors", 15, FieldDescriptorProto.Type.TYPE_ENUM)
+                                .setTypeName(COLOR))
+                        .addField(field("largeNumber", LARGE_FIELD_NUMBER, FieldDescriptorProto.Type.TYPE_INT64))
+                        .addField(field("largestNumber", LARGEST_FIELD_NUMBER,
+                                FieldDescriptorProto.Type.TYPE_STRING)))
+                .build();
+        Descriptors.FileDescriptor fileDescriptor = Descriptors.FileDescriptor.buildFrom(fileProto,
+                new Descriptors.FileDescriptor[0]);
+        allTypesDescriptor = fileDescriptor.findMessageTypeByName(ALL_TYPES);
+        innerDescriptor = fileDescriptor.findMessageTypeByName(INNER);
+        colorDescriptor = fileDescriptor.findEnumTypeByName(COLOR);
+
+        MessageRegistry messageRegistry = MessageRegistry.getInstance();
+        messageRegistry.addMessageDescriptor(ALL_TYPES, allTypesDescriptor);
+        MessageUtils.setNestedMessages(allTypesDescriptor, messageRegistry);
+    }
+
+    @Test(description = "Test encoding a message with every supported field type and decoding it back")
+    public void testRoundTrip() throws IOException {
+        Message message = createAllTypesMessage();
+        byte[] encoded = message.toByteArray();
+        Assert.assertEquals(encoded.length, message.getSerializedSize());
+
+        Map<String, Object> fields = decode(encoded).getFields();
+        Assert.assertEquals(fields.get("doubleValue"), 12.5D);
+        Assert.assertEquals(fields.get("floatValue"), 1.25F);
+        Assert.assertEquals(fields.get("int64Value"), -3L);
+        Assert.assertEquals(fields.get("uint64Value"), -1L);
+        Assert.assertEquals(fields.get("int32Value"), -7);
+        Assert.assertEquals(fields.get("fixed64Value"), Long.MAX_VALUE);
+        Assert.assertEquals(fields.get("fixed32Value"), 42);
+        Assert.assertEquals(fields.get("boolValue"), true);
+        Assert.assertEquals(fields.get("stringValue"), "grpc \u00e9");
+        // enum values are decoded as their numbers
+        Assert.assertEquals(fields.get("color"), 200);
+        assertInner(fields.get("inner"), "first", 1L);
+        Assert.assertEquals(fields.get("int32Values"), Arrays.asList(1, -1, 300));
+        Assert.assertEquals(fields.get("stringValues"), Arrays.asList("a", "", "c"));
+        List<?> inners = (List<?>) fields.get("inners");
+        Assert.assertEquals(inners.size(), 2);
+        assertInner(inners.get(0), "second", 2L);
+        assertInner(inners.get(1), "third", 3L);
+        Assert.assertEquals(fields.get("colors"), Arrays.asList(1, 0, 200));
+        Assert.assertEquals(fields.get("largeNumber"), 5000000000L);
+        Assert.assertEquals(fields.get("largestNumber"), "largest");
+    }
+
+    @Test(description = "Test that the encoding of a message can be read by the protobuf library")
+    public void testEncodingMatchesProtobuf() throws IOException {
+        DynamicMessage parsed = DynamicMessage.parseFrom(allTypesDescriptor, createAllTypesMessage().toByteArray());
+        Assert.assertTrue(parsed.getUnknownFields().asMap().isEmpty());
+        Assert.assertEquals(parsed.getField(allTypesDescriptor.findFieldByName("uint64Value")), -1L);
+        Assert.assertEquals(parsed.getField(allTypesDescriptor.findFieldByName("color")),
+                colorDescriptor.findValueByNumber(200));
+        Assert.assertEquals(parsed.getField(allTypesDescriptor.findFieldByName("stringValue")), "grpc \u00e9");
+        Assert.assertEquals(parsed.getField(allTypesDescriptor.findFieldByName("int32Values")),
+                Arrays.asList(1, -1, 300));
+        Assert.assertEquals(parsed.getField(allTypesDescriptor.findFieldByName("colors")),
+                Arrays.asList(colorDescriptor.findValueByNumber(1), colorDescriptor.findValueByNumber(0),
+                        colorDescriptor.findValueByNumber(200)));
+        DynamicMessage inner = (DynamicMessage) parsed.getField(allTypesDescriptor.findFieldByName("inner"));
+        Assert.assertEquals(inner.getField(innerDescriptor.findFieldByName("name")), "first");
+        Assert.assertEquals(parsed.getField(allTypesDescriptor.findFieldByName("largeNumber")), 5000000000L);
+        Assert.assertEquals(parsed.getField(allTypesDescriptor.findFieldByName("largestNumber")), "largest");
+        Assert.assertEquals(parsed.getSerializedSize(), createAllTypesMessage().getSerializedSize());
+    }
+
+    @Test(description = "Test that fields which are not in the descriptor are skipped while decoding")
+    public void testSkipUnknownFields() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        // unknown fields of every wire type, around the known ones
+        output.writeInt64(100, 7L);
+        output.writeInt32(3, 11);
+        output.writeFixed64(101, 8L);
+        output.writeString(102, "unknown");
+        output.writeString(9, "known");
+        output.writeFixed32(103, 9);
+        output.writeBytes(104, ByteString.copyFromUtf8("unknown bytes"));
+        output.writeInt64(LARGE_FIELD_NUMBER + 1, 10L);
+        output.writeInt64(LARGE_FIELD_NUMBER, 12L);
+        output.flush();
+
+        Map<String, Object> fields = decode(out.toByteArray()).getFields();
+        Assert.assertEquals(fields.size(), 3);
+        Assert.assertEquals(fields.get("int64Value"), 11L);
+        Assert.assertEquals(fields.get("stringValue"), "known");
+        Assert.assertEquals(fields.get("largeNumber"), 12L);
+    }
+
+    @Test(description = "Test serializing a message straight into a frame buffer")
+    public void testDrainToBuffer() throws IOException {
+        Message message = createAllTypesMessage();
+        int size = message.getSerializedSize();
+        ByteBuffer buffer = ByteBuffer.allocate(size + 5);
+        buffer.position(5);
+        int written = new ProtoInputStream(message).drainTo(buffer);
+        Assert.assertEquals(written, size);
+        Assert.assertEquals(buffer.position(), size + 5);
+        Assert.assertEquals(Arrays.copyOfRange(buffer.array(), 5, size + 5), message.toByteArray());
+    }
+
+    @Test(description = "Test framing a message with a known length")
+    public void testFramedMessage() throws IOException {
+        Message message = createAllTypesMessage();
+        HTTPCarbonMessage carbonMessage = MessageUtils.createHttpCarbonMessage(false);
+        MessageFramer framer = new MessageFramer(carbonMessage);
+        framer.writePayload(new ProtoInputStream(message));
+        framer.close();
+
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        HttpContent content;
+        do {
+            content = carbonMessage.getHttpContent();
+            ByteBuf buf = content.content();
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            frame.write(bytes);
+        } while (!(content instanceof LastHttpContent));
+
+        ByteBuffer framed = ByteBuffer.wrap(frame.toByteArray());
+        Assert.assertEquals(framed.get(), 0, "the message should not be compressed");
+        int length = framed.getInt();
+        Assert.assertEquals(length, message.getSerializedSize());
+        Assert.assertEquals(framed.remaining(), length);
+        byte[] payload = new byte[length];
+        framed.get(payload);
+        Assert.assertEquals(payload, message.toByteArray());
+    }
+
+    private Message createAllTypesMessage() {
+        Message message = new Message(ALL_TYPES);
+        message.addField("doubleValue", 12.5D);
+        message.addField("floatValue", 1.25F);
+        message.addField("int64Value", -3L);
+        message.addField("uint64Value", -1L);
+        message.addField("int32Value", -7);
+        message.addField("fixed64Value", Long.MAX_VALUE);
+        message.addField("fixed32Value", 42);
+        message.addField("boolValue", true);
+        message.addField("stringValue", "grpc \u00e9");
+        message.addField("color", colorDescriptor.findValueByNumber(200));
+        message.addField("inner", createInner("first", 1L));
+        message.addField("int32Values", new Integer[]{1, -1, 300});
+        message.addField("stringValues", new String[]{"a", "", "c"});
+        message.addField("inners", new Message[]{createInner("second", 2L), createInner("third", 3L)});
+        message.addField("colors", new Descriptors.EnumValueDescriptor[]{colorDescriptor.findValueByNumber(1),
+                colorDescriptor.findValueByNumber(0), colorDescriptor.findValueByNumber(200)});
+        message.addField("largeNumber", 5000000000L);
+        message.addField("largestNumber", "largest");
+        return message;
+    }
+
+    private Message createInner(String name, long id) {
+        Message inner = new Message(INNER);
+        inner.addField("name", name);
+        inner.addField("id", id);
+        return inner;
+    }
+
+    private Message decode(byte[] encoded) throws IOException {
+        return new Message(ALL_TYPES, CodedInputStream.newInstance(encoded));
+    }
+
+    private void assertInner(Object value, String name, long id) {
+        Map<String, Object> fields = ((Message) value).getFields();
+        Assert.assertEquals(fields.get("name"), name);
+        Assert.assertEquals(fields.get("id"), id);
+    }
+
+    private static FieldDescriptorProto.Builder field(String name, int number, FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder().setName(name).setNumber(number).setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+    }
+
+    private static FieldDescriptorProto.Builder repeatedField(String name, int number,
+                                                              FieldDescriptorProto.Type type) {
+        // the codec writes repeated scalars one value per tag, so the fields are declared as not packed
+        return field(name, number, type).setLabel(FieldDescriptorProto.Label.LABEL_REPEATED)
+                .setOptions(FieldOptions.newBuilder().setPacked(false));
+    }
+}
@@ -59,6 +59,12 @@ public type HttpCache object {
                 byte[] => {}
                 error => {}
             }
+            // The payload is kept in the off heap response body store while the response is cached. If the store
+            // has run out of space, the response is not cached.
+            if (!moveBodyOffHeap(inboundResponse)) {
+                log:printDebug("Response body store is full, not caching the response for: " + key);
+                return;
+            }
             log:printDebug("Adding new cache entry for: " + key);
             addEntry(cache, key, inboundResponse);
         }
@@ -135,6 +141,7 @@ function createHttpCache (string name, CacheConfig cacheConfig) returns HttpCach
     HttpCache httpCache = new;
     cache:Cache backingCache = new(expiryTimeMillis = cacheConfig.expiryTimeMillis, capacity = cacheConfig.capacity,
                                      evictionFactor = cacheConfig.evictionFactor);
+    releaseBodiesOnRemoval(backingCache);
     httpCache.cache = backingCache;
     httpCache.policy = cacheConfig.policy;
     httpCache.isShared = cacheConfig.isShared;
@@ -164,6 +171,21 @@ function addEntry (cache:Cache cache, string key, Response inboundResponse) {
     }
 }
 
+documentation {
+    Moves the binary payload of a response to the off heap response body store.
+
+    P{{response}} The response which is about to be cached
+    R{{}} false if the payload does not fit in the remaining space of the store, true otherwise
+}
+native function moveBodyOffHeap (Response response) returns boolean;
+
+documentation {
+    Releases the off heap payloads of cached responses when they are evicted, removed or replaced in the cache.
+
+    P{{cache}} The cache which holds the responses
+}
+native function releaseBodiesOnRemoval (cache:Cache cache);
+
 function weakValidatorEquals (string etag1, string etag2) returns boolean {
     string validatorPortion1 = etag1.hasPrefix(WEAK_VALIDATOR_TAG) ? etag1.substring(2, lengthof etag1) : etag1;
     string validatorPortion2 = etag2.hasPrefix(WEAK_VALIDATOR_TAG) ? etag2.substring(2, lengthof etag2) : etag2;
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.http;
+
+/**
+ * Segment trie of the service base paths registered under a host. A lookup walks the request path once, comparing
+ * each path segment case insensitively in place, and returns the longest registered base path which is a prefix of
+ * the request path on a segment boundary.
+ * <p>
+ * Base paths are added while services are being registered, possibly while requests are being dispatched. Lookups
+ * do not lock; a child table is replaced as a whole when a new segment is added.
+ *
+ * @since 0.976.1
+ */
+class BasePathTrie {
+
+    private final Node root = new Node(null, 0);
+
+    /**
+     * Add a base path to the trie.
+     *
+     * @param basePath sanitized base path of a service, starting with '/'
+     */
+    synchronized void add(String basePath) {
+        Node node = root;
+        int length = basePath.length();
+        int start = basePath.startsWith(HttpConstants.DEFAULT_BASE_PATH) ? 1 : 0;
+        while (start < length) {
+            int end = basePath.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.getOrAddChild(basePath, start, end);
+            start = end + 1;
+        }
+        node.basePath = basePath;
+    }
+
+    /**
+     * Find the most specific base path for the given request path.
+     *
+     * @param path decoded request path
+     * @return the longest matching base path or null if none of the base paths match
+     */
+    String findMostSpecificBasePath(String path) {
+        Node node = root;
+        String basePath = root.basePath;
+        int length = path.length();
+        int start = path.startsWith(HttpConstants.DEFAULT_BASE_PATH) ? 1 : 0;
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.getChild(path, start, end);
+            if (node == null) {
+                break;
+            }
+            if (node.basePath != null) {
+                basePath = node.basePath;
+            }
+            start = end + 1;
+        }
+        return basePath;
+    }
+
+    private static int hash(String str, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            // same folding as String.regionMatches(true, ...) so that equal segments hash the same
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(str.charAt(i)));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A path segment. Children are kept in an open addressed table keyed by the case folded segment hash.
+     */
+    private static class Node {
+
+        private final String segment;
+        private final int hash;
+        private volatile Node[] children = new Node[4];
+        private int childCount;
+        private volatile String basePath;
+
+        private Node(String segment, int hash) {
+            this.segment = segment;
+            this.hash = hash;
+        }
+
+        private boolean matches(String str, int start, int end, int hash) {
+            return this.hash == hash && segment.length() == end - start &&
+                    segment.regionMatches(true, 0, str, start, end - start);
+        }
+
+        private Node getChild(String str, int start, int end) {
+            Node[] table = children;
+            int hash = hash(str, start, end);
+            int mask = table.length - 1;
+            for (int i = hash & mask; table[i] != null; i = (i + 1) & mask) {
+                if (table[i].matches(str, start, end, hash)) {
+                    return table[i];
+                }
+            }
+            return null;
+        }
+
+        private Node getOrAddChild(String str, int start, int end) {
+            Node child = getChild(str, start, end);
+            if (child != null) {
+                return child;
+            }
+            child = new Node(str.substring(start, end), hash(str, start, end));
+            Node[] table = children;
+            int capacity = (childCount + 1) * 2 > table.length ? table.length * 2 : table.length;
+            Node[] newTable = new Node[capacity];
+            for (Node node : table) {
+                if (node != null) {
+                    insert(newTable, node);
+                }
+            }
+            insert(newTable, child);
+            childCount++;
+            children = newTable;
+            return child;
+        }
+
+        private static void insert(Node[] table, Node node) {
+            int mask = table.length - 1;
+            int i = node.hash & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = node;
+        }
+    }
+}
@@ -32,7 +32,6 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
 
@@ -48,7 +47,6 @@ public class HTTPServicesRegistry {
 
     protected Map<String, ServicesMapHolder> servicesMapByHost = new ConcurrentHashMap<>();
     protected Map<String, HttpService> servicesByBasePath;
-    protected List<String> sortedServiceURIs;
     private final WebSocketServicesRegistry webSocketServicesRegistry;
 
     public HTTPServicesRegistry(WebSocketServicesRegistry webSocketServicesRegistry) {
@@ -85,16 +83,6 @@ public class HTTPServicesRegistry {
         return servicesMapByHost.get(hostName).servicesByBasePath;
     }
 
-    /**
-     * Get sortedServiceURIs list for given host name.
-     *
-     * @param hostName of the service
-     * @return the sorted basePath list if exists else null
-     */
-    public List<String> getSortedServiceURIsByHost(String hostName) {
-        return servicesMapByHost.get(hostName).sortedServiceURIs;
-    }
-
     /**
      * Register a service into the map.
      *
@@ -107,11 +95,9 @@ public class HTTPServicesRegistry {
             String hostName = httpService.getHostName();
             if (servicesMapByHost.get(hostName) == null) {
                 servicesByBasePath = new ConcurrentHashMap<>();
-                sortedServiceURIs = new CopyOnWriteArrayList<>();
-                servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath, sortedServiceURIs));
+                servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath));
             } else {
                 servicesByBasePath = getServicesByHost(hostName);
-                sortedServiceURIs = getSortedServiceURIsByHost(hostName);
             }
 
             String basePath = httpService.getBasePath();
@@ -125,12 +111,21 @@ public class HTTPServicesRegistry {
             logger.info(errLog);
 
             //basePath will get cached after registering service
-            sortedServiceURIs.add(basePath);
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            cacheBasePath(hostName, basePath);
             registerUpgradableWebSocketService(httpService);
         }
     }
 
+    /**
+     * Cache the base path of a registered service so that it can be matched against request paths.
+     *
+     * @param hostName host name of the service
+     * @param basePath base path of the service
+     */
+    protected void cacheBasePath(String hostName, String basePath) {
+        servicesMapByHost.get(hostName).basePathTrie.add(basePath);
+    }
+
     private void registerUpgradableWebSocketService(HttpService httpService) {
         httpService.getUpgradeToWebSocketResources().forEach(upgradeToWebSocketResource -> {
             ProgramFile programFile = WebSocketUtil.getProgramFile(upgradeToWebSocketResource.getBalResource());
@@ -162,35 +157,31 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.charAt(key.toString().length()) == '/') {
-                return key.toString();
-            }
-        }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
-            return HttpConstants.DEFAULT_BASE_PATH;
-        }
-        return null;
+    /**
+     * Find the most specific base path registered under the given services map holder for a request path. Base
+     * paths are matched case insensitively on path segment boundaries.
+     *
+     * @param requestURIPath    decoded request path
+     * @param servicesMapHolder services registered under the host of the request
+     * @return the matching base path if exists else null
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath, ServicesMapHolder servicesMapHolder) {
+        return servicesMapHolder.basePathTrie.findMostSpecificBasePath(requestURIPath);
     }
 
     /**
-     * Holds both serviceByBasePath map and sorted Service basePath list.
+     * Holds both serviceByBasePath map and the base path trie used for dispatching.
      */
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
-        private List<String> sortedServiceURIs;
+        private final BasePathTrie basePathTrie = new BasePathTrie();
 
-        public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
+        public ServicesMapHolder(Map<String, HttpService> servicesByBasePath) {
             this.servicesByBasePath = servicesByBasePath;
-            this.sortedServiceURIs = sortedServiceURIs;
+        }
+
+        public Map<String, HttpService> getServicesByBasePath() {
+            return servicesByBasePath;
         }
     }
 }
@@ -18,10 +18,16 @@
 package org.ballerinalang.net.http;
 
 import org.ballerinalang.connector.api.BallerinaConnectorException;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.metrics.DefaultMetricRegistry;
+import org.ballerinalang.util.metrics.PolledGauge;
 import org.wso2.transport.http.netty.config.ListenerConfiguration;
 import org.wso2.transport.http.netty.config.SenderConfiguration;
 import org.wso2.transport.http.netty.config.TransportProperty;
 import org.wso2.transport.http.netty.config.TransportsConfiguration;
+import org.wso2.transport.http.netty.contract.HttpClientConnector;
 import org.wso2.transport.http.netty.contract.HttpWsConnectorFactory;
 import org.wso2.transport.http.netty.contract.ServerConnector;
 import org.wso2.transport.http.netty.contract.websocket.WebSocketClientConnector;
@@ -29,10 +35,15 @@ import org.wso2.transport.http.netty.contract.websocket.WebSocketClientConnector
 import org.wso2.transport.http.netty.listener.ServerBootstrapConfiguration;
 import org.wso2.transport.http.netty.message.HTTPConnectorUtil;
 
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG_ENABLED;
 import static org.ballerinalang.logging.util.Constants.HTTP_TRACE_LOG_ENABLED;
@@ -50,11 +61,27 @@ public class HttpConnectionManager {
     private ServerBootstrapConfiguration serverBootstrapConfiguration;
     private TransportsConfiguration trpConfig;
     private HttpWsConnectorFactory httpConnectorFactory = HttpUtil.createHttpWsConnectionFactory();
+    private Map<String, HttpClientConnectorContext> clientConnectorPool = new ConcurrentHashMap<>();
+    private ReferenceQueue<Object> collectedClientEndpoints = new ReferenceQueue<>();
+    // keeps the phantom references reachable until their client endpoints are collected
+    private Set<ClientEndpointReference> clientEndpointReferences =
+            Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * Fields of the client endpoint configuration which affect the connections created by a client connector.
+     */
+    private static final String[] CLIENT_CONNECTION_CONFIG_FIELDS = {
+            HttpConstants.CLIENT_EP_ENDPOINT_TIMEOUT, HttpConstants.CLIENT_EP_IS_KEEP_ALIVE,
+            HttpConstants.CLIENT_EP_CHUNKING, HttpConstants.CLIENT_EP_HTTP_VERSION, HttpConstants.CLIENT_EP_FORWARDED,
+            HttpConstants.PROXY_STRUCT_REFERENCE, HttpConstants.CONNECTION_THROTTLING_STRUCT_REFERENCE,
+            HttpConstants.ENDPOINT_CONFIG_SECURE_SOCKET, HttpConstants.TARGET_SERVICES
+    };
 
     private HttpConnectionManager() {
         trpConfig = buildDefaultTransportConfig();
         serverBootstrapConfiguration = HTTPConnectorUtil
                 .getServerBootstrapConfiguration(trpConfig.getTransportProperties());
+        registerClientConnectorMetrics();
     }
 
     public static HttpConnectionManager getInstance() {
@@ -148,6 +175,158 @@ public class HttpConnectionManager {
         return false;
     }
 
+    /**
+     * Get the client connector for a client endpoint. Client endpoints which have the same connection configuration
+     * share a single connector, and hence its pool of upstream connections per host. Over HTTP/2 the concurrent
+     * requests of all those endpoints are multiplexed on the pooled connections, up to the max active streams per
+     * connection.
+     * <p>
+     * Client endpoints which limit their connections through {@code connectionThrottling} get a connector of their
+     * own, which is not pooled, so that the max active connections and streams and the wait time apply to each
+     * endpoint alone.
+     * <p>
+     * A shared connector is counted once for each client endpoint it was given to, until that endpoint is collected.
+     * The connector is removed from the pool once none of its endpoints are left, so that a later endpoint with the
+     * same configuration gets a new connector.
+     *
+     * @param connectorType        type of the client which is created, as it decides how the configuration is read
+     * @param scheme               scheme of the client endpoint url
+     * @param clientEndpointConfig client endpoint configuration
+     * @param senderConfiguration  sender configuration populated from the client endpoint configuration
+     * @param clientEndpoint       the value which holds the connector for as long as the client endpoint is used
+     * @return the shared client connector, or a new one if the endpoint has connection throttling limits
+     */
+    public HttpClientConnector getHttpClientConnector(String connectorType, String scheme,
+                                                      BMap<String, BValue> clientEndpointConfig,
+                                                      SenderConfiguration senderConfiguration,
+                                                      Object clientEndpoint) {
+        if (hasConnectionThrottlingLimits(clientEndpointConfig)) {
+            return httpConnectorFactory.createHttpClientConnector(
+                    HTTPConnectorUtil.getTransportProperties(trpConfig), senderConfiguration);
+        }
+        releaseCollectedClientEndpoints();
+        String connectorKey = getClientConnectorKey(connectorType, scheme, clientEndpointConfig);
+        HttpClientConnectorContext connectorContext = clientConnectorPool.compute(connectorKey, (key, context) -> {
+            if (context == null) {
+                context = new HttpClientConnectorContext(httpConnectorFactory.createHttpClientConnector(
+                        HTTPConnectorUtil.getTransportProperties(trpConfig), senderConfiguration));
+            }
+            context.incrementReferenceCount();
+            return context;
+        });
+        clientEndpointReferences.add(new ClientEndpointReference(clientEndpoint, collectedClientEndpoints,
+                connectorKey));
+        return connectorContext.getClientConnector();
+    }
+
+    /**
+     * Get the number of client connectors which are shared by client endpoints.
+     *
+     * @return the number of pooled client connectors
+     */
+    public int getClientConnectorCount() {
+        releaseCollectedClientEndpoints();
+        return clientConnectorPool.size();
+    }
+
+    /**
+     * Get the number of client endpoints which were created on a pooled client connector and are not collected yet.
+     *
+     * @return the number of live client endpoints
+     */
+    public int getClientEndpointCount() {
+        releaseCollectedClientEndpoints();
+        return clientEndpointReferences.size();
+    }
+
+    private void releaseCollectedClientEndpoints() {
+        Reference<?> reference;
+        while ((reference = collectedClientEndpoints.poll()) != null) {
+            ClientEndpointReference endpointReference = (ClientEndpointReference) reference;
+            if (clientEndpointReferences.remove(endpointReference)) {
+                clientConnectorPool.computeIfPresent(endpointReference.connectorKey, (key, context) -> {
+                    context.decrementReferenceCount();
+                    return context.getReferenceCount() == 0 ? null : context;
+                });
+            }
+        }
+    }
+
+    private boolean hasConnectionThrottlingLimits(BMap<String, BValue> clientEndpointConfig) {
+        BValue connectionThrottling = clientEndpointConfig.get(HttpConstants.CONNECTION_THROTTLING_STRUCT_REFERENCE);
+        if (!(connectionThrottling instanceof BMap)) {
+            return false;
+        }
+        BMap<String, BValue> throttlingConfig = (BMap<String, BValue>) connectionThrottling;
+        return isLimitSet(throttlingConfig.get(HttpConstants.CONNECTION_THROTTLING_MAX_ACTIVE_CONNECTIONS))
+                || isLimitSet(throttlingConfig.get(
+                        HttpConstants.CONNECTION_THROTTLING_MAX_ACTIVE_STREAMS_PER_CONNECTION));
+    }
+
+    // a limit of -1 means there is no limit
+    private static boolean isLimitSet(BValue limit) {
+        return limit instanceof BInteger && ((BInteger) limit).intValue() != -1;
+    }
+
+    private String getClientConnectorKey(String connectorType, String scheme,
+                                         BMap<String, BValue> clientEndpointConfig) {
+        StringBuilder connectorKey = new StringBuilder(connectorType).append(':').append(scheme);
+        for (String field : CLIENT_CONNECTION_CONFIG_FIELDS) {
+            BValue value = clientEndpointConfig.get(field);
+            connectorKey.append(':').append(value == null ? null : value.stringValue());
+        }
+        return connectorKey.append(':').append(isHTTPTraceLoggerEnabled()).toString();
+    }
+
+    private void registerClientConnectorMetrics() {
+        if (DefaultMetricRegistry.getInstance() == null) {
+            return;
+        }
+        final String prefix = "ballerina_http_client_";
+        PolledGauge.builder(prefix + "connector_count", this, HttpConnectionManager::getClientConnectorCount)
+                .register();
+        PolledGauge.builder(prefix + "endpoint_count", this, HttpConnectionManager::getClientEndpointCount)
+                .register();
+    }
+
+    private static class HttpClientConnectorContext {
+        private HttpClientConnector clientConnector;
+        private int referenceCount = 0;
+
+        HttpClientConnectorContext(HttpClientConnector clientConnector) {
+            this.clientConnector = clientConnector;
+        }
+
+        void incrementReferenceCount() {
+            this.referenceCount++;
+        }
+
+        void decrementReferenceCount() {
+            this.referenceCount--;
+        }
+
+        HttpClientConnector getClientConnector() {
+            return this.clientConnector;
+        }
+
+        int getReferenceCount() {
+            return this.referenceCount;
+        }
+    }
+
+    /**
+     * A client endpoint which holds a pooled client connector. Its connector is released once the endpoint becomes
+     * unreachable.
+     */
+    private static class ClientEndpointReference extends PhantomReference<Object> {
+        private final String connectorKey;
+
+        ClientEndpointReference(Object clientEndpoint, ReferenceQueue<Object> queue, String connectorKey) {
+            super(clientEndpoint, queue);
+            this.connectorKey = connectorKey;
+        }
+    }
+
     public WebSocketClientConnector getWebSocketClientConnector(WebSocketClientConnectorConfig configuration) {
         return  httpConnectorFactory.createWsClientConnector(configuration);
     }
@@ -22,11 +22,13 @@ import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import org.apache.commons.lang3.StringUtils;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.bvm.BLangVMErrors;
@@ -107,6 +109,7 @@ import static org.ballerinalang.net.http.HttpConstants.ENTITY_INDEX;
 import static org.ballerinalang.net.http.HttpConstants.HTTP_MESSAGE_INDEX;
 import static org.ballerinalang.net.http.HttpConstants.HTTP_STATUS_CODE;
 import static org.ballerinalang.net.http.HttpConstants.NEVER;
+import static org.ballerinalang.net.http.HttpConstants.PASS_THROUGH_SOURCE;
 import static org.ballerinalang.net.http.HttpConstants.PROTOCOL_PACKAGE_HTTP;
 import static org.ballerinalang.net.http.HttpConstants.REQUEST;
 import static org.ballerinalang.net.http.HttpConstants.REQUEST_CACHE_CONTROL;
@@ -277,14 +280,54 @@ public class HttpUtil {
                 throw new BallerinaException("Invalid content length");
             }
             if (contentLength > 0) {
-                entity.addNativeData(ENTITY_BYTE_CHANNEL, new EntityWrapper(
-                        new EntityBodyChannel(httpMessageDataStreamer.getInputStream())));
+                EntityWrapper byteChannel = new EntityWrapper(
+                        new EntityBodyChannel(httpMessageDataStreamer.getInputStream()));
+                entity.addNativeData(ENTITY_BYTE_CHANNEL, byteChannel);
+                entity.addNativeData(PASS_THROUGH_SOURCE, new PassThroughSource(httpCarbonMessage, byteChannel));
             }
         }
         httpMessageStruct.put(isRequest ? REQUEST_ENTITY_FIELD : RESPONSE_ENTITY_FIELD, entity);
         httpMessageStruct.addNativeData(IS_BODY_BYTE_CHANNEL_ALREADY_SET, true);
     }
 
+    /**
+     * Hand the content of an inbound entity body over to an outbound message as it is, if the body has not been
+     * touched since it was received. The Netty buffers of the inbound message are moved to the outbound message
+     * without being copied to the heap. When the inbound message itself is sent out, as when a request is forwarded
+     * or a backend response is sent back to the caller, its buffers are left in place and sent along with it.
+     *
+     * @param entity          Represent the entity of the outbound message
+     * @param outboundMessage Represent the outbound message
+     * @return true if the entity body was passed through, false if it needs to be serialized
+     */
+    public static boolean passThroughEntityBody(BMap<String, BValue> entity, HTTPCarbonMessage outboundMessage) {
+        Object source = entity.getNativeData(PASS_THROUGH_SOURCE);
+        if (!(source instanceof PassThroughSource)) {
+            return false;
+        }
+        PassThroughSource passThroughSource = (PassThroughSource) source;
+        // the body may have been read or replaced after the message was received
+        if (outboundMessage == null || EntityBodyHandler.getByteChannel(entity) != passThroughSource.byteChannel ||
+                passThroughSource.byteChannel.isBodyRead()) {
+            return false;
+        }
+        entity.addNativeData(PASS_THROUGH_SOURCE, null);
+        entity.addNativeData(ENTITY_BYTE_CHANNEL, null);
+        if (passThroughSource.inboundMessage == outboundMessage) {
+            return true;
+        }
+        HttpContent httpContent;
+        do {
+            httpContent = passThroughSource.inboundMessage.getHttpContent();
+            if (httpContent == null) {
+                outboundMessage.addHttpContent(new DefaultLastHttpContent());
+                break;
+            }
+            outboundMessage.addHttpContent(httpContent);
+        } while (!(httpContent instanceof LastHttpContent));
+        return true;
+    }
+
     public static BMap<String, BValue> extractEntity(BMap<String, BValue> httpMessageStruct) {
         Object isEntityBodyAvailable = httpMessageStruct.getNativeData(IS_BODY_BYTE_CHANNEL_ALREADY_SET);
         if (isEntityBodyAvailable == null || !((Boolean) isEntityBodyAvailable)) {
@@ -1289,4 +1332,18 @@ public class HttpUtil {
                 Paths.get(System.getProperty("ballerina.home"), "bre", "security", "ballerinaTruststore.p12")));
         sslConfiguration.setTrustStorePass("ballerina");
     }
+
+    /**
+     * The inbound message an entity body was received with, along with the byte channel created for the body.
+     */
+    private static class PassThroughSource {
+
+        private final HTTPCarbonMessage inboundMessage;
+        private final EntityWrapper byteChannel;
+
+        private PassThroughSource(HTTPCarbonMessage inboundMessage, EntityWrapper byteChannel) {
+            this.inboundMessage = inboundMessage;
+            this.byteChannel = byteChannel;
+        }
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.http.caching;
+
+import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
+import org.ballerinalang.runtime.message.BlobDataSource;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary data source of a cached response whose payload is held in a direct buffer by the
+ * {@link ResponseBodyStore}. The payload is written out from the buffer directly, and is only copied to the heap
+ * when it is read as a byte array. Since the buffer is never modified, clones share it, along with its space in the
+ * store.
+ *
+ * @since 0.976.1
+ */
+public class OffHeapBlobDataSource extends BlobDataSource {
+
+    private static final int WRITE_CHUNK_SIZE = 8192;
+
+    private ByteBuffer buffer;
+    private final ResponseBodyStore.BufferReference reference;
+
+    OffHeapBlobDataSource(ByteBuffer buffer, ResponseBodyStore.BufferReference reference) {
+        super(null);
+        this.buffer = buffer;
+        this.reference = reference;
+    }
+
+    /**
+     * Marks the payload as no longer cached. Its space is given back to the store once the buffer is no longer
+     * reachable, so responses which were already taken from the cache can still be written out.
+     */
+    public void release() {
+        reference.release();
+    }
+
+    @Override
+    public byte[] getValue() {
+        if (buffer == null) {
+            return super.getValue();
+        }
+        byte[] value = new byte[buffer.remaining()];
+        buffer.duplicate().get(value);
+        return value;
+    }
+
+    @Override
+    public void setValue(byte[] value) {
+        this.buffer = null;
+        super.setValue(value);
+    }
+
+    @Override
+    public void serializeData(OutputStream outputStream) {
+        if (buffer == null) {
+            super.serializeData(outputStream);
+            return;
+        }
+        ByteBuffer payload = buffer.duplicate();
+        byte[] chunk = new byte[Math.min(WRITE_CHUNK_SIZE, payload.remaining())];
+        try {
+            while (payload.hasRemaining()) {
+                int length = Math.min(chunk.length, payload.remaining());
+                payload.get(chunk, 0, length);
+                outputStream.write(chunk, 0, length);
+            }
+        } catch (IOException e) {
+            throw new BallerinaException("Error occurred while writing the binary payload to the output stream", e);
+        }
+    }
+
+    @Override
+    public String getMessageAsString() {
+        if (buffer == null) {
+            return super.getMessageAsString();
+        }
+        return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+    }
+
+    @Override
+    public BallerinaMessageDataSource clone() {
+        if (buffer == null) {
+            return super.clone();
+        }
+        return new OffHeapBlobDataSource(buffer, reference);
+    }
+
+    @Override
+    public Object getDataObject() {
+        return getValue();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.http.caching;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the payloads of cached HTTP responses in direct buffers, outside the Java heap. The total size of the
+ * payloads held is bounded by {@code b7a.http.cache.offheap.maxsize} bytes.
+ * <p>
+ * The bound is logical: it limits the bytes this store accounts for, not the direct memory used by the JVM. A
+ * payload is released when its response is evicted, removed or replaced in the cache, but responses which were
+ * already taken from the cache may still be writing it out, so its buffer can not be freed then. Its size is only
+ * given back to the budget once the buffer is no longer reachable and has been collected, which is also when the
+ * direct memory is freed. Until then new payloads which do not fit are kept on the heap instead.
+ *
+ * @since 0.976.1
+ */
+public class ResponseBodyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseBodyStore.class);
+
+    private static final String MAX_SIZE_PROP = "b7a.http.cache.offheap.maxsize";
+    private static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+
+    private static final ResponseBodyStore instance = new ResponseBodyStore(readMaxSize());
+
+    private final long maxSize;
+    private final AtomicLong usedSize = new AtomicLong();
+    private final ReferenceQueue<ByteBuffer> collectedBuffers = new ReferenceQueue<>();
+    // keeps the phantom references reachable until their buffers are collected
+    private final Set<BufferReference> bufferReferences = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    public ResponseBodyStore(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static ResponseBodyStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Copy the given payload to a direct buffer.
+     *
+     * @param payload payload of a response
+     * @return a data source holding the payload or null if the payload does not fit in the remaining budget
+     */
+    public OffHeapBlobDataSource store(byte[] payload) {
+        releaseCollectedBuffers();
+        long size = payload.length;
+        long used;
+        do {
+            used = usedSize.get();
+            if (used + size > maxSize) {
+                return null;
+            }
+        } while (!usedSize.compareAndSet(used, used + size));
+
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.allocateDirect(payload.length);
+        } catch (OutOfMemoryError e) {
+            // the budget is larger than the direct memory available to the JVM
+            usedSize.addAndGet(-size);
+            log.debug("Unable to allocate a direct buffer of " + size + " bytes for a cached response", e);
+            return null;
+        }
+        buffer.put(payload);
+        buffer.flip();
+        BufferReference reference = new BufferReference(buffer, collectedBuffers, size);
+        bufferReferences.add(reference);
+        return new OffHeapBlobDataSource(buffer.asReadOnlyBuffer(), reference);
+    }
+
+    /**
+     * Returns the total size of the payloads which are currently accounted for.
+     *
+     * @return the used size in bytes
+     */
+    public long getUsedSize() {
+        releaseCollectedBuffers();
+        return usedSize.get();
+    }
+
+    private void reclaim(BufferReference reference) {
+        bufferReferences.remove(reference);
+        reference.clear();
+        usedSize.addAndGet(-reference.size);
+        if (!reference.released) {
+            log.debug("A cached response payload of {} bytes was not released before it was collected",
+                    reference.size);
+        }
+    }
+
+    private void releaseCollectedBuffers() {
+        Reference<? extends ByteBuffer> reference;
+        while ((reference = collectedBuffers.poll()) != null) {
+            reclaim((BufferReference) reference);
+        }
+    }
+
+    private static long readMaxSize() {
+        String maxSizeProp = ConfigRegistry.getInstance().getAsString(MAX_SIZE_PROP);
+        if (maxSizeProp == null) {
+            return DEFAULT_MAX_SIZE;
+        }
+        try {
+            long maxSize = Long.parseLong(maxSizeProp);
+            if (maxSize < 0) {
+                throw new BallerinaException(MAX_SIZE_PROP + " must not be negative");
+            }
+            return maxSize;
+        } catch (NumberFormatException e) {
+            throw new BallerinaException("invalid value for '" + MAX_SIZE_PROP + "': " + maxSizeProp);
+        }
+    }
+
+    /**
+     * The space taken by a stored payload. It is given back to the budget when the direct buffer of the payload
+     * becomes unreachable.
+     */
+    static class BufferReference extends PhantomReference<ByteBuffer> {
+
+        private final long size;
+        private volatile boolean released;
+
+        private BufferReference(ByteBuffer buffer, ReferenceQueue<ByteBuffer> queue, long size) {
+            super(buffer, queue);
+            this.size = size;
+        }
+
+        void release() {
+            released = true;
+        }
+    }
+}
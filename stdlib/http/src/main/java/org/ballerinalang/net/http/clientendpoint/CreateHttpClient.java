@@ -36,13 +36,11 @@ import org.ballerinalang.util.exceptions.BallerinaException;
 import org.wso2.transport.http.netty.common.ProxyServerConfiguration;
 import org.wso2.transport.http.netty.config.SenderConfiguration;
 import org.wso2.transport.http.netty.contract.HttpClientConnector;
-import org.wso2.transport.http.netty.contract.HttpWsConnectorFactory;
 import org.wso2.transport.http.netty.message.HTTPConnectorUtil;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.UnknownHostException;
-import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.CALLER_ACTIONS;
 import static org.ballerinalang.net.http.HttpConstants.HTTP_PACKAGE_PATH;
@@ -63,7 +61,7 @@ import static org.ballerinalang.net.http.HttpConstants.HTTP_PACKAGE_PATH;
 public class CreateHttpClient extends BlockingNativeCallableUnit {
 
     private static final int DEFAULT_MAX_REDIRECT_COUNT = 5;
-    private HttpWsConnectorFactory httpConnectorFactory = HttpUtil.createHttpWsConnectionFactory();
+    private static final String CLIENT_CONNECTOR_TYPE = "createHttpClient";
 
     @Override
     public void execute(Context context) {
@@ -80,8 +78,6 @@ public class CreateHttpClient extends BlockingNativeCallableUnit {
             throw new BallerinaException("Malformed URL: " + urlString);
         }
         scheme = url.getProtocol();
-        Map<String, Object> properties =
-                HTTPConnectorUtil.getTransportProperties(connectionManager.getTransportConfig());
         SenderConfiguration senderConfiguration =
                 HTTPConnectorUtil.getSenderConfiguration(connectionManager.getTransportConfig(), scheme);
 
@@ -114,10 +110,10 @@ public class CreateHttpClient extends BlockingNativeCallableUnit {
                     .getIntField(HttpConstants.CONNECTION_THROTTLING_WAIT_TIME);
             senderConfiguration.getPoolConfiguration().setMaxWaitTime(waitTime);
         }
-        HttpClientConnector httpClientConnector = httpConnectorFactory
-                .createHttpClientConnector(properties, senderConfiguration);
         BMap<String, BValue> httpClient = BLangConnectorSPIUtil.createBStruct(context.getProgramFile(),
                 HTTP_PACKAGE_PATH, CALLER_ACTIONS, urlString, clientEndpointConfig);
+        HttpClientConnector httpClientConnector = connectionManager.getHttpClientConnector(CLIENT_CONNECTOR_TYPE,
+                scheme, configBStruct, senderConfiguration, httpClient);
         httpClient.addNativeData(HttpConstants.CALLER_ACTIONS, httpClientConnector);
         httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_CONFIG, clientEndpointConfig);
         context.setReturnValues(httpClient);
@@ -38,7 +38,6 @@ import org.wso2.transport.http.netty.common.ProxyServerConfiguration;
 import org.wso2.transport.http.netty.config.Parameter;
 import org.wso2.transport.http.netty.config.SenderConfiguration;
 import org.wso2.transport.http.netty.contract.HttpClientConnector;
-import org.wso2.transport.http.netty.contract.HttpWsConnectorFactory;
 import org.wso2.transport.http.netty.message.HTTPConnectorUtil;
 
 import java.net.MalformedURLException;
@@ -47,7 +46,6 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.ballerinalang.net.http.HttpConstants.CALLER_ACTIONS;
@@ -69,7 +67,7 @@ import static org.ballerinalang.net.http.HttpConstants.HTTP_PACKAGE_PATH;
 public class CreateSimpleHttpClient extends BlockingNativeCallableUnit {
 
     private static final int DEFAULT_MAX_REDIRECT_COUNT = 5;
-    private HttpWsConnectorFactory httpConnectorFactory = HttpUtil.createHttpWsConnectionFactory();
+    private static final String CLIENT_CONNECTOR_TYPE = "createSimpleHttpClient";
 
     @Override
     public void execute(Context context) {
@@ -86,8 +84,6 @@ public class CreateSimpleHttpClient extends BlockingNativeCallableUnit {
             throw new BallerinaException("Malformed URL: " + urlString);
         }
         scheme = url.getProtocol();
-        Map<String, Object> properties =
-                HTTPConnectorUtil.getTransportProperties(connectionManager.getTransportConfig());
         SenderConfiguration senderConfiguration =
                 HTTPConnectorUtil.getSenderConfiguration(connectionManager.getTransportConfig(), scheme);
 
@@ -121,10 +117,10 @@ public class CreateSimpleHttpClient extends BlockingNativeCallableUnit {
             senderConfiguration.getPoolConfiguration().setHttp2MaxActiveStreamsPerConnection(
                     maxActiveStreamsPerConnection == -1 ? Integer.MAX_VALUE : (int) maxActiveStreamsPerConnection);
         }
-        HttpClientConnector httpClientConnector = httpConnectorFactory
-                .createHttpClientConnector(properties, senderConfiguration);
         BMap<String, BValue> httpClient = BLangConnectorSPIUtil.createBStruct(context.getProgramFile(),
                 HTTP_PACKAGE_PATH, CALLER_ACTIONS, urlString, clientEndpointConfig);
+        HttpClientConnector httpClientConnector = connectionManager.getHttpClientConnector(CLIENT_CONNECTOR_TYPE,
+                scheme, configBStruct, senderConfiguration, httpClient);
         httpClient.addNativeData(HttpConstants.CALLER_ACTIONS, httpClientConnector);
         httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_CONFIG, clientEndpointConfig);
         context.setReturnValues(httpClient);
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.http.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.mime.util.EntityBodyHandler;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.net.http.caching.OffHeapBlobDataSource;
+import org.ballerinalang.net.http.caching.ResponseBodyStore;
+import org.ballerinalang.runtime.message.BlobDataSource;
+import org.ballerinalang.runtime.message.MessageDataSource;
+
+import static org.ballerinalang.mime.util.MimeConstants.RESPONSE_ENTITY_FIELD;
+
+/**
+ * Native function to move the binary payload of a response which is about to be cached to the off heap
+ * {@link ResponseBodyStore}. Returns false if the payload does not fit in the remaining budget of the store.
+ *
+ * @since 0.976.1
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "moveBodyOffHeap",
+        args = {@Argument(name = "response", type = TypeKind.OBJECT, structType = "Response",
+                structPackage = "ballerina/http")},
+        returnType = {@ReturnType(type = TypeKind.BOOLEAN)}
+)
+public class MoveBodyOffHeap extends BlockingNativeCallableUnit {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void execute(Context context) {
+        BMap<String, BValue> response = (BMap<String, BValue>) context.getRefArgument(0);
+        BMap<String, BValue> entity = (BMap<String, BValue>) response.get(RESPONSE_ENTITY_FIELD);
+        MessageDataSource dataSource = EntityBodyHandler.getMessageDataSource(entity);
+        if (!(dataSource instanceof BlobDataSource) || dataSource instanceof OffHeapBlobDataSource) {
+            context.setReturnValues(new BBoolean(true));
+            return;
+        }
+        byte[] payload = ((BlobDataSource) dataSource).getValue();
+        if (payload == null || payload.length == 0) {
+            context.setReturnValues(new BBoolean(true));
+            return;
+        }
+        OffHeapBlobDataSource offHeapDataSource = ResponseBodyStore.getInstance().store(payload);
+        if (offHeapDataSource == null) {
+            context.setReturnValues(new BBoolean(false));
+            return;
+        }
+        EntityBodyHandler.addMessageDataSource(entity, offHeapDataSource);
+        context.setReturnValues(new BBoolean(true));
+    }
+}
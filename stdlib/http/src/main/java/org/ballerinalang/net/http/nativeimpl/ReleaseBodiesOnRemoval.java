@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.net.http.nativeimpl;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.mime.util.EntityBodyHandler;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.net.http.caching.OffHeapBlobDataSource;
+import org.ballerinalang.runtime.message.MessageDataSource;
+import org.ballerinalang.stdlib.cache.CacheConstants;
+import org.ballerinalang.stdlib.cache.LRUCache;
+
+import static org.ballerinalang.mime.util.MimeConstants.RESPONSE_ENTITY_FIELD;
+
+/**
+ * Native function to release the off heap payloads of cached responses in the
+ * {@link org.ballerinalang.net.http.caching.ResponseBodyStore} when the responses are evicted, removed or replaced
+ * in the given cache.
+ *
+ * @since 0.976.1
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "releaseBodiesOnRemoval",
+        args = {@Argument(name = "cache", type = TypeKind.OBJECT, structType = CacheConstants.CACHE_STRUCT,
+                structPackage = CacheConstants.CACHE_PACKAGE)}
+)
+public class ReleaseBodiesOnRemoval extends BlockingNativeCallableUnit {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void execute(Context context) {
+        BMap<String, BValue> cache = (BMap<String, BValue>) context.getRefArgument(0);
+        LRUCache lruCache = (LRUCache) cache.getNativeData(CacheConstants.CACHE_NATIVE_DATA);
+        lruCache.setRemovalListener((key, value) -> releaseBodies(value));
+        context.setReturnValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void releaseBodies(BValue cachedResponses) {
+        if (!(cachedResponses instanceof BRefValueArray)) {
+            return;
+        }
+        BRefValueArray responses = (BRefValueArray) cachedResponses;
+        for (int i = 0; i < responses.size(); i++) {
+            BMap<String, BValue> response = (BMap<String, BValue>) responses.get(i);
+            if (response == null) {
+                continue;
+            }
+            BMap<String, BValue> entity = (BMap<String, BValue>) response.get(RESPONSE_ENTITY_FIELD);
+            MessageDataSource dataSource = entity != null ? EntityBodyHandler.getMessageDataSource(entity) : null;
+            if (dataSource instanceof OffHeapBlobDataSource) {
+                ((OffHeapBlobDataSource) dataSource).release();
+            }
+        }
+    }
+}
@@ -70,7 +70,7 @@ public abstract class ConnectionAction implements NativeCallableUnit {
                 serializeMultiparts(boundaryString, entityStruct, messageOutputStream);
             } else {
                 MessageDataSource outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityStruct);
-                serializeMsgDataSource(outboundMessageSource, entityStruct, messageOutputStream);
+                serializeMsgDataSource(outboundMessageSource, entityStruct, responseMessage, messageOutputStream);
             }
         }
     }
@@ -88,7 +88,7 @@ public abstract class ConnectionAction implements NativeCallableUnit {
         BRefValueArray bodyParts = EntityBodyHandler.getBodyPartArray(entityStruct);
         if (bodyParts != null && bodyParts.size() > 0) {
             MultipartDataSource multipartDataSource = new MultipartDataSource(entityStruct, boundaryString);
-            serializeMsgDataSource(multipartDataSource, entityStruct, messageOutputStream);
+            serializeMsgDataSource(multipartDataSource, entityStruct, null, messageOutputStream);
             HttpUtil.closeMessageOutputStream(messageOutputStream);
         } else {
             try {
@@ -108,12 +108,13 @@ public abstract class ConnectionAction implements NativeCallableUnit {
     }
 
     protected void serializeMsgDataSource(MessageDataSource outboundMessageSource, BMap<String, BValue> entityStruct,
-                                          OutputStream messageOutputStream) {
+                                          HTTPCarbonMessage outboundMessage, OutputStream messageOutputStream) {
         try {
             if (outboundMessageSource != null) {
                 outboundMessageSource.serializeData(messageOutputStream);
                 HttpUtil.closeMessageOutputStream(messageOutputStream);
-            } else { //When the entity body is a byte channel
+            } else if (!HttpUtil.passThroughEntityBody(entityStruct, outboundMessage)) {
+                //When the entity body is a byte channel
                 EntityBodyHandler.writeByteChannelToOutputStream(entityStruct, messageOutputStream);
                 HttpUtil.closeMessageOutputStream(messageOutputStream);
             }
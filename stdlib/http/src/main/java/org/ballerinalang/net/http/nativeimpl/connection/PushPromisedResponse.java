@@ -98,7 +98,7 @@ public class PushPromisedResponse extends ConnectionAction {
         BMap<String, BValue> entityStruct = extractEntity(outboundResponseStruct);
         if (entityStruct != null) {
             MessageDataSource outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityStruct);
-            serializeMsgDataSource(outboundMessageSource, entityStruct, messageOutputStream);
+            serializeMsgDataSource(outboundMessageSource, entityStruct, responseMessage, messageOutputStream);
         }
     }
 }
@@ -35,13 +35,14 @@ public class HTTPSession implements Session, Serializable {
     private final String sessionPath;
     private String id;
     private Long createTime;
-    private Long accessedTime;
+    private volatile Long accessedTime;
     private Long lastAccessedTime;
-    private int maxInactiveInterval;
+    private volatile int maxInactiveInterval;
     private BMap<String, BValue> attributeMap = new BMap<>();
     private SessionManager sessionManager;
-    private boolean isValid = true;
+    private volatile boolean isValid = true;
     private boolean isNew = true;
+    private volatile long expiryTick;
 
     public HTTPSession(String id, int maxInactiveInterval, String path) {
         this.id = id;
@@ -111,6 +112,9 @@ public class HTTPSession implements Session, Serializable {
     @Override
     public void setMaxInactiveInterval(int maxInactiveInterval) {
         this.maxInactiveInterval = maxInactiveInterval;
+        if (sessionManager != null && isValid) {
+            sessionManager.scheduleExpiry(this);
+        }
     }
 
     @Override
@@ -147,6 +151,29 @@ public class HTTPSession implements Session, Serializable {
         this.sessionManager = sessionManager;
     }
 
+    /**
+     * Get the time the session expires at, unless it is accessed before that.
+     *
+     * @return time in milliseconds, or -1 if the session does not expire.
+     */
+    long getExpiryTime() {
+        int interval = maxInactiveInterval;
+        return interval < 0 ? -1 : accessedTime + interval * 1000L;
+    }
+
+    boolean isExpired(long currentTime) {
+        long expiryTime = getExpiryTime();
+        return expiryTime >= 0 && currentTime >= expiryTime;
+    }
+
+    long getExpiryTick() {
+        return expiryTick;
+    }
+
+    void setExpiryTick(long expiryTick) {
+        this.expiryTick = expiryTick;
+    }
+
     private void checkValidity() {
         if (!isValid) {
             throw new IllegalStateException("Failed to execute action: Invalid session");
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.session;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel which expires sessions once they are inactive for longer than their max inactive interval.
+ * <p>
+ * A session is placed in the slot of the tick it expires at, and each tick only checks the sessions of its own slot.
+ * Accessing a session does not touch the wheel. A session which was accessed after it was placed is moved to the
+ * slot of its new expiry time once its old slot is checked.
+ * <p>
+ * Sessions are placed and slots are checked under the lock of the wheel, so that a session is never placed in the
+ * slot of a tick which was already checked. The sessions of a slot are expired outside the lock.
+ *
+ * @since 0.976.1
+ */
+public class SessionExpiryWheel {
+
+    /**
+     * Duration of a tick in milliseconds.
+     */
+    public static final long TICK_DURATION = 1000;
+
+    /**
+     * Number of slots in the wheel, which covers the default max inactive interval in a single round.
+     */
+    private static final int WHEEL_SIZE = 1024;
+
+    /**
+     * Placements of the sessions per slot, guarded by the lock of the wheel.
+     */
+    private final Queue<ScheduledExpiry>[] slots;
+
+    private final Consumer<HTTPSession> expiryHandler;
+
+    /**
+     * The last tick which was checked, guarded by the lock of the wheel.
+     */
+    private long processedTick;
+
+    @SuppressWarnings("unchecked")
+    public SessionExpiryWheel(long currentTime, Consumer<HTTPSession> expiryHandler) {
+        this.slots = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.expiryHandler = expiryHandler;
+        this.processedTick = currentTime / TICK_DURATION;
+    }
+
+    /**
+     * Place the session in the slot of its current expiry time. Any earlier placement of the session is ignored
+     * once its slot is checked.
+     *
+     * @param session the session to be expired.
+     */
+    public void schedule(HTTPSession session) {
+        long expiryTime = session.getExpiryTime();
+        if (expiryTime < 0) {
+            session.setExpiryTick(-1);
+            return;
+        }
+        synchronized (this) {
+            long tick = Math.max((expiryTime + TICK_DURATION - 1) / TICK_DURATION, processedTick + 1);
+            session.setExpiryTick(tick);
+            slots[getSlotIndex(tick)].add(new ScheduledExpiry(session, tick));
+        }
+    }
+
+    /**
+     * Check the slots of the ticks which passed until the given time. This should only be called from a single
+     * thread.
+     *
+     * @param currentTime the current time in milliseconds.
+     */
+    public void advance(long currentTime) {
+        long currentTick = currentTime / TICK_DURATION;
+        List<ScheduledExpiry> dueExpiries = new ArrayList<>();
+        while (true) {
+            long tick;
+            synchronized (this) {
+                if (processedTick >= currentTick) {
+                    return;
+                }
+                tick = ++processedTick;
+                Queue<ScheduledExpiry> slot = slots[getSlotIndex(tick)];
+                dueExpiries.addAll(slot);
+                slot.clear();
+            }
+            for (ScheduledExpiry expiry : dueExpiries) {
+                HTTPSession session = expiry.session;
+                if (expiry.tick != session.getExpiryTick() || !session.isValid()) {
+                    //The session was placed in another slot afterwards, or was already invalidated
+                    continue;
+                }
+                if (expiry.tick > tick) {
+                    //Expires in a later round of the wheel
+                    synchronized (this) {
+                        slots[getSlotIndex(expiry.tick)].add(expiry);
+                    }
+                } else if (session.isExpired(currentTime)) {
+                    expiryHandler.accept(session);
+                } else {
+                    schedule(session);
+                }
+            }
+            dueExpiries.clear();
+        }
+    }
+
+    private static int getSlotIndex(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+
+    /**
+     * Placement of a session in a slot of the wheel.
+     */
+    private static class ScheduledExpiry {
+        private final HTTPSession session;
+        private final long tick;
+
+        private ScheduledExpiry(HTTPSession session, long tick) {
+            this.session = session;
+            this.tick = tick;
+        }
+    }
+}
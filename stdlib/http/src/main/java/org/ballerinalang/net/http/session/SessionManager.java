@@ -18,23 +18,42 @@
 
 package org.ballerinalang.net.http.session;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import org.ballerinalang.util.metrics.DefaultMetricRegistry;
+import org.ballerinalang.util.metrics.MetricRegistry;
+import org.ballerinalang.util.metrics.PolledGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * SessionManager to manage all transport sessions.
+ * <p>
+ * Sessions are distributed among shards, which are only locked while their own sessions are accessed. The number of
+ * active sessions is bounded as a whole, and once it is reached the least recently used session of the shard of the
+ * new session is evicted to make room for it. Inactive sessions are expired through a {@link SessionExpiryWheel}.
  *
  * @since 0.89
  */
 public class SessionManager {
 
+    private static final Logger log = LoggerFactory.getLogger(SessionManager.class);
+
     private static SessionManager instance = new SessionManager();
-    private Map<String, Session> sessionMap = new ConcurrentHashMap<>();
+    private final SessionShard[] shards = new SessionShard[NUMBER_OF_SHARDS];
+    private final int maxActiveSessions;
+    private final AtomicInteger activeSessionCount = new AtomicInteger();
     private SessionIdGenerator sessionIdGenerator = new SessionIdGenerator();
+    private SessionExpiryWheel expiryWheel;
     private ScheduledExecutorService sessionExpiryChecker;
+    private final LongAdder expiredSessionCount = new LongAdder();
+    private final LongAdder evictedSessionCount = new LongAdder();
 
     /**
      * Max number of sessions that can be active at a given time.
@@ -48,18 +67,40 @@ public class SessionManager {
      */
     private static final int SESSION_ID_LENGTH = 16;
 
+    /**
+     * Number of shards the sessions are distributed among. This should be a power of two.
+     */
+    private static final int NUMBER_OF_SHARDS = 16;
+
     private SessionManager() {
+        this(DEFAULT_MAX_ACTIVE_SESSIONS);
+        if (DefaultMetricRegistry.getInstance() != null) {
+            registerMetrics(DefaultMetricRegistry.getInstance());
+        }
+    }
+
+    /**
+     * Create a session manager which keeps up to the given number of active sessions. The HTTP services share the
+     * manager returned by {@link #getInstance()}.
+     *
+     * @param maxActiveSessions max number of sessions that can be active at a given time.
+     */
+    public SessionManager(int maxActiveSessions) {
+        this.maxActiveSessions = maxActiveSessions;
         sessionIdGenerator.setSessionIdLength(SESSION_ID_LENGTH);
+        for (int i = 0; i < NUMBER_OF_SHARDS; i++) {
+            shards[i] = new SessionShard();
+        }
+        expiryWheel = new SessionExpiryWheel(System.currentTimeMillis(), this::expireSession);
         // Session expiry scheduled task
         sessionExpiryChecker = Executors.newScheduledThreadPool(1);
-        sessionExpiryChecker.scheduleAtFixedRate(() ->
-                        sessionMap.values().parallelStream()
-                                .filter(session ->
-                                        (session.getMaxInactiveInterval() >= 0 &&
-                                                System.currentTimeMillis() - session.getLastAccessedTime() >=
-                                                        session.getMaxInactiveInterval() * 1000))
-                                .forEach(Session::invalidate),
-                30, 30, TimeUnit.SECONDS);
+        sessionExpiryChecker.scheduleAtFixedRate(() -> {
+            try {
+                expiryWheel.advance(System.currentTimeMillis());
+            } catch (Throwable e) {
+                log.error("Error occurred while expiring sessions", e);
+            }
+        }, SessionExpiryWheel.TICK_DURATION, SessionExpiryWheel.TICK_DURATION, TimeUnit.MILLISECONDS);
     }
 
     public static SessionManager getInstance() {
@@ -67,21 +108,31 @@ public class SessionManager {
     }
 
     public Session getHTTPSession(String sessionId) {
-        HTTPSession session = (HTTPSession) sessionMap.get(sessionId);
-        if (session != null) {
-            return session;
+        HTTPSession session = shards[getShardIndex(sessionId)].get(sessionId);
+        if (session == null) {
+            return null;
         }
-        return null;
+        if (session.isExpired(System.currentTimeMillis())) {
+            expireSession(session);
+            return null;
+        }
+        return session;
     }
 
     public Session createHTTPSession(String path) {
-        if (sessionMap.size() >= DEFAULT_MAX_ACTIVE_SESSIONS) {
-            throw new IllegalStateException("Failed to create session: Too many active sessions");
-        }
         HTTPSession session = new HTTPSession(sessionIdGenerator.generateSessionId(),
                 DEFAULT_MAX_INACTIVE_INTERVAL, path);
         session.setManager(this);
-        sessionMap.put(session.getId(), session);
+        int shardIndex = getShardIndex(session.getId());
+        if (activeSessionCount.incrementAndGet() > maxActiveSessions) {
+            HTTPSession evictedSession = evictSession(shardIndex);
+            if (evictedSession != null) {
+                evictedSessionCount.increment();
+                evictedSession.invalidate();
+            }
+        }
+        shards[shardIndex].add(session);
+        expiryWheel.schedule(session);
         return session;
     }
 
@@ -91,7 +142,45 @@ public class SessionManager {
      * @param session The session to be invalidated.
      */
     public void invalidateSession(Session session) {
-        sessionMap.remove(session.getId());
+        if (shards[getShardIndex(session.getId())].remove(session)) {
+            activeSessionCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Reschedule the expiry of a session, after its max inactive interval has been changed.
+     *
+     * @param session The session to be expired.
+     */
+    void scheduleExpiry(HTTPSession session) {
+        expiryWheel.schedule(session);
+    }
+
+    /**
+     * Get the number of active sessions.
+     *
+     * @return the number of active sessions.
+     */
+    public long getActiveSessionCount() {
+        return activeSessionCount.get();
+    }
+
+    /**
+     * Get the number of sessions which expired due to inactivity.
+     *
+     * @return the number of expired sessions.
+     */
+    public long getExpiredSessionCount() {
+        return expiredSessionCount.sum();
+    }
+
+    /**
+     * Get the number of sessions which were evicted to make room for new sessions.
+     *
+     * @return the number of evicted sessions.
+     */
+    public long getEvictedSessionCount() {
+        return evictedSessionCount.sum();
     }
 
     /**
@@ -102,4 +191,91 @@ public class SessionManager {
         sessionExpiryChecker.shutdown();
     }
 
+    private void expireSession(HTTPSession session) {
+        if (session.isValid()) {
+            expiredSessionCount.increment();
+            session.invalidate();
+        }
+    }
+
+    /**
+     * Evict the least recently used session, starting from the given shard. The other shards are only looked at when
+     * the given one is empty.
+     *
+     * @return the evicted session, or null if there are no sessions.
+     */
+    private HTTPSession evictSession(int shardIndex) {
+        for (int i = 0; i < NUMBER_OF_SHARDS; i++) {
+            HTTPSession session = shards[(shardIndex + i) & (NUMBER_OF_SHARDS - 1)].removeLeastRecentlyUsed();
+            if (session != null) {
+                activeSessionCount.decrementAndGet();
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private static int getShardIndex(String sessionId) {
+        int hash = sessionId.hashCode();
+        return (hash ^ (hash >>> 16)) & (NUMBER_OF_SHARDS - 1);
+    }
+
+    /**
+     * Register the active, expired and evicted session counts as polled gauges.
+     *
+     * @param metricRegistry the registry the gauges should be registered in.
+     */
+    public void registerMetrics(MetricRegistry metricRegistry) {
+        final String prefix = "ballerina_http_session_";
+        PolledGauge.builder(prefix + "active_count", this, SessionManager::getActiveSessionCount)
+                .register(metricRegistry);
+        PolledGauge.builder(prefix + "expired_count", this, SessionManager::getExpiredSessionCount)
+                .register(metricRegistry);
+        PolledGauge.builder(prefix + "evicted_count", this, SessionManager::getEvictedSessionCount)
+                .register(metricRegistry);
+    }
+
+    /**
+     * Holds a portion of the sessions in least recently used order.
+     */
+    private static class SessionShard {
+
+        private final LinkedHashMap<String, HTTPSession> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+        private synchronized HTTPSession get(String sessionId) {
+            return sessions.get(sessionId);
+        }
+
+        private synchronized void add(HTTPSession session) {
+            sessions.put(session.getId(), session);
+        }
+
+        /**
+         * Remove the least recently used session of the shard.
+         *
+         * @return the removed session, or null if the shard is empty
+         */
+        private synchronized HTTPSession removeLeastRecentlyUsed() {
+            Iterator<HTTPSession> iterator = sessions.values().iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            HTTPSession session = iterator.next();
+            iterator.remove();
+            return session;
+        }
+
+        /**
+         * Remove the given session from the shard.
+         *
+         * @return true if the session was removed
+         */
+        private synchronized boolean remove(Session session) {
+            if (sessions.get(session.getId()) == session) {
+                sessions.remove(session.getId());
+                return true;
+            }
+            return false;
+        }
+    }
 }
@@ -93,6 +93,10 @@ public class URIUtil {
         for (String pathSegment : pathSegments) {
             String[] splitPathSegment = pathSegment.split(";");
             pathToMatrixParam = pathToMatrixParam.concat("/" + splitPathSegment[0]);
+            if (splitPathSegment.length == 1) {
+                // segments without matrix params are looked up as an empty map
+                continue;
+            }
             Map<String, String> segmentMatrixParams = new HashMap<>();
             for (int i = 1; i < splitPathSegment.length; i++) {
                 String[] splitMatrixParam = splitPathSegment[i].split("=");
@@ -21,12 +21,14 @@ documentation {
    WRITE - open the file in write mode
    READ/WRITE - open the file either to read or write
    APPEND - append to existing file instead of replacing
+   READ_MAPPED - open the file in read mode and read it through memory mapped windows, for large files
 }
-public type Mode "r"|"w"|"rw"|"a";
+public type Mode "r"|"w"|"rw"|"a"|"rm";
 @final public Mode READ = "r";
 @final public Mode WRITE = "w";
 @final public Mode RW = "rw";
 @final public Mode APPEND = "a";
+@final public Mode READ_MAPPED = "rm";
 
 documentation {
     Retrieves a ByteChannel from a given file path.
@@ -47,6 +47,7 @@ public class FileIOChannel extends Channel {
 
     public FileIOChannel(FileChannel channel) throws BallerinaIOException {
         super(channel, new AsyncReader(), new AsyncWriter());
+        this.channel = channel;
     }
 
     /**
@@ -56,8 +57,31 @@ public class FileIOChannel extends Channel {
      */
     @Override
     public void transfer(int position, int count, WritableByteChannel dstChannel) throws IOException {
+        transfer(channel, position, count, dstChannel);
+    }
+
+    /**
+     * Transfers file content to the specified destination without copying it through user space where the platform
+     * allows it.
+     *
+     * @param channel    the file channel which holds the content.
+     * @param position   starting position of the bytes to be transferred.
+     * @param count      number of bytes to be transferred.
+     * @param dstChannel destination channel to transfer.
+     * @throws IOException during I/O error.
+     */
+    static void transfer(FileChannel channel, long position, long count, WritableByteChannel dstChannel)
+            throws IOException {
         try {
-            channel.transferTo(position, count, dstChannel);
+            long endPosition = Math.min(position + count, channel.size());
+            while (position < endPosition) {
+                //A single transfer might not move all the bytes requested, i.e when the destination is a socket
+                long transferredBytes = channel.transferTo(position, endPosition - position, dstChannel);
+                if (transferredBytes <= 0) {
+                    break;
+                }
+                position += transferredBytes;
+            }
         } catch (IOException e) {
             throw new BallerinaIOException("Error occurred while transferring file", e);
         }
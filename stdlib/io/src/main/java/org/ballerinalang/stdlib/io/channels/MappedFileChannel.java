@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+
+/**
+ * <p>
+ * Reads a file sequentially through memory mapped windows of the file.
+ * </p>
+ * <p>
+ * Content is copied from the mapped region straight into the destination buffer, without a system call per read.
+ * A single mapping cannot exceed 2 GB, hence larger files are mapped one window at a time and the next window is
+ * mapped once the reads go past the current one. The size of the file is taken when the channel is created.
+ * </p>
+ *
+ * @since 0.976.1
+ */
+public class MappedFileChannel implements ByteChannel {
+
+    /**
+     * Size of a mapped window of the file (128 MB).
+     */
+    private static final long WINDOW_SIZE = 128L * 1024 * 1024;
+
+    private FileChannel channel;
+
+    private long size;
+
+    private long position;
+
+    private MappedByteBuffer window;
+
+    private long windowPosition;
+
+    public MappedFileChannel(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (!channel.isOpen()) {
+            throw new ClosedChannelException();
+        }
+        if (position >= size) {
+            return -1;
+        }
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        if (null == window || position >= windowPosition + window.limit()) {
+            windowPosition = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowPosition,
+                    Math.min(WINDOW_SIZE, size - windowPosition));
+        }
+        int offset = (int) (position - windowPosition);
+        int length = Math.min(dst.remaining(), window.limit() - offset);
+        ByteBuffer content = window.duplicate();
+        content.position(offset);
+        content.limit(offset + length);
+        dst.put(content);
+        position += length;
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        //The mapping is released once the window is garbage collected
+        window = null;
+        channel.close();
+    }
+
+    /**
+     * Returns the underlying file channel.
+     *
+     * @return the file channel which is mapped.
+     */
+    FileChannel getFileChannel() {
+        return channel;
+    }
+}
@@ -19,9 +19,11 @@
 package org.ballerinalang.stdlib.io.channels;
 
 import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.channels.base.readers.AsyncReader;
 import org.ballerinalang.stdlib.io.channels.base.readers.BlockingReader;
 import org.ballerinalang.stdlib.io.channels.base.writers.BlockingWriter;
 import org.ballerinalang.stdlib.io.socket.SocketByteChannel;
+import org.ballerinalang.stdlib.io.socket.SocketEventLoop;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 
 import java.io.IOException;
@@ -38,11 +40,48 @@ public class SocketIOChannel extends Channel {
 
     private ByteChannel channel;
 
+    /**
+     * Event loop which performs the reads and writes of a non-blocking socket.
+     */
+    private SocketEventLoop eventLoop;
+
     public SocketIOChannel(ByteChannel channel, int size) throws IOException {
         super(channel, new BlockingReader(), new BlockingWriter(), size);
         this.channel = channel;
     }
 
+    /**
+     * Creates a channel for a non-blocking socket which is pinned to the given event loop. Reads will only return the
+     * bytes which are available once the socket is readable.
+     *
+     * @param channel   the non-blocking socket channel.
+     * @param eventLoop the event loop the socket is pinned to.
+     * @throws IOException initialization error.
+     */
+    public SocketIOChannel(SocketChannel channel, SocketEventLoop eventLoop) throws IOException {
+        super(channel, new AsyncReader(), new BlockingWriter(), 0);
+        this.channel = channel;
+        this.eventLoop = eventLoop;
+    }
+
+    /**
+     * Get the event loop of the socket.
+     *
+     * @return the event loop or null if the socket is not pinned to an event loop.
+     */
+    public SocketEventLoop getEventLoop() {
+        return eventLoop;
+    }
+
+    /**
+     * Get the underlying socket channel.
+     *
+     * @return the socket channel.
+     */
+    public SocketChannel getSocketChannel() {
+        return channel instanceof SocketChannel ? (SocketChannel) channel : null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -80,4 +119,18 @@ public class SocketIOChannel extends Channel {
             socketByteChannel.shutdownOutput();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (null != eventLoop) {
+                eventLoop.close((SocketChannel) channel);
+            }
+        }
+    }
 }
@@ -354,10 +354,7 @@ public class CharacterChannel {
         try {
             int numberOfBytesWritten = 0;
             if (channel != null) {
-                char[] characters = content.toCharArray();
-                CharBuffer characterBuffer = CharBuffer.wrap(characters);
-                characterBuffer.position(offset);
-                ByteBuffer encodedBuffer = byteEncoder.encode(characterBuffer);
+                ByteBuffer encodedBuffer = encode(content, offset);
                 do {
                     numberOfBytesWritten = numberOfBytesWritten + channel.write(encodedBuffer);
                 } while (encodedBuffer.hasRemaining());
@@ -371,6 +368,29 @@ public class CharacterChannel {
         }
     }
 
+    /**
+     * Encodes the given string input into the bytes which would be written to the channel.
+     *
+     * @param content the string content to be encoded.
+     * @param offset  the offset which should be used for encoding.
+     * @return the encoded content.
+     * @throws CharacterCodingException if the content cannot be encoded.
+     */
+    public ByteBuffer encode(String content, int offset) throws CharacterCodingException {
+        CharBuffer characterBuffer = CharBuffer.wrap(content);
+        characterBuffer.position(offset);
+        return byteEncoder.encode(characterBuffer);
+    }
+
+    /**
+     * Get the byte channel the characters are read from and written to.
+     *
+     * @return the underlying byte channel.
+     */
+    public Channel getChannel() {
+        return channel;
+    }
+
     /**
      * Closes the given channel.
      *
@@ -26,6 +26,9 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * <p>
@@ -35,12 +38,32 @@ import java.util.Arrays;
  * A readRecord will have a readRecord separator and a field separator.
  * </p>
  * <p>
+ * Records are identified by scanning the characters read from the channel once. Separators which are not regular
+ * expressions are matched literally, others are compiled once when the channel is created.
+ * </p>
+ * <p>
  * <b>Note : </b> this channel does not support concurrent operations, since underlying CharacterChannel is not
  * synchronous.
  * </p>
  */
 public class DelimitedRecordChannel {
 
+    /**
+     * The record separator of the formats, which matches a line break.
+     */
+    private static final String LINE_SEPARATOR = "\\r?\\n";
+
+    /**
+     * Characters which would make a separator a regular expression.
+     */
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private static final char QUOTE = '"';
+
+    private static final char LINE_FEED = '\n';
+
+    private static final char CARRIAGE_RETURN = '\r';
+
     /**
      * Distinguishes the Record.
      */
@@ -93,12 +116,68 @@ public class DelimitedRecordChannel {
      */
     private Format format;
 
+    /**
+     * Record separator which will be matched literally, if null the record separator is either a line break or the
+     * recordSeparatorPattern.
+     */
+    private String literalRecordSeparator;
+
+    private Pattern recordSeparatorPattern;
+
+    /**
+     * Field separator which will be matched literally, if null the fieldSeparatorPattern will be used.
+     */
+    private String literalFieldSeparator;
+
+    private Pattern fieldSeparatorPattern;
+
+    /**
+     * Specifies whether fields could be enclosed in quotes.
+     */
+    private boolean enclosedFields;
+
+    /**
+     * Specifies whether blank fields should be ignored.
+     */
+    private boolean ignoreBlanks;
+
+    /**
+     * The index of the characters in memory from which the scan for the record separator should resume.
+     */
+    private int scanIndex = 0;
+
+    /**
+     * Specifies whether the scan has stopped within an enclosed field.
+     */
+    private boolean enclosed = false;
+
+    /**
+     * Length of the record identified at the beginning of the characters in memory.
+     */
+    private int recordLength = 0;
+
+    /**
+     * Length of the separator which follows the identified record.
+     */
+    private int separatorLength = 0;
+
+    /**
+     * Holds the fields of the record being read, this is reused across records.
+     */
+    private final List<String> fields = new ArrayList<>();
+
+    /**
+     * Holds the content of an enclosed field being read, this is reused across fields.
+     */
+    private final StringBuilder fieldContent = new StringBuilder();
+
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
     public DelimitedRecordChannel(CharacterChannel channel, Format format) {
         this.channel = channel;
         this.format = format;
         this.persistentCharSequence = new StringBuilder();
+        initSeparatorsForReading();
     }
 
     public DelimitedRecordChannel(CharacterChannel channel, String recordSeparator, String fieldSeparator) {
@@ -106,6 +185,52 @@ public class DelimitedRecordChannel {
         this.fieldSeparator = fieldSeparator;
         this.channel = channel;
         this.persistentCharSequence = new StringBuilder();
+        initSeparatorsForReading();
+    }
+
+    /**
+     * Specifies whether a given separator should be treated as a regular expression.
+     *
+     * @param separator the separator.
+     * @return true if the separator contains characters which have a special meaning in a regular expression.
+     */
+    private static boolean isRegex(String separator) {
+        if (separator.isEmpty()) {
+            return true;
+        }
+        for (int index = 0; index < separator.length(); index++) {
+            if (REGEX_META_CHARACTERS.indexOf(separator.charAt(index)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Identifies how the record and the field separators should be matched when reading.
+     */
+    private void initSeparatorsForReading() {
+        String recordSeparatorForReading = getRecordSeparatorForReading();
+        if (!LINE_SEPARATOR.equals(recordSeparatorForReading)) {
+            if (isRegex(recordSeparatorForReading)) {
+                recordSeparatorPattern = Pattern.compile(recordSeparatorForReading);
+            } else {
+                literalRecordSeparator = recordSeparatorForReading;
+            }
+        }
+        if (null != format) {
+            //The field separators of the formats are in their literal form when writing
+            literalFieldSeparator = format.getWriteFieldSeparator();
+            enclosedFields = format.hasEnclosedFields();
+            ignoreBlanks = format.shouldIgnoreBlanks();
+        } else {
+            String fieldSeparatorForReading = getFieldSeparatorForReading();
+            if (isRegex(fieldSeparatorForReading)) {
+                fieldSeparatorPattern = Pattern.compile(fieldSeparatorForReading);
+            } else {
+                literalFieldSeparator = fieldSeparatorForReading;
+            }
+        }
     }
 
     /**
@@ -156,54 +281,93 @@ public class DelimitedRecordChannel {
         return format.getWriteFieldSeparator();
     }
 
+    /**
+     * <p>
+     * Identifies the next record in the characters which are in memory.
+     * </p>
+     * <p>
+     * The characters are scanned once, the scan resumes from where it stopped when more characters are read from
+     * the channel. If the record was found, the record length and the separator length will be set.
+     * </p>
+     *
+     * @return true if a complete record was found.
+     */
+    private boolean findRecord() {
+        int length = persistentCharSequence.length();
+        if (null == recordSeparatorPattern && null == literalRecordSeparator) {
+            for (int index = scanIndex; index < length; index++) {
+                char character = persistentCharSequence.charAt(index);
+                if (character == QUOTE) {
+                    //Line breaks which are enclosed in quotes are part of the field
+                    enclosed = enclosedFields && !enclosed;
+                } else if (character == LINE_FEED && !enclosed) {
+                    recordLength = index > 0 && persistentCharSequence.charAt(index - 1) == CARRIAGE_RETURN ?
+                            index - 1 : index;
+                    separatorLength = index + 1 - recordLength;
+                    return true;
+                }
+            }
+            scanIndex = length;
+        } else if (null != literalRecordSeparator) {
+            int index = persistentCharSequence.indexOf(literalRecordSeparator, scanIndex);
+            if (index >= 0) {
+                recordLength = index;
+                separatorLength = literalRecordSeparator.length();
+                return true;
+            }
+            //The separator could be partially read
+            scanIndex = Math.max(0, length - literalRecordSeparator.length() + 1);
+        } else {
+            Matcher matcher = recordSeparatorPattern.matcher(persistentCharSequence);
+            while (matcher.find()) {
+                //Similar to String#split a zero length match at the beginning does not separate a record
+                if (matcher.end() > 0) {
+                    recordLength = matcher.start();
+                    separatorLength = matcher.end() - matcher.start();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * <p>
      * Gets record from specified sequence of characters.
      * </p>
+     * <p>
+     * Once this returns the record will be at the beginning of the characters in memory, the length of the record
+     * and the separator which follows it will be set.
+     * </p>
      *
-     * @return the requested record.
      * @throws BallerinaIOException during I/O error.
      */
-    private String readRecord() throws BallerinaIOException, IOException {
-        String record = null;
-        String readCharacters = "";
-        final int minimumRecordCount = 1;
-        final int numberOfSplits = 2;
+    private void readRecord() throws BallerinaIOException, IOException {
+        String readCharacters;
         do {
             if (log.isTraceEnabled()) {
                 log.trace("char[] remaining in memory " + persistentCharSequence);
             }
-            //We need to split the string into 2
-            String[] delimitedRecord = persistentCharSequence.toString().
-                    split(getRecordSeparatorForReading(), numberOfSplits);
-            if (delimitedRecord.length > minimumRecordCount) {
-                record = processIdentifiedRecord(delimitedRecord);
-                int recordCharacterLength = record.length();
-                if (recordCharacterLength > recordCharacterCount) {
-                    recordCharacterCount = record.length();
+            if (findRecord()) {
+                if (recordLength > recordCharacterCount) {
+                    recordCharacterCount = recordLength;
                 }
-            } else {
-                readCharacters = readRecordFromChannel();
+                return;
             }
-        } while (record == null && !readCharacters.isEmpty());
-
-        if (null == record) {
-            record = readFinalRecord();
-        }
-        return record;
+            readCharacters = readRecordFromChannel();
+        } while (!readCharacters.isEmpty());
+        readFinalRecord();
     }
 
     /**
      * <p>
-     * Reads the remaining set of characters as the final record.
+     * Marks the remaining set of characters as the final record.
      * </p>
      * <p>
      * This operation is called when there're no more content to be retrieved from the the channel.
      * </p>
      */
-    private String readFinalRecord() {
-        final int minimumRemainingLength = 0;
-        String record = "";
+    private void readFinalRecord() {
         //This means there's no more to be get as records
         if (log.isDebugEnabled()) {
             log.debug("The content returned from the channel " + channel.hashCode() + " is <void>");
@@ -211,19 +375,15 @@ public class DelimitedRecordChannel {
         //This means this will be the last record which could be get
         this.remaining = false;
         //If there're any remaining characters left we provide it as the last record
-        if (persistentCharSequence.length() > minimumRemainingLength) {
-            record = persistentCharSequence.toString();
-            //Once the final record is processed there will be no chars left
-            persistentCharSequence.setLength(minimumRemainingLength);
-            if (log.isTraceEnabled()) {
-                log.trace("char [] remaining in memory, will be marked as the last record " + record);
-            }
+        recordLength = persistentCharSequence.length();
+        separatorLength = 0;
+        if (log.isTraceEnabled()) {
+            log.trace("char [] remaining in memory, will be marked as the last record " + persistentCharSequence);
         }
         if (log.isDebugEnabled()) {
             log.debug("Final record is get from channel " + channel.hashCode() + " number of records get " +
                     "from channel " + (numberOfRecordsReadThroughChannel + 1));
         }
-        return record;
     }
 
     /**
@@ -246,76 +406,152 @@ public class DelimitedRecordChannel {
         return readCharacters;
     }
 
+    /**
+     * Removes the record which was read and the separator which follows it from memory.
+     */
+    private void discardRecord() {
+        persistentCharSequence.delete(0, recordLength + separatorLength);
+        scanIndex = 0;
+        enclosed = false;
+    }
+
+    /**
+     * Checks whether a given sequence of characters consists only of white spaces, similar to String#trim.
+     *
+     * @param content the content which should be checked.
+     * @param start   start index of the content.
+     * @param end     end index of the content.
+     * @return true if the content is blank.
+     */
+    private static boolean isBlank(CharSequence content, int start, int end) {
+        for (int index = start; index < end; index++) {
+            if (content.charAt(index) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a field of the record which is being read.
+     *
+     * @param start        start index of the field in memory.
+     * @param end          end index of the field in memory.
+     * @param keepIfBlank  whether the field should be kept even if blanks are ignored.
+     */
+    private void addField(int start, int end, boolean keepIfBlank) {
+        if (ignoreBlanks && !keepIfBlank && isBlank(persistentCharSequence, start, end)) {
+            return;
+        }
+        fields.add(persistentCharSequence.substring(start, end));
+    }
+
     /**
      * <p>
-     * Identifies the record from the provided collection.
+     * Separates the fields of the record using a literal field separator.
      * </p>
      * <p>
-     * <b>Note :</b> This operation would append the remaining content to the string.
+     * Unless blanks are ignored, this will be similar to String#split, where trailing empty fields are removed.
      * </p>
-     *
-     * @param delimitedRecords collection of records which required to be split.
-     * @return the record content value.
-     */
-    private String processIdentifiedRecord(String[] delimitedRecords) {
-        String record;
-        final int minimumRemainingLength = 0;
-        final int delimitedRecordIndex = 0;
-        final int delimitedRemainingIndex = 1;
-        String recordContent = delimitedRecords[delimitedRemainingIndex];
-        record = delimitedRecords[delimitedRecordIndex];
-        persistentCharSequence.setLength(minimumRemainingLength);
-        persistentCharSequence.append(recordContent);
-        if (log.isTraceEnabled()) {
-            log.trace("Record identified from remaining char[] in memory " + record);
-            log.trace("The char[] left after split " + persistentCharSequence);
+     */
+    private void splitFields() {
+        int start = 0;
+        int separatorIndex;
+        int fieldSeparatorLength = literalFieldSeparator.length();
+        boolean separated = false;
+        while ((separatorIndex = persistentCharSequence.indexOf(literalFieldSeparator, start)) >= 0 &&
+                separatorIndex + fieldSeparatorLength <= recordLength) {
+            addField(start, separatorIndex, false);
+            start = separatorIndex + fieldSeparatorLength;
+            separated = true;
+        }
+        addField(start, recordLength, false);
+        if (separated && !ignoreBlanks) {
+            int numberOfFields = fields.size();
+            while (numberOfFields > 0 && fields.get(numberOfFields - 1).isEmpty()) {
+                fields.remove(--numberOfFields);
+            }
         }
-        return record;
     }
 
     /**
      * <p>
-     * Recursively split based on given regEx.
+     * Separates the fields of the record, where fields could be enclosed in double quotes.
      * </p>
      * <p>
-     * This operation will ignore blanks.
+     * An enclosed field could contain field separators, line breaks and double quotes which are escaped by preceding
+     * them with another double quote. White spaces around the quotes are ignored and any other content after the
+     * closing quote is appended to the field.
      * </p>
-     *
-     * @param record record which should be separated.
-     * @param regex  condition which should be used to split.
-     * @return the list of fields
-     */
-    private String[] recursiveSplit(String record, String regex) {
-        final int recursiveIndex = 2;
-        final String empty = "";
-        ArrayList<String> records = new ArrayList<>();
-        String[] splitRecords;
+     */
+    private void splitEnclosedFields() {
+        char fieldSeparator = literalFieldSeparator.charAt(0);
+        int index = 0;
         do {
-            splitRecords = record.split(regex, recursiveIndex);
-            int numberOfFields = splitRecords.length;
-            String field = splitRecords[0];
-            record = numberOfFields == recursiveIndex ? splitRecords[1] : empty;
-            if (field.trim().isEmpty()) {
-                continue;
+            int start = index;
+            while (index < recordLength && persistentCharSequence.charAt(index) == ' ') {
+                index++;
+            }
+            if (index < recordLength && persistentCharSequence.charAt(index) == QUOTE) {
+                fieldContent.setLength(0);
+                index++;
+                while (index < recordLength) {
+                    char character = persistentCharSequence.charAt(index++);
+                    if (character != QUOTE) {
+                        fieldContent.append(character);
+                    } else if (index < recordLength && persistentCharSequence.charAt(index) == QUOTE) {
+                        fieldContent.append(QUOTE);
+                        index++;
+                    } else {
+                        break;
+                    }
+                }
+                int contentEnd = fieldContent.length();
+                while (index < recordLength && persistentCharSequence.charAt(index) != fieldSeparator) {
+                    char character = persistentCharSequence.charAt(index++);
+                    fieldContent.append(character);
+                    if (character != ' ') {
+                        contentEnd = fieldContent.length();
+                    }
+                }
+                //White spaces which follow the closing quote are ignored
+                fieldContent.setLength(contentEnd);
+                fields.add(fieldContent.toString());
+            } else {
+                index = start;
+                while (index < recordLength && persistentCharSequence.charAt(index) != fieldSeparator) {
+                    index++;
+                }
+                addField(start, index, false);
             }
-            records.add(field);
-        } while (splitRecords.length == recursiveIndex);
-        return records.toArray(new String[0]);
+            //Skip the separator
+            index++;
+        } while (index <= recordLength);
     }
 
     /**
      * Get the fields identified through the record.
      *
-     * @param record the record which contains all the fields.
      * @return fields which are separated as records.
      */
-    private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
-        if (null != format && format.shouldIgnoreBlanks()) {
-            return recursiveSplit(record, fieldSeparatorForReading);
+    private String[] getFields() {
+        fields.clear();
+        if (enclosedFields) {
+            splitEnclosedFields();
+        } else if (null != literalFieldSeparator) {
+            splitFields();
         } else {
-            return record.split(fieldSeparatorForReading);
+            String[] splitFields = fieldSeparatorPattern.split(persistentCharSequence.subSequence(0, recordLength));
+            if (!ignoreBlanks) {
+                return splitFields;
+            }
+            for (String field : splitFields) {
+                if (!isBlank(field, 0, field.length())) {
+                    fields.add(field);
+                }
+            }
         }
+        return fields.toArray(new String[fields.size()]);
     }
 
     /**
@@ -337,9 +573,9 @@ public class DelimitedRecordChannel {
             if (log.isDebugEnabled()) {
                 log.debug("Reading record " + numberOfRecordsReadThroughChannel + " from " + channel.hashCode());
             }
-            String record = readRecord();
-            if (!record.isEmpty() || remaining) {
-                fields = getFields(record);
+            readRecord();
+            if (recordLength > 0 || remaining) {
+                fields = getFields();
                 numberOfRecordsReadThroughChannel++;
                 if (log.isDebugEnabled()) {
                     log.debug("Record " + numberOfRecordsReadThroughChannel + " returned " + fields.length + " from " +
@@ -350,6 +586,7 @@ public class DelimitedRecordChannel {
                             "channel " + channel.hashCode() + "," + Arrays.toString(fields));
                 }
             }
+            discardRecord();
         } else {
             //The channel could be null if it's being closed by a different source
             if (null != channel) {
@@ -368,6 +605,10 @@ public class DelimitedRecordChannel {
      * @return Enclosed field.
      */
     private String encloseField(String field) {
+        if (enclosedFields && field.indexOf(QUOTE) >= 0) {
+            //Quotes within an enclosed field are escaped with another quote
+            field = field.replace("\"", "\"\"");
+        }
         return "\"" + field + "\"";
     }
 
@@ -388,7 +629,9 @@ public class DelimitedRecordChannel {
         }
         for (int fieldCount = fieldStartIndex; fieldCount < numberOfFields; fieldCount++) {
             String currentFieldString = fields.get(fieldCount);
-            if (currentFieldString.contains(getFieldSeparatorForWriting())) {
+            if (currentFieldString.contains(getFieldSeparatorForWriting()) || (enclosedFields &&
+                    (currentFieldString.indexOf(QUOTE) >= 0 || currentFieldString.indexOf(LINE_FEED) >= 0 ||
+                            currentFieldString.indexOf(CARRIAGE_RETURN) >= 0))) {
                 currentFieldString = encloseField(currentFieldString);
             }
             recordConsolidator.append(currentFieldString);
@@ -401,6 +644,25 @@ public class DelimitedRecordChannel {
         return finalizedRecord;
     }
 
+    /**
+     * Composes the record which would be written for the given fields, including the record separator.
+     *
+     * @param fields the list of fields composing the record.
+     * @return the record content.
+     */
+    public String toRecord(BStringArray fields) {
+        return composeRecord(fields) + getRecordSeparatorForWriting();
+    }
+
+    /**
+     * Get the character channel the records are read from and written to.
+     *
+     * @return the underlying character channel.
+     */
+    public CharacterChannel getCharacterChannel() {
+        return channel;
+    }
+
     /**
      * Writes a given record to a file.
      *
@@ -409,8 +671,7 @@ public class DelimitedRecordChannel {
      */
     public void write(BStringArray fields) throws IOException {
         final int writeOffset = 0;
-        String record = composeRecord(fields);
-        record = record + getRecordSeparatorForWriting();
+        String record = toRecord(fields);
         if (log.isTraceEnabled()) {
             log.trace("The record " + numberOfRecordsWrittenToChannel + " composed for writing, " + record);
         }
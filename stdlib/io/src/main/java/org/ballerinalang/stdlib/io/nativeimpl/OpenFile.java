@@ -25,6 +25,8 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
@@ -56,6 +58,10 @@ public class OpenFile extends AbstractNativeChannel {
      * Index which will specify the file access mode.
      */
     private static final int FILE_ACCESS_MODE_INDEX = 0;
+    /**
+     * Access mode which will read the file through memory mapped windows.
+     */
+    private static final String READ_MAPPED_ACCESS_MODE = "rm";
 
     /**
      * {@inheritDoc}
@@ -68,7 +74,11 @@ public class OpenFile extends AbstractNativeChannel {
         try {
             Path path = Paths.get(pathUrl);
             FileChannel fileChannel = IOUtils.openFileChannel(path, accessMode.stringValue());
-            channel = new FileIOChannel(fileChannel);
+            if (READ_MAPPED_ACCESS_MODE.equals(accessMode.stringValue())) {
+                channel = new MappedFileIOChannel(new MappedFileChannel(fileChannel));
+            } else {
+                channel = new FileIOChannel(fileChannel);
+            }
         } catch (AccessDeniedException e) {
             throw new BallerinaException("Do not have access to write file: ", e);
         } catch (Throwable e) {
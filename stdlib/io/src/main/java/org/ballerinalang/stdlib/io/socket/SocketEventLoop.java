@@ -0,0 +1,429 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.socket;
+
+import org.ballerinalang.stdlib.io.events.Event;
+import org.ballerinalang.stdlib.io.events.EventContext;
+import org.ballerinalang.stdlib.io.events.EventResult;
+import org.ballerinalang.stdlib.io.events.result.NumericResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Selector loop which performs the reads and writes of the socket connections pinned to it.
+ * </p>
+ * <p>
+ * Read and write requests are queued to the loop and performed once the connection is ready, after which the
+ * Ballerina worker which issued the request is resumed through the event callback. Hence no thread is held while a
+ * connection waits for data. Requests are drained in batches with a single selector wake up per batch, and the
+ * writes queued to a connection are flushed together through a gathering write.
+ * </p>
+ * <p>
+ * The loop runs on a daemon thread until it is shut down. Shutting down the loop closes the connections which are
+ * pinned to it, and the pending reads and writes of those connections are notified of the failure.
+ * </p>
+ *
+ * @since 0.976.1
+ */
+public class SocketEventLoop {
+
+    private static final Logger log = LoggerFactory.getLogger(SocketEventLoop.class);
+
+    /**
+     * Maximum number of pending writes which will be gathered into a single write.
+     */
+    private static final int MAX_GATHERED_WRITES = 64;
+
+    private final Selector selector;
+
+    /**
+     * Requests which were submitted from other threads.
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Specifies whether the selector was already woken up for the tasks in the queue.
+     */
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
+    /**
+     * Connections which interest or pending writes changed while processing the current batch.
+     */
+    private final List<Connection> updatedConnections = new ArrayList<>();
+
+    /**
+     * Connections which are registered in the selector of the loop.
+     */
+    private final Map<SocketChannel, Connection> connections = new HashMap<>();
+
+    private final ByteBuffer[] gatheredBuffers = new ByteBuffer[MAX_GATHERED_WRITES];
+
+    /**
+     * Specifies whether the loop was asked to stop.
+     */
+    private volatile boolean shutdown;
+
+    /**
+     * Specifies whether the loop has stopped, after which requests are executed by the thread which submits them.
+     */
+    private volatile boolean terminated;
+
+    public SocketEventLoop(ThreadFactory threadFactory) throws IOException {
+        selector = Selector.open();
+        Thread thread = threadFactory.newThread(this::run);
+        //The loop should not keep the program alive once the workers are done
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reads from the given connection once it has data to be read.
+     *
+     * @param channel  the socket channel pinned to this loop.
+     * @param event    event which reads the content, this will be executed in the loop.
+     * @param function callback function which will be triggered with the result of the event.
+     */
+    public void read(SocketChannel channel, Event event, Function<EventResult, EventResult> function) {
+        execute(() -> {
+            Connection connection = getConnection(channel);
+            if (null == connection) {
+                complete(event, function);
+                return;
+            }
+            connection.reads.add(new PendingRead(event, function));
+            markUpdated(connection);
+        });
+    }
+
+    /**
+     * Writes the remaining content of the buffer to the given connection. The callback will be triggered once the
+     * whole content is written.
+     *
+     * @param channel  the socket channel pinned to this loop.
+     * @param content  the content which should be written.
+     * @param context  context of the event.
+     * @param function callback function which will be triggered with the number of bytes written.
+     */
+    public void write(SocketChannel channel, ByteBuffer content, EventContext context,
+                      Function<EventResult, EventResult> function) {
+        execute(() -> {
+            PendingWrite write = new PendingWrite(content, context, function);
+            Connection connection = getConnection(channel);
+            if (null == connection) {
+                write.fail(new ClosedChannelException());
+                return;
+            }
+            connection.writes.add(write);
+            markUpdated(connection);
+        });
+    }
+
+    /**
+     * Removes the given connection from the loop. The pending reads and writes of the connection will be notified.
+     *
+     * @param channel the socket channel which was closed.
+     */
+    public void close(SocketChannel channel) {
+        execute(() -> {
+            Connection connection = connections.get(channel);
+            if (null != connection) {
+                removeConnection(connection);
+            }
+        });
+    }
+
+    /**
+     * Stops the loop. The connections pinned to the loop are closed and their pending reads and writes are notified.
+     */
+    public void shutdown() {
+        shutdown = true;
+        selector.wakeup();
+    }
+
+    private void execute(Runnable task) {
+        tasks.add(task);
+        if (terminated) {
+            runTasks();
+        } else if (wakeUpPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    private void run() {
+        while (!shutdown) {
+            try {
+                selector.select();
+                //Tasks which are added after this point will wake up the next select
+                wakeUpPending.set(false);
+                runTasks();
+                processSelectedKeys();
+                processUpdatedConnections();
+            } catch (Throwable e) {
+                log.error("An error occurred in the socket event loop: " + e.getMessage(), e);
+            }
+        }
+        terminate();
+    }
+
+    private void terminate() {
+        for (Connection connection : new ArrayList<>(connections.values())) {
+            closeChannel(connection.channel);
+            removeConnection(connection);
+        }
+        updatedConnections.clear();
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.error("Unable to close the selector of the socket event loop: " + e.getMessage(), e);
+        }
+        terminated = true;
+        //Requests which were submitted before the loop was marked as terminated
+        runTasks();
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                log.error("An error occurred while executing a socket operation: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+        while (iterator.hasNext()) {
+            SelectionKey key = iterator.next();
+            iterator.remove();
+            Connection connection = (Connection) key.attachment();
+            try {
+                if (key.isReadable()) {
+                    //Only one read is performed per readiness, since the next read might not have data to read
+                    PendingRead read = connection.reads.poll();
+                    if (null != read) {
+                        complete(read.event, read.function);
+                    }
+                }
+                markUpdated(connection);
+            } catch (CancelledKeyException e) {
+                removeConnection(connection);
+            }
+        }
+    }
+
+    private void processUpdatedConnections() {
+        for (Connection connection : updatedConnections) {
+            connection.updated = false;
+            flush(connection);
+            SelectionKey key = connection.key;
+            if (!key.isValid()) {
+                removeConnection(connection);
+                continue;
+            }
+            int interestOps = (connection.reads.isEmpty() ? 0 : SelectionKey.OP_READ)
+                    | (connection.writes.isEmpty() ? 0 : SelectionKey.OP_WRITE);
+            try {
+                if (key.interestOps() != interestOps) {
+                    key.interestOps(interestOps);
+                }
+            } catch (CancelledKeyException e) {
+                removeConnection(connection);
+            }
+        }
+        updatedConnections.clear();
+    }
+
+    /**
+     * Writes the pending content of the connection until the socket cannot accept more.
+     */
+    private void flush(Connection connection) {
+        Queue<PendingWrite> writes = connection.writes;
+        try {
+            while (!writes.isEmpty()) {
+                int count = 0;
+                for (PendingWrite write : writes) {
+                    if (count == MAX_GATHERED_WRITES) {
+                        break;
+                    }
+                    gatheredBuffers[count++] = write.content;
+                }
+                long written = connection.channel.write(gatheredBuffers, 0, count);
+                while (!writes.isEmpty() && !writes.peek().content.hasRemaining()) {
+                    writes.poll().complete();
+                }
+                if (written == 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error occurred while writing to the socket", e);
+            failWrites(connection, e);
+        } finally {
+            for (int i = 0; i < MAX_GATHERED_WRITES && null != gatheredBuffers[i]; i++) {
+                gatheredBuffers[i] = null;
+            }
+        }
+    }
+
+    private Connection getConnection(SocketChannel channel) {
+        Connection connection = connections.get(channel);
+        if (null != connection) {
+            return connection;
+        }
+        if (shutdown) {
+            //The loop does not serve new connections anymore
+            closeChannel(channel);
+            return null;
+        }
+        try {
+            connection = new Connection(channel);
+            connection.key = channel.register(selector, 0, connection);
+            connections.put(channel, connection);
+            return connection;
+        } catch (IOException e) {
+            log.error("Unable to register the socket in the event loop: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void removeConnection(Connection connection) {
+        connections.remove(connection.channel);
+        connection.key.cancel();
+        failAll(connection, new ClosedChannelException());
+    }
+
+    private static void closeChannel(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("Unable to close the socket: " + e.getMessage(), e);
+        }
+    }
+
+    private void markUpdated(Connection connection) {
+        if (!connection.updated) {
+            connection.updated = true;
+            updatedConnections.add(connection);
+        }
+    }
+
+    private void failAll(Connection connection, IOException error) {
+        PendingRead read;
+        while ((read = connection.reads.poll()) != null) {
+            //The read event will report the failure since the channel is not readable anymore
+            complete(read.event, read.function);
+        }
+        failWrites(connection, error);
+    }
+
+    private void failWrites(Connection connection, IOException error) {
+        PendingWrite write;
+        while ((write = connection.writes.poll()) != null) {
+            write.fail(error);
+        }
+    }
+
+    private static void complete(Event event, Function<EventResult, EventResult> function) {
+        notifyResult(function, event.get());
+    }
+
+    private static void notifyResult(Function<EventResult, EventResult> function, EventResult result) {
+        try {
+            function.apply(result);
+        } catch (Throwable e) {
+            log.error("Error occurred while notifying the result of a socket operation", e);
+        }
+    }
+
+    /**
+     * Holds the state of a socket connection which is pinned to the loop.
+     */
+    private static class Connection {
+        private final SocketChannel channel;
+        private SelectionKey key;
+        private final Queue<PendingRead> reads = new ArrayDeque<>();
+        private final Queue<PendingWrite> writes = new ArrayDeque<>();
+        private boolean updated;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * Read which waits until the connection has data.
+     */
+    private static class PendingRead {
+        private final Event event;
+        private final Function<EventResult, EventResult> function;
+
+        private PendingRead(Event event, Function<EventResult, EventResult> function) {
+            this.event = event;
+            this.function = function;
+        }
+    }
+
+    /**
+     * Write which waits until its content is written to the connection.
+     */
+    private static class PendingWrite {
+        private final ByteBuffer content;
+        private final int startPosition;
+        private final EventContext context;
+        private final Function<EventResult, EventResult> function;
+
+        private PendingWrite(ByteBuffer content, EventContext context, Function<EventResult, EventResult> function) {
+            this.content = content;
+            this.startPosition = content.position();
+            this.context = context;
+            this.function = function;
+        }
+
+        private void complete() {
+            notifyResult(function, new NumericResult(content.position() - startPosition, context));
+        }
+
+        private void fail(IOException error) {
+            context.setError(error);
+            notifyResult(function, new NumericResult(context));
+        }
+    }
+}
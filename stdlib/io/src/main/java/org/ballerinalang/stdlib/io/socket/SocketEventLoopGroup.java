@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.socket;
+
+import org.ballerinalang.runtime.threadpool.BLangThreadFactory;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds a {@link SocketEventLoop} per processor. Each socket connection is pinned to one of the loops, which are
+ * assigned in round robin. The loops run on daemon threads, so they do not need to be shut down for the program to
+ * exit.
+ *
+ * @since 0.976.1
+ */
+public class SocketEventLoopGroup {
+
+    private static SocketEventLoopGroup instance;
+
+    private final SocketEventLoop[] eventLoops;
+
+    private final AtomicInteger nextIndex = new AtomicInteger(0);
+
+    private SocketEventLoopGroup(int numberOfLoops) throws IOException {
+        ThreadFactory threadFactory = new BLangThreadFactory("socket-event-loop");
+        eventLoops = new SocketEventLoop[numberOfLoops];
+        for (int i = 0; i < numberOfLoops; i++) {
+            eventLoops[i] = new SocketEventLoop(threadFactory);
+        }
+    }
+
+    /**
+     * Get the event loop group instance. The loops are started when the group is first requested.
+     *
+     * @return {@link SocketEventLoopGroup} instance.
+     */
+    public static synchronized SocketEventLoopGroup getInstance() {
+        if (instance == null) {
+            try {
+                instance = new SocketEventLoopGroup(Runtime.getRuntime().availableProcessors());
+            } catch (IOException e) {
+                throw new BallerinaIOException("Unable to start the socket event loops: " + e.getMessage(), e);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stop the event loops of the group. The connections pinned to the loops are closed, and a new group is started
+     * when the group is requested again.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            for (SocketEventLoop eventLoop : instance.eventLoops) {
+                eventLoop.shutdown();
+            }
+            instance = null;
+        }
+    }
+
+    /**
+     * Get the event loop which a new connection should be pinned to.
+     *
+     * @return the next {@link SocketEventLoop}.
+     */
+    public SocketEventLoop next() {
+        return eventLoops[Math.floorMod(nextIndex.getAndIncrement(), eventLoops.length)];
+    }
+}
@@ -28,14 +28,8 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.Receiver;
 import org.ballerinalang.natives.annotations.ReturnType;
 import org.ballerinalang.stdlib.io.socket.SocketConstants;
-import org.ballerinalang.stdlib.io.utils.IOUtils;
-import org.ballerinalang.util.codegen.PackageInfo;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.nio.channels.ServerSocketChannel;
-import java.nio.channels.SocketChannel;
 
 /**
  * Native function to accept new Client socket.
@@ -54,30 +48,15 @@ import java.nio.channels.SocketChannel;
 )
 public class Accept implements NativeCallableUnit {
 
-    private static final Logger log = LoggerFactory.getLogger(Accept.class);
-
     @Override
     public void execute(Context context, CallableUnitCallback callback) {
         BMap<String, BValue> serverSocketStruct = (BMap<String, BValue>) context.getRefArgument(0);
         ServerSocketChannel serverSocketChannel = (ServerSocketChannel) serverSocketStruct
                 .getNativeData(SocketConstants.SERVER_SOCKET_KEY);
         int serverSocketHash = serverSocketChannel.hashCode();
-        SocketChannel socketChannel = SocketQueue.getSocket(serverSocketHash);
-        if (socketChannel != null) {
-            try {
-                PackageInfo ioPackageInfo = context.getProgramFile().getPackageInfo(SocketConstants.SOCKET_PACKAGE);
-                BMap<String, BValue> socketStruct = ServerSocketUtils.getSocketStruct(socketChannel, ioPackageInfo);
-                context.setReturnValues(socketStruct);
-                callback.notifySuccess();
-            } catch (IOException e) {
-                String msg = "Failed to open a client connection: " + e.getMessage();
-                log.error(msg, e);
-                context.setReturnValues(IOUtils.createError(context, msg));
-            }
-        } else {
-            SocketAcceptCallbackQueue
-                    .registerSocketAcceptCallback(serverSocketHash, new SocketAcceptCallback(context, callback));
-        }
+        SocketAcceptCallbackQueue
+                .registerSocketAcceptCallback(serverSocketHash, new SocketAcceptCallback(context, callback));
+        SelectorManager.dispatchAcceptedSockets(serverSocketHash);
     }
 
     @Override
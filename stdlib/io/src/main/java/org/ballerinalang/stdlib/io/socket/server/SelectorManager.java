@@ -35,7 +35,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 
 /**
- * This will manage the Selector instance and handle the accept, read and write operations.
+ * This will manage the Selector instance and handle the accept operations. The reads and writes of the accepted
+ * sockets are performed by the socket event loops.
  *
  * @since 0.975.1
  */
@@ -82,9 +83,6 @@ public class SelectorManager {
                             if (key.isAcceptable()) {
                                 handleAccept(key);
                             }
-                            if (key.isReadable()) {
-                                log.info("Read ready implementation not done yet.");
-                            }
                             iter.remove();
                         }
                     } catch (Throwable e) {
@@ -98,22 +96,37 @@ public class SelectorManager {
 
     private static void handleAccept(SelectionKey key) {
         ServerSocketChannel serverSocketChannel = (ServerSocketChannel) key.attachment();
+        int serverSocketHash = serverSocketChannel.hashCode();
         try {
-            final SocketChannel client = serverSocketChannel.accept();
-            client.configureBlocking(false);
-            client.register(selector, SelectionKey.OP_READ);
-            int serverSocketHash = serverSocketChannel.hashCode();
-            SocketQueue.addSocket(serverSocketHash, client);
-            final Queue<SocketAcceptCallback> callbackQueue = SocketAcceptCallbackQueue
-                    .getCallbackQueue(serverSocketHash);
-            if (callbackQueue != null) {
-                final SocketAcceptCallback callback = callbackQueue.poll();
-                if (callback != null) {
-                    callback.notifyAccept();
-                }
+            //Accept the whole backlog of pending connections before notifying the waiting callbacks
+            SocketChannel client;
+            while ((client = serverSocketChannel.accept()) != null) {
+                client.configureBlocking(false);
+                SocketQueue.addSocket(serverSocketHash, client);
             }
         } catch (IOException e) {
             log.error("Unable to accept a new client socket connection: " + e.getMessage(), e);
         }
+        dispatchAcceptedSockets(serverSocketHash);
+    }
+
+    /**
+     * Hand over the accepted sockets to the callbacks which are waiting for them.
+     *
+     * @param serverSocketHash hash of the server socket.
+     */
+    static synchronized void dispatchAcceptedSockets(int serverSocketHash) {
+        final Queue<SocketAcceptCallback> callbackQueue = SocketAcceptCallbackQueue
+                .getCallbackQueue(serverSocketHash);
+        if (callbackQueue == null) {
+            return;
+        }
+        while (!callbackQueue.isEmpty()) {
+            final SocketChannel socketChannel = SocketQueue.getSocket(serverSocketHash);
+            if (socketChannel == null) {
+                return;
+            }
+            callbackQueue.poll().notifyAccept(socketChannel);
+        }
     }
 }
@@ -26,6 +26,7 @@ import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.stdlib.io.channels.SocketIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.socket.SocketConstants;
+import org.ballerinalang.stdlib.io.socket.SocketEventLoopGroup;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.util.codegen.PackageInfo;
 import org.ballerinalang.util.codegen.StructureTypeInfo;
@@ -69,7 +70,8 @@ public class ServerSocketUtils {
     private static BMap<String, BValue> getByteChannelStruct(SocketChannel socketChannel, PackageInfo ioPackageInfo)
             throws IOException {
         StructureTypeInfo channelStructInfo = ioPackageInfo.getStructInfo(BYTE_CHANNEL_STRUCT_TYPE);
-        Channel ballerinaSocketChannel = new SocketIOChannel(socketChannel, 0);
+        Channel ballerinaSocketChannel = new SocketIOChannel(socketChannel,
+                SocketEventLoopGroup.getInstance().next());
         BMap<String, BValue> channelStruct = BLangVMStructs.createBStruct(channelStructInfo, ballerinaSocketChannel);
         channelStruct.addNativeData(IOConstants.BYTE_CHANNEL_NAME, ballerinaSocketChannel);
         return channelStruct;
@@ -29,7 +29,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 
 /**
@@ -49,22 +48,16 @@ public class SocketAcceptCallback {
         this.callback = callback;
     }
 
-    public void notifyAccept() {
-        BMap<String, BValue> serverSocketStruct = (BMap<String, BValue>) context.getRefArgument(0);
-        ServerSocketChannel serverSocketChannel = (ServerSocketChannel) serverSocketStruct
-                .getNativeData(SocketConstants.SERVER_SOCKET_KEY);
-        SocketChannel socketChannel = SocketQueue.getSocket(serverSocketChannel.hashCode());
-        if (socketChannel != null) {
-            try {
-                PackageInfo ioPackageInfo = context.getProgramFile().getPackageInfo(SocketConstants.SOCKET_PACKAGE);
-                BMap<String, BValue> socketStruct = ServerSocketUtils.getSocketStruct(socketChannel, ioPackageInfo);
-                context.setReturnValues(socketStruct);
-                callback.notifySuccess();
-            } catch (IOException e) {
-                String msg = "Failed to open a client connection: " + e.getMessage();
-                log.error(msg, e);
-                context.setReturnValues(IOUtils.createError(context, msg));
-            }
+    public void notifyAccept(SocketChannel socketChannel) {
+        try {
+            PackageInfo ioPackageInfo = context.getProgramFile().getPackageInfo(SocketConstants.SOCKET_PACKAGE);
+            BMap<String, BValue> socketStruct = ServerSocketUtils.getSocketStruct(socketChannel, ioPackageInfo);
+            context.setReturnValues(socketStruct);
+        } catch (IOException e) {
+            String msg = "Failed to open a client connection: " + e.getMessage();
+            log.error(msg, e);
+            context.setReturnValues(IOUtils.createError(context, msg));
         }
+        callback.notifySuccess();
     }
 }
@@ -18,10 +18,10 @@
 
 package org.ballerinalang.stdlib.io.socket.server;
 
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * This is the Socket accept callback queue where, ballerina socket accept function register a callback to execute
@@ -31,16 +31,10 @@ import java.util.Queue;
  */
 public class SocketAcceptCallbackQueue {
 
-    private static Map<Integer, Queue<SocketAcceptCallback>> callbackRegistry = new HashMap<>();
+    private static Map<Integer, Queue<SocketAcceptCallback>> callbackRegistry = new ConcurrentHashMap<>();
 
     public static void registerSocketAcceptCallback(int serverSocketHash, SocketAcceptCallback e) {
-        Queue<SocketAcceptCallback> socketChannels = callbackRegistry.get(serverSocketHash);
-        if (socketChannels == null) {
-            Queue<SocketAcceptCallback> queue = new LinkedList<>();
-            callbackRegistry.put(serverSocketHash, queue);
-            socketChannels = queue;
-        }
-        socketChannels.add(e);
+        callbackRegistry.computeIfAbsent(serverSocketHash, hash -> new ConcurrentLinkedQueue<>()).add(e);
     }
 
     public static Queue<SocketAcceptCallback> getCallbackQueue(int serverSocketHash) {
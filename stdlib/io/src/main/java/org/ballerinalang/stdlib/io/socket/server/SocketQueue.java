@@ -19,10 +19,10 @@
 package org.ballerinalang.stdlib.io.socket.server;
 
 import java.nio.channels.SocketChannel;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * This queue will hold all the newly accepted socket until it start to use.
@@ -31,16 +31,10 @@ import java.util.Queue;
  */
 public class SocketQueue {
 
-    private static Map<Integer, Queue<SocketChannel>> clientSockets = new HashMap<>();
+    private static Map<Integer, Queue<SocketChannel>> clientSockets = new ConcurrentHashMap<>();
 
     public static void addSocket(int serverSocketHash, SocketChannel socket) {
-        Queue<SocketChannel> socketChannels = clientSockets.get(serverSocketHash);
-        if (socketChannels == null) {
-            Queue<SocketChannel> queue = new LinkedList<>();
-            clientSockets.put(serverSocketHash, queue);
-            socketChannels = queue;
-        }
-        socketChannels.add(socket);
+        clientSockets.computeIfAbsent(serverSocketHash, hash -> new ConcurrentLinkedQueue<>()).add(socket);
     }
 
     public static SocketChannel getSocket(int serverSocketHash) {
@@ -25,6 +25,7 @@ import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.SocketIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
@@ -41,12 +42,17 @@ import org.ballerinalang.stdlib.io.events.characters.WriteCharactersEvent;
 import org.ballerinalang.stdlib.io.events.records.CloseDelimitedRecordEvent;
 import org.ballerinalang.stdlib.io.events.records.DelimitedRecordReadEvent;
 import org.ballerinalang.stdlib.io.events.records.DelimitedRecordWriteEvent;
+import org.ballerinalang.stdlib.io.events.result.NumericResult;
+import org.ballerinalang.stdlib.io.socket.SocketEventLoop;
 import org.ballerinalang.util.codegen.PackageInfo;
 import org.ballerinalang.util.codegen.StructureTypeInfo;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -140,11 +146,65 @@ public class IOUtils {
      */
     public static void write(Channel channel, byte[] content, int offset, EventContext context,
                              Function<EventResult, EventResult> function) {
+        SocketEventLoop eventLoop = getEventLoop(channel);
+        if (null != eventLoop) {
+            ByteBuffer writeBuffer = ByteBuffer.wrap(content);
+            writeBuffer.position(offset);
+            eventLoop.write(((SocketIOChannel) channel).getSocketChannel(), writeBuffer, context, function);
+            return;
+        }
         WriteBytesEvent writeBytesEvent = new WriteBytesEvent(channel, content, offset, context);
         CompletableFuture<EventResult> future = EventManager.getInstance().publish(writeBytesEvent);
         future.thenApply(function);
     }
 
+    /**
+     * Get the event loop of a socket channel, the reads and writes of such a channel are performed by the loop.
+     *
+     * @param channel the channel the bytes are read from or written to.
+     * @return the event loop of the channel or null if the operation should be published to the event manager.
+     */
+    private static SocketEventLoop getEventLoop(Channel channel) {
+        if (channel instanceof SocketIOChannel) {
+            return ((SocketIOChannel) channel).getEventLoop();
+        }
+        return null;
+    }
+
+    /**
+     * Get the event loop of the socket channel a character channel is created on.
+     *
+     * @param characterChannel the channel the characters are read from or written to.
+     * @return the event loop of the channel or null if the operation should be published to the event manager.
+     */
+    private static SocketEventLoop getEventLoop(CharacterChannel characterChannel) {
+        return getEventLoop(characterChannel.getChannel());
+    }
+
+    /**
+     * Encodes the content and writes it through the event loop of the socket the character channel is created on.
+     *
+     * @param characterChannel the character channel of a socket pinned to the event loop.
+     * @param eventLoop        the event loop of the socket.
+     * @param content          the content which will be written.
+     * @param offset           the offset of the content which will be written.
+     * @param context          context of the event.
+     * @param function         callback function which will be triggered with the number of bytes written.
+     */
+    private static void write(CharacterChannel characterChannel, SocketEventLoop eventLoop, String content, int offset,
+                              EventContext context, Function<EventResult, EventResult> function) {
+        ByteBuffer encodedContent;
+        try {
+            encodedContent = characterChannel.encode(content, offset);
+        } catch (CharacterCodingException e) {
+            context.setError(e);
+            function.apply(new NumericResult(context));
+            return;
+        }
+        SocketChannel socketChannel = ((SocketIOChannel) characterChannel.getChannel()).getSocketChannel();
+        eventLoop.write(socketChannel, encodedContent, context, function);
+    }
+
     /**
      * <p>
      * Writes the whole payload to the channel.
@@ -157,6 +217,24 @@ public class IOUtils {
      */
     public static void writeFull(CharacterChannel characterChannel, String payload, EventContext eventContext) throws
             BallerinaException {
+        SocketEventLoop eventLoop = getEventLoop(characterChannel);
+        if (null != eventLoop) {
+            //The event loop completes the write once the whole payload is written
+            CompletableFuture<EventResult> future = new CompletableFuture<>();
+            write(characterChannel, eventLoop, payload, 0, eventContext, result -> {
+                future.complete(result);
+                return result;
+            });
+            try {
+                Throwable error = ((EventContext) future.get().getContext()).getError();
+                if (null != error) {
+                    throw new BallerinaException(error);
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                throw new BallerinaException(e);
+            }
+            return;
+        }
         try {
             int totalNumberOfCharsWritten = 0;
             int numberOfCharsWritten;
@@ -208,6 +286,11 @@ public class IOUtils {
     public static void read(CharacterChannel characterChannel, int numberOfCharacters, EventContext context
             , Function<EventResult, EventResult> function) {
         ReadCharactersEvent event = new ReadCharactersEvent(characterChannel, numberOfCharacters, context);
+        SocketEventLoop eventLoop = getEventLoop(characterChannel);
+        if (null != eventLoop) {
+            eventLoop.read(((SocketIOChannel) characterChannel.getChannel()).getSocketChannel(), event, function);
+            return;
+        }
         CompletableFuture<EventResult> future = EventManager.getInstance().publish(event);
         future.thenApply(function);
     }
@@ -223,6 +306,11 @@ public class IOUtils {
      */
     public static void write(CharacterChannel characterChannel, String content, int offset,
                              EventContext context, Function<EventResult, EventResult> function) {
+        SocketEventLoop eventLoop = getEventLoop(characterChannel);
+        if (null != eventLoop) {
+            write(characterChannel, eventLoop, content, offset, context, function);
+            return;
+        }
         WriteCharactersEvent event = new WriteCharactersEvent(characterChannel, content, offset, context);
         CompletableFuture<EventResult> future = EventManager.getInstance().publish(event);
         future.thenApply(function);
@@ -269,6 +357,11 @@ public class IOUtils {
     public static void read(Channel channel, byte[] content, EventContext context,
                             Function<EventResult, EventResult> function) {
         ReadBytesEvent event = new ReadBytesEvent(channel, content, context);
+        SocketEventLoop eventLoop = getEventLoop(channel);
+        if (null != eventLoop) {
+            eventLoop.read(((SocketIOChannel) channel).getSocketChannel(), event, function);
+            return;
+        }
         CompletableFuture<EventResult> future = EventManager.getInstance().publish(event);
         future.thenApply(function);
     }
@@ -283,6 +376,13 @@ public class IOUtils {
     public static void read(DelimitedRecordChannel recordChannel, EventContext context,
                             Function<EventResult, EventResult> function) {
         DelimitedRecordReadEvent event = new DelimitedRecordReadEvent(recordChannel, context);
+        SocketEventLoop eventLoop = getEventLoop(recordChannel.getCharacterChannel());
+        if (null != eventLoop) {
+            SocketChannel socketChannel = ((SocketIOChannel) recordChannel.getCharacterChannel().getChannel())
+                    .getSocketChannel();
+            eventLoop.read(socketChannel, event, function);
+            return;
+        }
         CompletableFuture<EventResult> future = EventManager.getInstance().publish(event);
         future.thenApply(function);
     }
@@ -297,6 +397,12 @@ public class IOUtils {
      */
     public static void write(DelimitedRecordChannel recordChannel, BStringArray records, EventContext context,
                              Function<EventResult, EventResult> function) {
+        SocketEventLoop eventLoop = getEventLoop(recordChannel.getCharacterChannel());
+        if (null != eventLoop) {
+            write(recordChannel.getCharacterChannel(), eventLoop, recordChannel.toRecord(records), 0, context,
+                    function);
+            return;
+        }
         DelimitedRecordWriteEvent recordWriteEvent = new DelimitedRecordWriteEvent(recordChannel, records, context);
         CompletableFuture<EventResult> future = EventManager.getInstance().publish(recordWriteEvent);
         future.thenApply(function);
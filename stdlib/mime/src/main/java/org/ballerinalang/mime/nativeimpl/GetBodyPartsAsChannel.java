@@ -3,10 +3,9 @@ package org.ballerinalang.mime.nativeimpl;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
 import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
-import org.ballerinalang.mime.util.EntityBodyChannel;
-import org.ballerinalang.mime.util.EntityWrapper;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDataSource;
+import org.ballerinalang.mime.util.SpillableOutputStream;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
@@ -15,14 +14,12 @@ import org.ballerinalang.natives.annotations.Receiver;
 import org.ballerinalang.natives.annotations.ReturnType;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-
 import static org.ballerinalang.mime.util.MimeConstants.BYTE_CHANNEL_STRUCT;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_PARAMETER_INDEX;
 
 /**
- * 'getBodyPartsAsChannel' native function converts a set of body parts into a byte channel.
+ * 'getBodyPartsAsChannel' native function converts a set of body parts into a byte channel. The encoded parts are
+ * kept in memory up to the multipart memory threshold and are written to a temporary file beyond that.
  *
  * @since 0.970.0
  */
@@ -38,14 +35,17 @@ public class GetBodyPartsAsChannel extends BlockingNativeCallableUnit {
     public void execute(Context context) {
         BMap<String, BValue> byteChannelStruct;
         BMap<String, BValue> entityStruct = (BMap<String, BValue>) context.getRefArgument(FIRST_PARAMETER_INDEX);
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SpillableOutputStream outputStream = new SpillableOutputStream(MimeUtil.getMultipartMemoryThreshold());
         String multipartDataBoundary = MimeUtil.getNewMultipartDelimiter();
         MultipartDataSource multipartDataSource = new MultipartDataSource(entityStruct, multipartDataBoundary);
-        multipartDataSource.serializeData(outputStream);
-        EntityBodyChannel entityBodyChannel = new EntityBodyChannel(new ByteArrayInputStream(
-                outputStream.toByteArray()));
+        try {
+            multipartDataSource.serializeData(outputStream);
+        } catch (RuntimeException e) {
+            outputStream.discard();
+            throw e;
+        }
         byteChannelStruct = BLangConnectorSPIUtil.createBStruct(context, IOConstants.IO_PACKAGE, BYTE_CHANNEL_STRUCT);
-        byteChannelStruct.addNativeData(IOConstants.BYTE_CHANNEL_NAME, new EntityWrapper(entityBodyChannel));
+        byteChannelStruct.addNativeData(IOConstants.BYTE_CHANNEL_NAME, outputStream.getByteChannel());
         context.setReturnValues(byteChannelStruct);
     }
 }
@@ -33,6 +33,7 @@ import java.nio.channels.ReadableByteChannel;
 public class EntityBodyChannel implements ByteChannel {
     private InputStream inputStream;
     private ReadableByteChannel byteChannel;
+    private volatile boolean read;
 
     public EntityBodyChannel(InputStream inputStream) {
         this.inputStream = inputStream;
@@ -41,9 +42,19 @@ public class EntityBodyChannel implements ByteChannel {
 
     @Override
     public int read(ByteBuffer dst) throws IOException {
+        read = true;
         return byteChannel.read(dst);
     }
 
+    /**
+     * Check whether any content has been requested from this channel.
+     *
+     * @return true if the channel has been read from
+     */
+    public boolean isRead() {
+        return read;
+    }
+
     @Override
     public int write(ByteBuffer src) throws IOException {
         return 0;
@@ -35,8 +35,20 @@ import java.nio.channels.WritableByteChannel;
  */
 public class EntityWrapper extends Channel {
 
+    private final EntityBodyChannel entityBodyChannel;
+
     public EntityWrapper(EntityBodyChannel channel) throws BallerinaIOException {
         super(channel, new BlockingReader(), new BlockingWriter(), IOConstants.CHANNEL_BUFFER_SIZE);
+        this.entityBodyChannel = channel;
+    }
+
+    /**
+     * Check whether any content of the entity body has been read through this channel.
+     *
+     * @return true if the entity body has been read from
+     */
+    public boolean isBodyRead() {
+        return entityBodyChannel.isRead();
     }
 
     @Override
@@ -135,7 +135,8 @@ public class MimeConstants {
 
     public static final short ONE_BYTE = 1;
     public static final int READABLE_BUFFER_SIZE = 8192; //8KB
-    public static final double MAX_THRESHOLD_PERCENTAGE = 0.1;
+    public static final String MULTIPART_MEMORY_THRESHOLD = "b7a.mime.multipart.memorythreshold";
+    public static final long DEFAULT_MULTIPART_MEMORY_THRESHOLD = 1024 * 1024; //1MB
 
     public static final String UTF_8 = "UTF-8";
     public static final String CONTENT_TRANSFER_ENCODING_7_BIT = "7bit";
@@ -24,6 +24,7 @@ import io.netty.util.internal.PlatformDependent;
 
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.bvm.BLangVMErrors;
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.values.BInteger;
@@ -51,6 +52,7 @@ import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_FILE
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_NAME;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_NAME_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_PARA_MAP_FIELD;
+import static org.ballerinalang.mime.util.MimeConstants.DEFAULT_MULTIPART_MEMORY_THRESHOLD;
 import static org.ballerinalang.mime.util.MimeConstants.DEFAULT_PRIMARY_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.DEFAULT_SUB_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.DISPOSITION_FIELD;
@@ -60,6 +62,7 @@ import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_FORM_DATA;
+import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_MEMORY_THRESHOLD;
 import static org.ballerinalang.mime.util.MimeConstants.PARAMETER_MAP_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.PRIMARY_TYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_PACKAGE_MIME;
@@ -413,6 +416,24 @@ public class MimeUtil {
         return Long.toHexString(PlatformDependent.threadLocalRandom().nextLong());
     }
 
+    /**
+     * Get the number of bytes of a body part or an encoded multipart message that can be kept in memory, after
+     * which it is written to a temporary file.
+     *
+     * @return memory threshold in bytes
+     */
+    public static long getMultipartMemoryThreshold() {
+        String threshold = ConfigRegistry.getInstance().getAsString(MULTIPART_MEMORY_THRESHOLD);
+        if (threshold == null) {
+            return DEFAULT_MULTIPART_MEMORY_THRESHOLD;
+        }
+        try {
+            return Long.parseLong(threshold);
+        } catch (NumberFormatException e) {
+            throw new BallerinaException("invalid value for '" + MULTIPART_MEMORY_THRESHOLD + "': " + threshold);
+        }
+    }
+
     /**
      * Given a body part, check whether any nested parts are available.
      *
@@ -44,7 +44,6 @@ import static org.ballerinalang.mime.util.MimeConstants.CONTENT_ID_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY_HEADERS;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_ELEMENT;
-import static org.ballerinalang.mime.util.MimeConstants.MAX_THRESHOLD_PERCENTAGE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_PACKAGE_MIME;
@@ -92,27 +91,17 @@ public class MultipartDecoder {
     }
 
     /**
-     * Create mime configuration with the maximum memory limit.
+     * Create mime configuration with the maximum memory limit. Body parts larger than the limit are written to
+     * temporary files, so that the heap used for a message does not grow with the size of the uploaded content.
      *
      * @return MIMEConfig which defines configuration for MIME message parsing and storing
      */
     private static MIMEConfig getMimeConfig() {
         MIMEConfig mimeConfig = new MIMEConfig();
-        mimeConfig.setMemoryThreshold(getMemoryThreshold());
+        mimeConfig.setMemoryThreshold(MimeUtil.getMultipartMemoryThreshold());
         return mimeConfig;
     }
 
-    /**
-     * Get the maximum memory threshold value to be used with multiparts.
-     *
-     * @return max threshold value
-     */
-    private static Long getMemoryThreshold() {
-        Long freeMemorySize = Runtime.getRuntime().freeMemory();
-        Double maxThreshold = freeMemorySize * MAX_THRESHOLD_PERCENTAGE;
-        return maxThreshold.longValue();
-    }
-
     /**
      * Populate ballerina body parts from the given mime parts and set it to top level entity.
      *
@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.mime.util;
+
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.ballerinalang.mime.util.MimeConstants.READABLE_BUFFER_SIZE;
+import static org.ballerinalang.mime.util.MimeConstants.TEMP_FILE_EXTENSION;
+import static org.ballerinalang.mime.util.MimeConstants.TEMP_FILE_NAME;
+
+/**
+ * Output stream which keeps the written content in memory until it exceeds the given threshold, after which the
+ * content is moved to a temporary file and the rest is written there. Once written, the content can be read back
+ * through a byte channel. The temporary file is deleted when that channel is closed.
+ *
+ * @since 0.976.1
+ */
+public class SpillableOutputStream extends OutputStream {
+
+    private final long threshold;
+    private ContentBuffer memoryContent = new ContentBuffer();
+    private OutputStream fileContent;
+    private Path tempFile;
+    private boolean closed;
+
+    public SpillableOutputStream(long threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        getOutputStream(1).write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        getOutputStream(len).write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileContent != null) {
+            fileContent.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (fileContent != null) {
+            fileContent.close();
+        }
+    }
+
+    /**
+     * Close the stream and get a byte channel to read the written content.
+     *
+     * @return byte channel which reads the content from memory or from the temporary file
+     */
+    public Channel getByteChannel() {
+        try {
+            close();
+        } catch (IOException e) {
+            deleteTempFile();
+            throw new BallerinaException("Error occurred while writing content to a temporary file", e);
+        }
+        if (tempFile != null) {
+            try {
+                return EntityBodyHandler.getByteChannelForTempFile(tempFile.toString());
+            } catch (BallerinaException e) {
+                deleteTempFile();
+                throw e;
+            }
+        }
+        return new EntityWrapper(new EntityBodyChannel(memoryContent.getInputStream()));
+    }
+
+    /**
+     * Close the stream and drop the written content, deleting the temporary file if one was created. Used when the
+     * content could not be completely written.
+     */
+    public void discard() {
+        closed = true;
+        deleteTempFile();
+        memoryContent = null;
+    }
+
+    /**
+     * Open the stream to which the content is written once it is moved to the given temporary file.
+     *
+     * @param tempFile temporary file which holds the content
+     * @return output stream which writes to the file
+     * @throws IOException if the file could not be opened
+     */
+    protected OutputStream openTempFile(Path tempFile) throws IOException {
+        return new BufferedOutputStream(Files.newOutputStream(tempFile), READABLE_BUFFER_SIZE);
+    }
+
+    private OutputStream getOutputStream(int length) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is already closed");
+        }
+        if (fileContent == null && memoryContent.size() + (long) length > threshold) {
+            spill();
+        }
+        return fileContent != null ? fileContent : memoryContent;
+    }
+
+    private void spill() throws IOException {
+        tempFile = Files.createTempFile(TEMP_FILE_NAME, TEMP_FILE_EXTENSION);
+        try {
+            fileContent = openTempFile(tempFile);
+            memoryContent.writeTo(fileContent);
+        } catch (IOException | RuntimeException e) {
+            deleteTempFile();
+            throw e;
+        }
+        memoryContent = null;
+    }
+
+    private void deleteTempFile() {
+        if (tempFile == null) {
+            return;
+        }
+        if (fileContent != null) {
+            try {
+                fileContent.close();
+            } catch (IOException e) {
+                // the content is dropped, the file is deleted regardless
+            }
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            // the file is in the temporary directory and will be cleaned up with it
+        }
+        tempFile = null;
+        fileContent = null;
+    }
+
+    /**
+     * In memory content, which can be read without copying the internal buffer.
+     */
+    private static class ContentBuffer extends ByteArrayOutputStream {
+
+        private ByteArrayInputStream getInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -29,7 +29,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The WebSub service registry which uses an {@link HTTPServicesRegistry} to maintain WebSub Subscriber HTTP services.
@@ -133,18 +132,15 @@ public class WebSubServicesRegistry extends HTTPServicesRegistry {
         String hostName = httpService.getHostName();
         if (servicesMapByHost.get(hostName) == null) {
             servicesByBasePath = new ConcurrentHashMap<>();
-            sortedServiceURIs = new CopyOnWriteArrayList<>();
-            servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath, sortedServiceURIs));
+            servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath));
         } else {
             servicesByBasePath = getServicesByHost(hostName);
-            sortedServiceURIs = getSortedServiceURIsByHost(hostName);
         }
         servicesByBasePath.put(httpService.getBasePath(), httpService);
         logger.info("Service deployed : " + service.getName() + " with context " + httpService.getBasePath());
 
         //basePath will get cached after registering service
-        sortedServiceURIs.add(httpService.getBasePath());
-        sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        cacheBasePath(hostName, httpService.getBasePath());
 
         WebSubSubscriberServiceValidator.validateResources(httpService, topicHeader, topicResourceMap);
     }
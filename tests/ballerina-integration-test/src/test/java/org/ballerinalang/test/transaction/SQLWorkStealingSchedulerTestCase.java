@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.transaction;
+
+import org.ballerinalang.test.context.ServerInstance;
+import org.ballerinalang.test.util.HttpClientRequest;
+import org.ballerinalang.test.util.HttpResponse;
+import org.ballerinalang.test.util.SQLDBUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Tests blocking SQL actions in the work stealing scheduler mode, with a single carrier thread and without
+ * offloading the blocking calls.
+ */
+public class SQLWorkStealingSchedulerTestCase {
+
+    private ServerInstance serverInstance;
+    private SQLDBUtils.SqlServer sqlServer;
+    private static final String DB_NAME = "TEST_SQL_SATURATED_POOL";
+    private static final String[] ARGS = {"-e", "b7a.runtime.scheduler.mode=workstealing",
+            "-e", "b7a.runtime.scheduler.threadpoolsize=1", "-e", "b7a.runtime.scheduler.offloadblockingcalls=false"};
+
+    @BeforeClass
+    private void setup() throws Exception {
+        serverInstance = ServerInstance.initBallerinaServer(9090);
+        Files.copy(new File(System.getProperty("hsqldb.jar")).toPath(), new File(serverInstance.getServerHome() +
+                        File.separator + "bre" + File.separator + "lib" + File.separator + "hsqldb.jar").toPath(),
+                REPLACE_EXISTING);
+        SQLDBUtils.deleteFiles(new File(SQLDBUtils.DB_DIRECTORY), DB_NAME);
+        sqlServer = SQLDBUtils.initDatabase(SQLDBUtils.DB_DIRECTORY, DB_NAME, "transaction/data.sql");
+        serverInstance.startBallerinaServer(new File("src" + File.separator + "test" + File.separator + "resources"
+                + File.separator + "transaction" + File.separator + "saturated_pool.bal").getAbsolutePath(), ARGS);
+    }
+
+    @Test(description = "Test that an action which blocks the carrier thread does not stop the transaction it waits "
+            + "for from resuming")
+    public void testTransactionWithBlockedCarrierThread() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<HttpResponse> transaction = executor.submit(
+                    () -> HttpClientRequest.doGet(serverInstance.getServiceURLHttp("pool/insertInTransaction")));
+            // The first count blocks the only carrier thread while it waits for the lock of the transaction on
+            // the table, so the transaction can only resume in a spare thread of the executor
+            Thread.sleep(500);
+            Future<HttpResponse> firstCount = executor.submit(
+                    () -> HttpClientRequest.doGet(serverInstance.getServiceURLHttp("pool/countCustomers")));
+            Future<HttpResponse> secondCount = executor.submit(
+                    () -> HttpClientRequest.doGet(serverInstance.getServiceURLHttp("pool/countCustomers")));
+
+            HttpResponse transactionResponse = transaction.get(30, TimeUnit.SECONDS);
+            Assert.assertEquals(transactionResponse.getResponseCode(), 200, "Response code mismatched");
+            Assert.assertEquals(transactionResponse.getData(), "committed");
+            Assert.assertEquals(firstCount.get(30, TimeUnit.SECONDS).getData(), "2");
+            Assert.assertEquals(secondCount.get(30, TimeUnit.SECONDS).getData(), "2");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @AfterClass
+    private void cleanup() throws Exception {
+        serverInstance.stopServer();
+        sqlServer.stop();
+    }
+}
@@ -0,0 +1,120 @@
+import ballerina/http;
+import ballerina/mime;
+
+endpoint http:Listener passthroughEP {
+    port:9090
+};
+
+endpoint http:Client backendEP {
+    url:"http://localhost:9090"
+};
+
+@http:ServiceConfig {basePath:"/passthrough"}
+service<http:Service> passthroughService bind passthroughEP {
+
+    @http:ResourceConfig {
+        methods:["POST"],
+        path:"/forward"
+    }
+    forward (endpoint caller, http:Request clientRequest) {
+        var response = backendEP -> forward("/backend/echo", clientRequest);
+        respondWithBackendResponse(caller, response);
+    }
+
+    @http:ResourceConfig {
+        methods:["POST"],
+        path:"/execute"
+    }
+    execute (endpoint caller, http:Request clientRequest) {
+        var response = backendEP -> execute("POST", "/backend/echo", clientRequest);
+        respondWithBackendResponse(caller, response);
+    }
+
+    @http:ResourceConfig {
+        methods:["POST"],
+        path:"/newRequest"
+    }
+    newRequest (endpoint caller, http:Request clientRequest) {
+        http:Request backendRequest = new;
+        match clientRequest.getEntity() {
+            mime:Entity entity => backendRequest.setEntity(entity);
+            error err => {}
+        }
+        var response = backendEP -> post("/backend/echo", backendRequest);
+        respondWithBackendResponse(caller, response);
+    }
+
+    @http:ResourceConfig {
+        methods:["POST"],
+        path:"/readAndForward"
+    }
+    readAndForward (endpoint caller, http:Request clientRequest) {
+        // the payload is read before the request is forwarded, so that it can not be passed through as it is
+        match clientRequest.getTextPayload() {
+            string payload => {}
+            error err => {}
+        }
+        var response = backendEP -> forward("/backend/echo", clientRequest);
+        respondWithBackendResponse(caller, response);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/respond"
+    }
+    respond (endpoint caller, http:Request clientRequest) {
+        var response = backendEP -> get("/backend/payload");
+        respondWithBackendResponse(caller, response);
+    }
+}
+
+function respondWithBackendResponse(http:Listener caller, http:Response|error response) {
+    endpoint http:Listener callerEP = caller;
+    match response {
+        http:Response httpResponse => {
+            _ = callerEP -> respond(httpResponse);
+        }
+        error err => {
+            http:Response errorResponse = new;
+            errorResponse.statusCode = 500;
+            errorResponse.setTextPayload(err.message);
+            _ = callerEP -> respond(errorResponse);
+        }
+    }
+}
+
+@http:ServiceConfig {basePath:"/backend"}
+service<http:Service> backendService bind passthroughEP {
+
+    @http:ResourceConfig {
+        methods:["POST"],
+        path:"/echo"
+    }
+    echo (endpoint caller, http:Request clientRequest) {
+        http:Response res = new;
+        match clientRequest.getTextPayload() {
+            string payload => res.setTextPayload(untaint payload);
+            error err => {
+                res.statusCode = 500;
+                res.setTextPayload(untaint err.message);
+            }
+        }
+        _ = caller -> respond(res);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/payload"
+    }
+    payload (endpoint caller, http:Request clientRequest) {
+        http:Response res = new;
+        string payload = "backend payload ";
+        int i = 0;
+        while (i < 12) {
+            payload = payload + payload;
+            i = i + 1;
+        }
+        res.setTextPayload(payload);
+        _ = caller -> respond(res);
+    }
+}
@@ -0,0 +1,82 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/jdbc;
+import ballerina/runtime;
+
+type ResultCount record {
+    int COUNTVAL,
+};
+
+endpoint http:Listener poolEP {
+    port:9090
+};
+
+// The transaction holds one of the two connections, so the counts saturate the pool
+endpoint jdbc:Client testDB {
+    url: "jdbc:hsqldb:hsql://localhost:9001/TEST_SQL_SATURATED_POOL",
+    username: "SA",
+    poolOptions: {maximumPoolSize:2, connectionTimeout:5000}
+};
+
+@http:ServiceConfig {
+    basePath:"/pool"
+}
+service<http:Service> saturatedPool bind poolEP {
+
+    insertInTransaction(endpoint caller, http:Request req) {
+        string result = "committed";
+        transaction {
+            result = insertCustomer(result);
+            // Gives the counts time to take the other connection and to wait for one
+            runtime:sleep(2000);
+            result = insertCustomer(result);
+        } onretry {
+            result = "retried";
+        }
+        http:Response res = new;
+        res.setTextPayload(result);
+        _ = caller -> respond(res);
+    }
+
+    countCustomers(endpoint caller, http:Request req) {
+        string result;
+        var selectResult = testDB->select("Select COUNT(*) as countval from Customers where registrationID = '300'",
+            ResultCount);
+        match selectResult {
+            table dt => {
+                while (dt.hasNext()) {
+                    ResultCount rs = check <ResultCount>dt.getNext();
+                    result = <string>rs.COUNTVAL;
+                }
+            }
+            error e => result = e.message;
+        }
+        http:Response res = new;
+        res.setTextPayload(untaint result);
+        _ = caller -> respond(res);
+    }
+}
+
+function insertCustomer(string result) returns string {
+    var updateResult = testDB->update("Insert into Customers (firstName,lastName,registrationID,creditLimit,country)
+                                values ('James', 'Clerk', '300', 5000.75, 'USA')");
+    match updateResult {
+        int count => return result;
+        error e => return e.message;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.cache;
+
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.stdlib.cache.LRUCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the native store of the cache.
+ */
+public class LRUCacheTest {
+
+    @Test(description = "Test that the least recently used entries are evicted first")
+    public void testEvictionOrder() {
+        LRUCache cache = new LRUCache(60000, 3, 0.3);
+        cache.put("A", new BString("a"));
+        cache.put("B", new BString("b"));
+        cache.put("C", new BString("c"));
+        Assert.assertEquals(cache.get("A").stringValue(), "a");
+
+        cache.put("D", new BString("d"));
+        Assert.assertFalse(cache.hasKey("B"));
+        Assert.assertTrue(cache.hasKey("A"));
+        Assert.assertTrue(cache.hasKey("C"));
+
+        cache.put("C", new BString("c2"));
+        cache.put("E", new BString("e"));
+        Assert.assertFalse(cache.hasKey("A"));
+        Assert.assertEquals(cache.keys(), new String[]{"C", "D", "E"});
+        Assert.assertEquals(cache.get("C").stringValue(), "c2");
+    }
+
+    @Test(description = "Test that expired entries are removed wherever they are in the access order")
+    public void testEvictExpired() throws InterruptedException {
+        LRUCache cache = new LRUCache(400, 10, 0.1);
+        cache.put("A", new BString("a"));
+        cache.put("B", new BString("b"));
+        cache.put("C", new BString("c"));
+        Thread.sleep(250);
+        Assert.assertNotNull(cache.get("B"));
+        cache.put("D", new BString("d"));
+        Thread.sleep(250);
+
+        cache.evictExpired();
+        Assert.assertEquals(cache.keys(), new String[]{"B", "D"});
+        Assert.assertNull(cache.get("A"));
+        Assert.assertNull(cache.get("C"));
+
+        Thread.sleep(450);
+        cache.evictExpired();
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test(description = "Test removing the expired entries ahead of entries which were read or added later")
+    public void testEvictExpiredBeforeLiveEntries() throws InterruptedException {
+        LRUCache cache = new LRUCache(300, 1000, 0.1);
+        for (int i = 0; i < 500; i++) {
+            cache.put("old" + i, new BString("old"));
+        }
+        Thread.sleep(200);
+        for (int i = 0; i < 500; i += 100) {
+            Assert.assertNotNull(cache.get("old" + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            cache.put("new" + i, new BString("new"));
+        }
+        Thread.sleep(200);
+
+        cache.evictExpired();
+        Assert.assertEquals(cache.size(), 105);
+        for (int i = 0; i < 500; i += 100) {
+            Assert.assertTrue(cache.hasKey("old" + i));
+        }
+        Assert.assertFalse(cache.hasKey("old1"));
+        Assert.assertTrue(cache.hasKey("new99"));
+    }
+
+    @Test(description = "Test that an expired entry is not returned before it is evicted")
+    public void testGetExpiredEntry() throws InterruptedException {
+        LRUCache cache = new LRUCache(100, 10, 0.1);
+        cache.put("A", new BString("a"));
+        Thread.sleep(150);
+        Assert.assertNull(cache.get("A"));
+        Assert.assertFalse(cache.hasKey("A"));
+    }
+
+    @Test(description = "Test reading and writing the cache from multiple threads")
+    public void testConcurrentAccess() throws Exception {
+        int capacity = 16;
+        LRUCache cache = new LRUCache(60000, capacity, 0.25);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int id = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 5000; i++) {
+                        String key = "key" + (i % 40);
+                        if ((i + id) % 3 == 0) {
+                            cache.put(key, new BString(key));
+                        } else {
+                            BString value = (BString) cache.get(key);
+                            if (value != null) {
+                                Assert.assertEquals(value.stringValue(), key);
+                            }
+                        }
+                        Assert.assertTrue(cache.size() <= capacity);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertTrue(cache.size() <= capacity);
+        // every key left in the cache is still linked in the access order, so it can be evicted
+        for (String key : cache.keys()) {
+            cache.remove(key);
+        }
+        Assert.assertEquals(cache.size(), 0);
+        for (int i = 0; i < capacity; i++) {
+            cache.put("other" + i, new BString("other"));
+        }
+        Assert.assertEquals(cache.size(), capacity);
+        cache.put("last", new BString("last"));
+        Assert.assertTrue(cache.size() <= capacity);
+    }
+}
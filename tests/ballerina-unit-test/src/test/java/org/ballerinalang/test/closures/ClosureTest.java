@@ -226,4 +226,11 @@ public class ClosureTest {
         Assert.assertEquals(((BInteger) returns[0]).intValue(), 57);
         Assert.assertEquals(((BInteger) returns[1]).intValue(), 167);
     }
+
+    @Test(description = "Test calling a closure repeatedly within a loop")
+    public void testClosureCallWithinLoop() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "test29");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 5250);
+        Assert.assertEquals(returns[1].stringValue(), "B0B1B2");
+    }
 }
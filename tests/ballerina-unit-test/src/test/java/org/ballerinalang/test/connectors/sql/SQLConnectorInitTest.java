@@ -21,12 +21,14 @@ import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.test.utils.SQLDBUtils;
+import org.ballerinalang.test.utils.mock.FetchSizeRecordingDataSource;
 import org.testng.Assert;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.util.Collections;
 
 /**
  * Test SQL Connector Initialization.
@@ -113,6 +115,38 @@ public class SQLConnectorInitTest {
         Assert.assertEquals(returns[0].stringValue(), expected);
     }
 
+    @Test
+    public void testConnectionPoolFetchSize() {
+        FetchSizeRecordingDataSource.clearFetchSizes();
+        BValue[] returns = BRunUtil.invoke(result, "testConnectionPoolFetchSize");
+        final String expected = "[{\"FIRSTNAME\":\"Peter\"}]";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+        Assert.assertEquals(FetchSizeRecordingDataSource.getFetchSizes(), Collections.singletonList(2));
+    }
+
+    @Test
+    public void testConnectionPoolDefaultFetchSize() {
+        FetchSizeRecordingDataSource.clearFetchSizes();
+        BValue[] returns = BRunUtil.invoke(result, "testConnectionPoolDefaultFetchSize");
+        final String expected = "[{\"FIRSTNAME\":\"Peter\"}]";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+        // the fetch size of the driver is left as it is
+        Assert.assertEquals(FetchSizeRecordingDataSource.getFetchSizes(), Collections.singletonList(0));
+    }
+
+    @Test
+    public void testConnectionPoolUpdateBatching() {
+        BValue[] returns = BRunUtil.invoke(result, "testConnectionPoolUpdateBatching");
+        final String expected = "{\"count\":1,\"rows\":[{\"FIRSTNAME\":\"James\"}]}";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+    }
+
+    @Test
+    public void testConnectionPoolUpdateBatchFallback() {
+        BValue[] returns = BRunUtil.invoke(result, "testConnectionPoolUpdateBatchFallback");
+        Assert.assertEquals(returns[0].stringValue(), "error,1,1,[{\"COUNTVAL\":2}]");
+    }
+
 
     @AfterSuite
     public void cleanup() {
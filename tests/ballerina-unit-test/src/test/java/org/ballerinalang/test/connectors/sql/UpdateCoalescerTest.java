@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.connectors.sql;
+
+import org.ballerinalang.database.sql.SQLQueryExecutor;
+import org.ballerinalang.database.sql.UpdateCoalescer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for coalescing concurrent SQL update calls into batches.
+ */
+public class UpdateCoalescerTest {
+
+    private static final String QUERY = "insert into Customers (firstName) values (?)";
+
+    private final SQLQueryExecutor queryExecutor = new SQLQueryExecutor(2, 10, 10000);
+    private final AtomicInteger executorRequests = new AtomicInteger();
+
+    @Test(description = "Test that updates of concurrent workers are executed as a single batch")
+    public void testConcurrentUpdatesFormOneBatch() throws Exception {
+        int workerCount = 8;
+        UpdateCoalescer coalescer = new UpdateCoalescer(workerCount, 60000, this::getQueryExecutor);
+        Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+        ResultCallback callback = new ResultCallback(workerCount);
+        CyclicBarrier barrier = new CyclicBarrier(workerCount);
+        try {
+            for (int i = 0; i < workerCount; i++) {
+                new Thread(() -> {
+                    try {
+                        barrier.await();
+                    } catch (Exception e) {
+                        return;
+                    }
+                    coalescer.submit(QUERY, null, (query, updates) -> {
+                        batchSizes.add(updates.size());
+                        completeAll(updates);
+                    }, callback);
+                }).start();
+            }
+            Assert.assertTrue(callback.await(), "updates were not executed before the batch window");
+            Assert.assertEquals(batchSizes.size(), 1, "updates were executed in more than one batch");
+            Assert.assertEquals(batchSizes.peek().intValue(), workerCount);
+            Assert.assertEquals(callback.succeeded.get(), workerCount);
+        } finally {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test(description = "Test that a batch which does not reach the max size is executed after the batch window")
+    public void testBatchExecutedAfterWindow() throws Exception {
+        UpdateCoalescer coalescer = new UpdateCoalescer(10, 50, this::getQueryExecutor);
+        Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+        ResultCallback callback = new ResultCallback(3);
+        try {
+            for (int i = 0; i < 3; i++) {
+                coalescer.submit(QUERY, null, (query, updates) -> {
+                    batchSizes.add(updates.size());
+                    completeAll(updates);
+                }, callback);
+            }
+            Assert.assertTrue(callback.await());
+            Assert.assertEquals(batchSizes.size(), 1);
+            Assert.assertEquals(batchSizes.peek().intValue(), 3);
+        } finally {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test(description = "Test that open batches are failed on shut down, without requesting the query executor")
+    public void testShutdownFailsOpenBatches() throws Exception {
+        int requests = executorRequests.get();
+        UpdateCoalescer coalescer = new UpdateCoalescer(10, 50, this::getQueryExecutor);
+        ResultCallback callback = new ResultCallback(2);
+        coalescer.submit(QUERY, null, (query, updates) -> completeAll(updates), callback);
+        coalescer.shutdown();
+        coalescer.submit(QUERY, null, (query, updates) -> completeAll(updates), callback);
+
+        Assert.assertTrue(callback.await());
+        Assert.assertEquals(callback.failed.get(), 2);
+        Assert.assertEquals(callback.error, "datasource is closed");
+        // Past the batch window of the first update
+        Thread.sleep(200);
+        Assert.assertEquals(executorRequests.get(), requests, "query executor requested after shut down");
+    }
+
+    @AfterClass
+    public void cleanup() {
+        queryExecutor.shutdown();
+    }
+
+    private SQLQueryExecutor getQueryExecutor() {
+        executorRequests.incrementAndGet();
+        return queryExecutor;
+    }
+
+    private static void completeAll(List<UpdateCoalescer.CoalescedUpdate> updates) {
+        for (UpdateCoalescer.CoalescedUpdate update : updates) {
+            update.complete(1);
+        }
+    }
+
+    /**
+     * Counts the results of the updates.
+     */
+    private static class ResultCallback implements UpdateCoalescer.UpdateCallback {
+        private final CountDownLatch done;
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile String error;
+
+        private ResultCallback(int updateCount) {
+            this.done = new CountDownLatch(updateCount);
+        }
+
+        @Override
+        public void onSuccess(int updatedCount) {
+            succeeded.incrementAndGet();
+            done.countDown();
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+            this.error = error.getMessage();
+            failed.incrementAndGet();
+            done.countDown();
+        }
+
+        private boolean await() throws InterruptedException {
+            return done.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
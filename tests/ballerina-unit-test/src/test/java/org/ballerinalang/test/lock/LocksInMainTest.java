@@ -256,6 +256,28 @@ public class LocksInMainTest {
 
     }
 
+    @Test(description = "Tests lock and unlock contended by several workers")
+    public void testContendedLockAndUnlock() {
+        CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions.bal");
+
+        for (int i = 0; i < 5; i++) {
+            BValue[] returns = BRunUtil.invoke(compileResult, "contendedLockAndUnlock");
+            assertEquals(returns.length, 1);
+            assertEquals(((BInteger) returns[0]).intValue(), 2000);
+        }
+    }
+
+    @Test(description = "Tests waiting workers are woken up when the lock is released")
+    public void testWaitersWokenUpOnUnlock() {
+        CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions.bal");
+
+        BValue[] returns = BRunUtil.invoke(compileResult, "waitersWokenUpOnUnlock");
+        assertEquals(returns.length, 1);
+        String order = returns[0].stringValue();
+        // Both waiters get the lock after the first worker releases it, in either order
+        Assert.assertTrue(order.equals("w1w2w3") || order.equals("w1w3w2"), order);
+    }
+
     @Test(description = "Test lock negative cases")
     public void testLockNegativeCases() {
         CompileResult compileResult = BCompileUtil.compile("test-src/lock/locks-in-functions-negative.bal");
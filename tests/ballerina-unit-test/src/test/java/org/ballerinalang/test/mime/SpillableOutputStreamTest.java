@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.mime;
+
+import org.ballerinalang.mime.util.SpillableOutputStream;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for the output stream which moves multipart content to a temporary file beyond a threshold.
+ *
+ * @since 0.976.1
+ */
+public class SpillableOutputStreamTest {
+
+    private static final int THRESHOLD = 1024;
+
+    @Test(description = "Test that content within the threshold is kept in memory")
+    public void testContentUnderThreshold() throws IOException {
+        TrackingOutputStream outputStream = new TrackingOutputStream();
+        byte[] content = content(THRESHOLD);
+        outputStream.write(content, 0, 100);
+        outputStream.write(content, 100, content.length - 100);
+        Assert.assertNull(outputStream.tempFile, "content within the threshold was written to a file");
+
+        Channel channel = outputStream.getByteChannel();
+        Assert.assertEquals(readFully(channel), content);
+        channel.close();
+    }
+
+    @Test(description = "Test that content over the threshold is moved to a temporary file")
+    public void testContentOverThreshold() throws IOException {
+        TrackingOutputStream outputStream = new TrackingOutputStream();
+        byte[] content = content(THRESHOLD * 3);
+        outputStream.write(content, 0, THRESHOLD / 2);
+        Assert.assertNull(outputStream.tempFile);
+        outputStream.write(content, THRESHOLD / 2, THRESHOLD);
+        Assert.assertNotNull(outputStream.tempFile, "content over the threshold was kept in memory");
+        for (int i = THRESHOLD * 3 / 2; i < content.length; i++) {
+            outputStream.write(content[i]);
+        }
+
+        Channel channel = outputStream.getByteChannel();
+        Assert.assertEquals(Files.size(outputStream.tempFile), content.length);
+        Assert.assertEquals(readFully(channel), content);
+        channel.close();
+    }
+
+    @Test(description = "Test that the temporary file is deleted when the byte channel is closed")
+    public void testTempFileDeletedOnClose() throws IOException {
+        TrackingOutputStream outputStream = new TrackingOutputStream();
+        outputStream.write(content(THRESHOLD * 2));
+        Channel channel = outputStream.getByteChannel();
+        Assert.assertTrue(Files.exists(outputStream.tempFile));
+        channel.close();
+        Assert.assertFalse(Files.exists(outputStream.tempFile), "temporary file was not deleted");
+    }
+
+    @Test(description = "Test that the temporary file is deleted when the content is discarded")
+    public void testTempFileDeletedOnDiscard() throws IOException {
+        TrackingOutputStream outputStream = new TrackingOutputStream();
+        outputStream.write(content(THRESHOLD * 2));
+        Assert.assertTrue(Files.exists(outputStream.tempFile));
+        outputStream.discard();
+        Assert.assertFalse(Files.exists(outputStream.tempFile), "temporary file was not deleted");
+    }
+
+    @Test(description = "Test that the temporary file is deleted when moving the content to it fails")
+    public void testTempFileDeletedOnFailedSpill() throws IOException {
+        TrackingOutputStream outputStream = new TrackingOutputStream();
+        outputStream.failWrites = true;
+        outputStream.write(content(THRESHOLD / 2));
+        try {
+            outputStream.write(content(THRESHOLD));
+            Assert.fail("expected the write to the temporary file to fail");
+        } catch (IOException e) {
+            Assert.assertEquals(e.getMessage(), "disk full");
+        }
+        Assert.assertNotNull(outputStream.tempFile);
+        Assert.assertFalse(Files.exists(outputStream.tempFile), "temporary file was not deleted");
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    private static byte[] readFully(Channel channel) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        InputStream inputStream = channel.getInputStream();
+        byte[] buffer = new byte[256];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            content.write(buffer, 0, read);
+        }
+        return content.toByteArray();
+    }
+
+    /**
+     * Keeps track of the temporary file, and fails writing to it when asked to.
+     */
+    private static class TrackingOutputStream extends SpillableOutputStream {
+
+        private Path tempFile;
+        private boolean failWrites;
+
+        private TrackingOutputStream() {
+            super(THRESHOLD);
+        }
+
+        @Override
+        protected OutputStream openTempFile(Path tempFile) throws IOException {
+            this.tempFile = tempFile;
+            OutputStream fileStream = super.openTempFile(tempFile);
+            if (!failWrites) {
+                return fileStream;
+            }
+            return new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("disk full");
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    throw new IOException("disk full");
+                }
+
+                @Override
+                public void close() throws IOException {
+                    fileStream.close();
+                    // buffered content can not be flushed either
+                    throw new IOException("disk full");
+                }
+            };
+        }
+    }
+}
@@ -121,6 +121,40 @@ public class IOTest {
         BRunUtil.invokeStateful(bytesInputOutputProgramFile, "close");
     }
 
+    @Test(description = "Test 'readBytes' function on a memory mapped file in ballerina/io package")
+    public void testReadMappedBytes() throws URISyntaxException {
+        int numberOfBytesToRead = 4;
+        String resourceToRead = "datafiles/io/text/6charfile.txt";
+        BByteArray readBytes;
+
+        //Will initialize the channel
+        BValue[] args = {new BString(getAbsoluteFilePath(resourceToRead)), new BString("rm")};
+        BRunUtil.invokeStateful(bytesInputOutputProgramFile, "initFileChannel", args);
+
+        //Reads the 1st four bytes "1234"
+        byte[] expectedBytes = "1234".getBytes();
+        args = new BValue[]{new BInteger(numberOfBytesToRead)};
+        BValue[] returns = BRunUtil.invokeStateful(bytesInputOutputProgramFile, "readBytes", args);
+        readBytes = (BByteArray) returns[0];
+        Assert.assertEquals(expectedBytes, readBytes.getBytes());
+
+        //Reads the remaining two bytes "56"
+        expectedBytes = "56".getBytes();
+        args = new BValue[]{new BInteger(numberOfBytesToRead)};
+        returns = BRunUtil.invokeStateful(bytesInputOutputProgramFile, "readBytes", args);
+        readBytes = (BByteArray) returns[0];
+        Assert.assertEquals(expectedBytes, readBytes.getBytes());
+
+        //Request for a get, the bytes will be empty
+        expectedBytes = new byte[0];
+        args = new BValue[]{new BInteger(numberOfBytesToRead)};
+        returns = BRunUtil.invokeStateful(bytesInputOutputProgramFile, "readBytes", args);
+        readBytes = (BByteArray) returns[0];
+        Assert.assertEquals(expectedBytes, readBytes.getBytes());
+
+        BRunUtil.invokeStateful(bytesInputOutputProgramFile, "close");
+    }
+
     @Test(description = "Test permission errors in byte read operations")
     public void testByteOperationPermissionError() throws URISyntaxException {
         int numberOfBytesToRead = 3;
@@ -255,6 +255,41 @@ public class CsvChannelTest {
         BRunUtil.invokeStateful(csvInputOutputProgramFile, "close");
     }
 
+    @Test(description = "Test reading RFC4180 records with escaped quotes and line breaks")
+    public void readRfcEscapedTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sampleRfcEscaped.csv";
+        BStringArray records;
+        BBoolean hasNextRecord;
+        int expectedRecordLength = 3;
+
+        //Will initialize the channel
+        BValue[] args = {new BString(getAbsoluteFilePath(resourceToRead)), new BString("r"), new BString("UTF-8"),
+                new BString(",")};
+        BRunUtil.invokeStateful(csvInputOutputProgramFile, "initCSVChannel", args);
+
+        BValue[] returns = BRunUtil.invokeStateful(csvInputOutputProgramFile, "nextRecord");
+        records = (BStringArray) returns[0];
+        Assert.assertEquals(records.size(), expectedRecordLength);
+        Assert.assertEquals(records.get(0), "User1 \"Admin\"");
+        Assert.assertEquals(records.get(1), "WSO2");
+        Assert.assertEquals(records.get(2), "07xxxxxx\nColombo");
+
+        returns = BRunUtil.invokeStateful(csvInputOutputProgramFile, "hasNextRecord");
+        hasNextRecord = (BBoolean) returns[0];
+        Assert.assertTrue(hasNextRecord.booleanValue(), "Expecting more records");
+
+        returns = BRunUtil.invokeStateful(csvInputOutputProgramFile, "nextRecord");
+        records = (BStringArray) returns[0];
+        Assert.assertEquals(records.size(), expectedRecordLength);
+        Assert.assertEquals(records.get(1), "WSO2, \"Colombo\"");
+
+        returns = BRunUtil.invokeStateful(csvInputOutputProgramFile, "hasNextRecord");
+        hasNextRecord = (BBoolean) returns[0];
+        Assert.assertFalse(hasNextRecord.booleanValue(), "Not expecting anymore records");
+
+        BRunUtil.invokeStateful(csvInputOutputProgramFile, "close");
+    }
+
     @Test(description = "Test 'readTdfCSVRecords'")
     public void readTdfTest() throws URISyntaxException {
         String resourceToRead = "datafiles/io/records/sampleTdf.tsv";
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.nativeimpl.functions.io.socket;
+
+import org.ballerinalang.model.values.BStringArray;
+import org.ballerinalang.stdlib.io.channels.SocketIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.events.EventContext;
+import org.ballerinalang.stdlib.io.events.EventResult;
+import org.ballerinalang.stdlib.io.socket.SocketEventLoop;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the event loop which performs the reads and writes of accepted sockets.
+ */
+public class SocketEventLoopTest {
+
+    private static final int TIMEOUT_SECONDS = 10;
+    private static final int WRITE_SIZE = 1024 * 1024;
+    private static final int NUMBER_OF_WRITES = 8;
+
+    private Thread loopThread;
+    private SocketEventLoop eventLoop;
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private SocketChannel accepted;
+    private SocketIOChannel channel;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        eventLoop = new SocketEventLoop(runnable -> {
+            loopThread = new Thread(runnable, "socket-event-loop-test");
+            return loopThread;
+        });
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress("localhost", 0));
+        client = SocketChannel.open();
+        //Small buffers, so that the writes cannot complete until the client reads
+        client.setOption(StandardSocketOptions.SO_RCVBUF, 16 * 1024);
+        client.connect(server.getLocalAddress());
+        accepted = server.accept();
+        accepted.setOption(StandardSocketOptions.SO_SNDBUF, 16 * 1024);
+        accepted.configureBlocking(false);
+        channel = new SocketIOChannel(accepted, eventLoop);
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        eventLoop.shutdown();
+        client.close();
+        server.close();
+    }
+
+    @Test(description = "Test that a read is only performed once the socket has data to be read")
+    public void testReadOnReadiness() throws Exception {
+        byte[] content = new byte[16];
+        CompletableFuture<EventResult> read = new CompletableFuture<>();
+        IOUtils.read(channel, content, new EventContext(), result -> complete(read, result));
+        Thread.sleep(200);
+        Assert.assertFalse(read.isDone(), "read completed before the socket had data");
+
+        client.write(ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8)));
+        EventResult result = read.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNoError(result);
+        Assert.assertEquals(result.getResponse(), 5);
+        Assert.assertEquals(new String(content, 0, 5, StandardCharsets.UTF_8), "hello");
+    }
+
+    @Test(description = "Test that writes which do not fit in the socket are gathered and completed in order")
+    public void testPartialGatheredWrites() throws Exception {
+        List<CompletableFuture<EventResult>> writes = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_WRITES; i++) {
+            byte[] content = new byte[WRITE_SIZE];
+            Arrays.fill(content, (byte) i);
+            CompletableFuture<EventResult> write = new CompletableFuture<>();
+            IOUtils.write(channel, content, 0, new EventContext(), result -> complete(write, result));
+            writes.add(write);
+        }
+        Thread.sleep(200);
+        Assert.assertFalse(writes.get(NUMBER_OF_WRITES - 1).isDone(), "write completed before it was read");
+
+        ByteBuffer received = ByteBuffer.allocate(WRITE_SIZE * NUMBER_OF_WRITES);
+        while (received.hasRemaining()) {
+            if (client.read(received) < 0) {
+                Assert.fail("socket was closed after " + received.position() + " bytes");
+            }
+        }
+        for (int i = 0; i < NUMBER_OF_WRITES; i++) {
+            EventResult result = writes.get(i).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNoError(result);
+            Assert.assertEquals(result.getResponse(), WRITE_SIZE);
+            Assert.assertEquals(received.get(i * WRITE_SIZE), (byte) i);
+            Assert.assertEquals(received.get((i + 1) * WRITE_SIZE - 1), (byte) i);
+        }
+    }
+
+    @Test(description = "Test that character and record writes are performed by the loop")
+    public void testCharacterAndRecordWrites() throws Exception {
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        CompletableFuture<EventResult> characters = new CompletableFuture<>();
+        IOUtils.write(characterChannel, "xxhéllo", 2, new EventContext(), result -> complete(characters, result));
+        assertNoError(characters.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, "\n", ",");
+        CompletableFuture<EventResult> record = new CompletableFuture<>();
+        IOUtils.write(recordChannel, new BStringArray(new String[]{"a", "b"}), new EventContext(),
+                result -> complete(record, result));
+        assertNoError(record.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        byte[] expected = "hélloa,b\n".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer received = ByteBuffer.allocate(expected.length);
+        while (received.hasRemaining()) {
+            client.read(received);
+        }
+        Assert.assertEquals(received.array(), expected);
+    }
+
+    @Test(description = "Test that closing a socket notifies its pending reads and writes")
+    public void testCloseWithPendingOperations() throws Exception {
+        CompletableFuture<EventResult> read = new CompletableFuture<>();
+        IOUtils.read(channel, new byte[16], new EventContext(), result -> complete(read, result));
+        CompletableFuture<EventResult> write = new CompletableFuture<>();
+        IOUtils.write(channel, new byte[WRITE_SIZE * NUMBER_OF_WRITES], 0, new EventContext(),
+                result -> complete(write, result));
+        Thread.sleep(200);
+        Assert.assertFalse(read.isDone());
+        Assert.assertFalse(write.isDone());
+
+        channel.close();
+        assertError(read.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertError(write.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "Test that shutting down the loop closes its sockets and notifies their pending operations")
+    public void testShutdownWithPendingOperations() throws Exception {
+        Assert.assertTrue(loopThread.isDaemon(), "event loop should not keep the program alive");
+        CompletableFuture<EventResult> read = new CompletableFuture<>();
+        IOUtils.read(channel, new byte[16], new EventContext(), result -> complete(read, result));
+        CompletableFuture<EventResult> write = new CompletableFuture<>();
+        IOUtils.write(channel, new byte[WRITE_SIZE * NUMBER_OF_WRITES], 0, new EventContext(),
+                result -> complete(write, result));
+        Thread.sleep(200);
+
+        eventLoop.shutdown();
+        assertError(read.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertError(write.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        loopThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(loopThread.isAlive(), "event loop did not stop");
+        Assert.assertFalse(accepted.isOpen(), "socket of the loop was not closed");
+
+        //Operations submitted after the loop stopped are notified right away
+        CompletableFuture<EventResult> lateWrite = new CompletableFuture<>();
+        IOUtils.write(channel, new byte[16], 0, new EventContext(), result -> complete(lateWrite, result));
+        assertError(lateWrite.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static EventResult complete(CompletableFuture<EventResult> future, EventResult result) {
+        future.complete(result);
+        return result;
+    }
+
+    private static void assertNoError(EventResult result) {
+        Throwable error = ((EventContext) result.getContext()).getError();
+        Assert.assertNull(error, "operation failed: " + error);
+    }
+
+    private static void assertError(EventResult result) {
+        Assert.assertNotNull(((EventContext) result.getContext()).getError(), "operation did not fail");
+    }
+}
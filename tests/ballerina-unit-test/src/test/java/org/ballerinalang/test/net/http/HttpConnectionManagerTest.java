@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.net.http;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.net.http.HttpConnectionManager;
+import org.ballerinalang.net.http.HttpConstants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.transport.http.netty.config.SenderConfiguration;
+import org.wso2.transport.http.netty.contract.HttpClientConnector;
+import org.wso2.transport.http.netty.message.HTTPConnectorUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for sharing client connectors between HTTP client endpoints.
+ */
+public class HttpConnectionManagerTest {
+
+    private static final String CONNECTOR_TYPE = "createHttpClient";
+
+    private final HttpConnectionManager connectionManager = HttpConnectionManager.getInstance();
+    // keeps the endpoints of the tests which do not expect them to be collected reachable
+    private final List<Object> liveEndpoints = new ArrayList<>();
+
+    @Test(description = "Test that client endpoints with the same configuration share a connector")
+    public void testSameConfigSharesConnector() {
+        int connectorCount = connectionManager.getClientConnectorCount();
+        int endpointCount = connectionManager.getClientEndpointCount();
+        HttpClientConnector first = getConnector(endpointConfig(11001, "1.1"), newEndpoint());
+        HttpClientConnector second = getConnector(endpointConfig(11001, "1.1"), newEndpoint());
+        Assert.assertSame(second, first);
+        Assert.assertEquals(connectionManager.getClientConnectorCount(), connectorCount + 1);
+        Assert.assertEquals(connectionManager.getClientEndpointCount(), endpointCount + 2);
+    }
+
+    @Test(description = "Test that client endpoints with different configurations get their own connectors")
+    public void testDistinctConfigsGetOwnConnectors() {
+        int connectorCount = connectionManager.getClientConnectorCount();
+        HttpClientConnector first = getConnector(endpointConfig(11002, "1.1"), newEndpoint());
+        HttpClientConnector second = getConnector(endpointConfig(11003, "1.1"), newEndpoint());
+        HttpClientConnector third = getConnector(endpointConfig(11002, "2.0"), newEndpoint());
+        Assert.assertNotSame(second, first);
+        Assert.assertNotSame(third, first);
+        Assert.assertNotSame(third, second);
+        Assert.assertEquals(connectionManager.getClientConnectorCount(), connectorCount + 3);
+    }
+
+    @Test(description = "Test that client endpoints with connection throttling limits get their own connectors")
+    public void testThrottledEndpointsGetOwnConnectors() {
+        int connectorCount = connectionManager.getClientConnectorCount();
+        int endpointCount = connectionManager.getClientEndpointCount();
+        HttpClientConnector first = getConnector(throttledEndpointConfig(11005, 5, -1), newEndpoint());
+        HttpClientConnector second = getConnector(throttledEndpointConfig(11005, 5, -1), newEndpoint());
+        HttpClientConnector third = getConnector(throttledEndpointConfig(11005, -1, 10), newEndpoint());
+        Assert.assertNotSame(second, first);
+        Assert.assertNotSame(third, first);
+        Assert.assertEquals(connectionManager.getClientConnectorCount(), connectorCount);
+        Assert.assertEquals(connectionManager.getClientEndpointCount(), endpointCount);
+    }
+
+    @Test(description = "Test that client endpoints with connection throttling but no limits share a connector")
+    public void testUnlimitedThrottlingSharesConnector() {
+        int connectorCount = connectionManager.getClientConnectorCount();
+        HttpClientConnector first = getConnector(throttledEndpointConfig(11006, -1, -1), newEndpoint());
+        HttpClientConnector second = getConnector(throttledEndpointConfig(11006, -1, -1), newEndpoint());
+        Assert.assertSame(second, first);
+        Assert.assertEquals(connectionManager.getClientConnectorCount(), connectorCount + 1);
+    }
+
+    @Test(description = "Test that a connector is removed from the pool once its client endpoints are collected")
+    public void testConnectorEvictedWhenEndpointsCollected() throws InterruptedException {
+        int connectorCount = connectionManager.getClientConnectorCount();
+        int endpointCount = connectionManager.getClientEndpointCount();
+        List<Object> endpoints = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            endpoints.add(new Object());
+            getConnector(endpointConfig(11004, "1.1"), endpoints.get(i));
+        }
+        Assert.assertEquals(connectionManager.getClientConnectorCount(), connectorCount + 1);
+        Assert.assertEquals(connectionManager.getClientEndpointCount(), endpointCount + 3);
+
+        // The connector is kept as long as one of its endpoints is reachable
+        endpoints.remove(2);
+        endpoints.remove(1);
+        awaitEndpointCount(endpointCount + 1);
+        Assert.assertEquals(connectionManager.getClientConnectorCount(), connectorCount + 1);
+
+        endpoints.clear();
+        awaitEndpointCount(endpointCount);
+        Assert.assertEquals(connectionManager.getClientConnectorCount(), connectorCount);
+    }
+
+    private Object newEndpoint() {
+        Object endpoint = new Object();
+        liveEndpoints.add(endpoint);
+        return endpoint;
+    }
+
+    private HttpClientConnector getConnector(BMap<String, BValue> endpointConfig, Object endpoint) {
+        SenderConfiguration senderConfiguration =
+                HTTPConnectorUtil.getSenderConfiguration(connectionManager.getTransportConfig(), "http");
+        return connectionManager.getHttpClientConnector(CONNECTOR_TYPE, "http", endpointConfig,
+                senderConfiguration, endpoint);
+    }
+
+    private void awaitEndpointCount(int endpointCount) throws InterruptedException {
+        for (int i = 0; i < 100 && connectionManager.getClientEndpointCount() != endpointCount; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        Assert.assertEquals(connectionManager.getClientEndpointCount(), endpointCount);
+    }
+
+    private static BMap<String, BValue> endpointConfig(long timeoutMillis, String httpVersion) {
+        BMap<String, BValue> endpointConfig = new BMap<>();
+        endpointConfig.put(HttpConstants.CLIENT_EP_ENDPOINT_TIMEOUT, new BInteger(timeoutMillis));
+        endpointConfig.put(HttpConstants.CLIENT_EP_HTTP_VERSION, new BString(httpVersion));
+        return endpointConfig;
+    }
+
+    private static BMap<String, BValue> throttledEndpointConfig(long timeoutMillis, long maxActiveConnections,
+                                                                long maxActiveStreamsPerConnection) {
+        BMap<String, BValue> connectionThrottling = new BMap<>();
+        connectionThrottling.put(HttpConstants.CONNECTION_THROTTLING_MAX_ACTIVE_CONNECTIONS,
+                new BInteger(maxActiveConnections));
+        connectionThrottling.put(HttpConstants.CONNECTION_THROTTLING_WAIT_TIME, new BInteger(60000));
+        connectionThrottling.put(HttpConstants.CONNECTION_THROTTLING_MAX_ACTIVE_STREAMS_PER_CONNECTION,
+                new BInteger(maxActiveStreamsPerConnection));
+        BMap<String, BValue> endpointConfig = endpointConfig(timeoutMillis, "1.1");
+        endpointConfig.put(HttpConstants.CONNECTION_THROTTLING_STRUCT_REFERENCE, connectionThrottling);
+        return endpointConfig;
+    }
+}
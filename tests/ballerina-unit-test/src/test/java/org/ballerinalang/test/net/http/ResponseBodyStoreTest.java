@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.net.http;
+
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.net.http.caching.OffHeapBlobDataSource;
+import org.ballerinalang.net.http.caching.ResponseBodyStore;
+import org.ballerinalang.stdlib.cache.LRUCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests for the off heap store of cached response payloads.
+ */
+public class ResponseBodyStoreTest {
+
+    @Test(description = "Test that a released payload gives its space back to the store once it is collected")
+    public void testStoreAfterRelease() throws InterruptedException {
+        ResponseBodyStore store = new ResponseBodyStore(1024);
+        OffHeapBlobDataSource first = store.store(payload(600, 'a'));
+        Assert.assertNotNull(first);
+        Assert.assertEquals(store.getUsedSize(), 600);
+        Assert.assertNull(store.store(payload(600, 'b')), "payload stored beyond the budget");
+
+        first.release();
+        // the buffer is still reachable, so it is still accounted for
+        Assert.assertEquals(store.getUsedSize(), 600);
+        Assert.assertNull(store.store(payload(600, 'b')), "payload stored beyond the budget");
+
+        first = null;
+        awaitUsedSize(store, 0);
+        OffHeapBlobDataSource second = store.store(payload(600, 'b'));
+        Assert.assertNotNull(second);
+        Assert.assertEquals(second.getValue(), payload(600, 'b'));
+    }
+
+    @Test(description = "Test that a payload shared by clones is accounted for until none of them are reachable")
+    public void testReleaseClone() throws InterruptedException {
+        ResponseBodyStore store = new ResponseBodyStore(1024);
+        OffHeapBlobDataSource first = store.store(payload(400, 'a'));
+        OffHeapBlobDataSource second = store.store(payload(400, 'b'));
+        OffHeapBlobDataSource clone = (OffHeapBlobDataSource) first.clone();
+
+        first.release();
+        first = null;
+        awaitUsedSize(store, 800);
+        // a released payload can still be written out by the responses which were already taken from the cache
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        clone.serializeData(out);
+        Assert.assertEquals(out.toByteArray(), payload(400, 'a'));
+        Assert.assertEquals(store.getUsedSize(), 800);
+
+        clone = null;
+        awaitUsedSize(store, 400);
+        second.release();
+        second = null;
+        awaitUsedSize(store, 0);
+    }
+
+    @Test(description = "Test storing a payload after another one was evicted from the cache")
+    public void testStoreAfterEviction() throws InterruptedException {
+        ResponseBodyStore store = new ResponseBodyStore(1024);
+        Map<String, OffHeapBlobDataSource> payloads = new HashMap<>();
+        LRUCache cache = new LRUCache(60000, 2, 0.5);
+        cache.setRemovalListener((key, value) -> {
+            OffHeapBlobDataSource removed = payloads.remove(key);
+            if (removed != null) {
+                removed.release();
+            }
+        });
+
+        payloads.put("A", store.store(payload(700, 'a')));
+        cache.put("A", new BString("A"));
+        Assert.assertNull(store.store(payload(700, 'b')));
+
+        // evicts A, the least recently used entry
+        cache.put("C", new BString("C"));
+        cache.put("D", new BString("D"));
+        Assert.assertFalse(cache.hasKey("A"));
+        awaitUsedSize(store, 0);
+
+        OffHeapBlobDataSource restored = store.store(payload(700, 'b'));
+        Assert.assertNotNull(restored);
+        payloads.put("B", restored);
+        restored = null;
+        cache.put("B", new BString("B"));
+        Assert.assertEquals(store.getUsedSize(), 700);
+
+        cache.remove("B");
+        awaitUsedSize(store, 0);
+    }
+
+    @Test(description = "Test that a payload which was never released is given back once it is collected")
+    public void testUnreleasedPayloadIsCollected() throws InterruptedException {
+        ResponseBodyStore store = new ResponseBodyStore(1024);
+        Assert.assertNotNull(store.store(payload(1000, 'a')));
+        awaitUsedSize(store, 0);
+    }
+
+    private static void awaitUsedSize(ResponseBodyStore store, long expected) throws InterruptedException {
+        for (int i = 0; i < 100 && store.getUsedSize() != expected; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        Assert.assertEquals(store.getUsedSize(), expected);
+    }
+
+    private static byte[] payload(int size, char content) {
+        byte[] payload = new byte[size];
+        Arrays.fill(payload, (byte) content);
+        return payload;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.net.http;
+
+import org.ballerinalang.net.http.session.HTTPSession;
+import org.ballerinalang.net.http.session.SessionExpiryWheel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the timer wheel which expires inactive HTTP sessions.
+ */
+public class SessionExpiryWheelTest {
+
+    private static final long TICK = SessionExpiryWheel.TICK_DURATION;
+
+    @Test(description = "Test that a session is only expired once its max inactive interval has passed")
+    public void testExpiry() {
+        long startTime = System.currentTimeMillis();
+        List<HTTPSession> expired = new ArrayList<>();
+        SessionExpiryWheel wheel = new SessionExpiryWheel(startTime, expired::add);
+        HTTPSession session = new HTTPSession("session1", 2, "/");
+        wheel.schedule(session);
+
+        wheel.advance(startTime + TICK);
+        Assert.assertTrue(expired.isEmpty(), "session expired before its max inactive interval");
+        wheel.advance(startTime + 4 * TICK);
+        Assert.assertEquals(expired.size(), 1);
+        Assert.assertSame(expired.get(0), session);
+    }
+
+    @Test(description = "Test that a session which does not time out is never expired")
+    public void testNoExpiry() {
+        long startTime = System.currentTimeMillis();
+        List<HTTPSession> expired = new ArrayList<>();
+        SessionExpiryWheel wheel = new SessionExpiryWheel(startTime, expired::add);
+        wheel.schedule(new HTTPSession("session1", -1, "/"));
+
+        wheel.advance(startTime + 2000 * TICK);
+        Assert.assertTrue(expired.isEmpty());
+    }
+
+    @Test(description = "Test that a session is moved to a later slot when it is not expired once its slot is checked")
+    public void testReschedule() {
+        long startTime = System.currentTimeMillis();
+        List<HTTPSession> expired = new ArrayList<>();
+        SessionExpiryWheel wheel = new SessionExpiryWheel(startTime, expired::add);
+        HTTPSession session = new HTTPSession("session1", 1, "/");
+        wheel.schedule(session);
+        // Without a manager the wheel is not told about the change, as with an access of the session
+        session.setMaxInactiveInterval(5);
+
+        wheel.advance(startTime + 3 * TICK);
+        Assert.assertTrue(expired.isEmpty(), "session expired at its old expiry time");
+        wheel.advance(startTime + 7 * TICK);
+        Assert.assertEquals(expired.size(), 1);
+    }
+
+    @Test(description = "Test that a session expiring after more than a round of the wheel is kept until then")
+    public void testExpiryAfterRound() {
+        long startTime = System.currentTimeMillis();
+        List<HTTPSession> expired = new ArrayList<>();
+        SessionExpiryWheel wheel = new SessionExpiryWheel(startTime, expired::add);
+        wheel.schedule(new HTTPSession("session1", 1500, "/"));
+
+        wheel.advance(startTime + 1200 * TICK);
+        Assert.assertTrue(expired.isEmpty(), "session expired in an earlier round of the wheel");
+        wheel.advance(startTime + 1502 * TICK);
+        Assert.assertEquals(expired.size(), 1);
+    }
+
+    @Test(description = "Test that sessions placed while the wheel advances are expired in the next tick")
+    public void testConcurrentScheduleAndAdvance() throws InterruptedException {
+        int threadCount = 4;
+        int sessionsPerThread = 5000;
+        // Ahead of the clock, so that sessions without an inactive interval are due at the next tick
+        long startTime = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+        Map<HTTPSession, AtomicInteger> expiries = new ConcurrentHashMap<>();
+        SessionExpiryWheel wheel = new SessionExpiryWheel(startTime,
+                session -> expiries.computeIfAbsent(session, s -> new AtomicInteger()).incrementAndGet());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            int thread = i;
+            executor.execute(() -> {
+                for (int j = 0; j < sessionsPerThread; j++) {
+                    wheel.schedule(new HTTPSession("session" + thread + "-" + j, 0, "/"));
+                }
+                done.countDown();
+            });
+        }
+        long currentTime = startTime;
+        while (done.getCount() > 0) {
+            currentTime += TICK;
+            wheel.advance(currentTime);
+        }
+        executor.shutdown();
+        wheel.advance(currentTime + TICK);
+
+        Assert.assertEquals(expiries.size(), threadCount * sessionsPerThread);
+        for (AtomicInteger count : expiries.values()) {
+            Assert.assertEquals(count.get(), 1, "session expired more than once");
+        }
+    }
+}
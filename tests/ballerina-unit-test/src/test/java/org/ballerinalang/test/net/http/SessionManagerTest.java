@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.net.http;
+
+import org.ballerinalang.net.http.session.Session;
+import org.ballerinalang.net.http.session.SessionManager;
+import org.ballerinalang.observe.metrics.extension.defaultimpl.DefaultMetricProvider;
+import org.ballerinalang.util.metrics.Metric;
+import org.ballerinalang.util.metrics.MetricRegistry;
+import org.ballerinalang.util.metrics.PolledGauge;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the bounds and metrics of the HTTP session manager.
+ */
+public class SessionManagerTest {
+
+    @Test(description = "Test that no session is evicted before the max number of active sessions is reached, " +
+            "however the sessions are spread among the shards")
+    public void testNoEvictionBelowMax() {
+        // With a capacity of 10 per shard, some of the shards would be full long before 160 sessions
+        SessionManager sessionManager = new SessionManager(160);
+        try {
+            List<Session> sessions = createSessions(sessionManager, 160);
+            Assert.assertEquals(sessionManager.getActiveSessionCount(), 160);
+            Assert.assertEquals(sessionManager.getEvictedSessionCount(), 0);
+            for (Session session : sessions) {
+                Assert.assertTrue(session.isValid());
+                Assert.assertSame(sessionManager.getHTTPSession(session.getId()), session);
+            }
+        } finally {
+            sessionManager.stop();
+        }
+    }
+
+    @Test(description = "Test that a session is evicted for each new session once the max is reached")
+    public void testEvictionAtMax() {
+        SessionManager sessionManager = new SessionManager(160);
+        try {
+            List<Session> sessions = createSessions(sessionManager, 170);
+            Assert.assertEquals(sessionManager.getActiveSessionCount(), 160);
+            Assert.assertEquals(sessionManager.getEvictedSessionCount(), 10);
+            int invalidCount = 0;
+            for (Session session : sessions) {
+                if (!session.isValid()) {
+                    invalidCount++;
+                    Assert.assertNull(sessionManager.getHTTPSession(session.getId()));
+                }
+            }
+            Assert.assertEquals(invalidCount, 10);
+        } finally {
+            sessionManager.stop();
+        }
+    }
+
+    @Test(description = "Test that an invalidated session is no longer counted as active")
+    public void testInvalidate() {
+        SessionManager sessionManager = new SessionManager(160);
+        try {
+            List<Session> sessions = createSessions(sessionManager, 5);
+            sessions.get(0).invalidate();
+            Assert.assertEquals(sessionManager.getActiveSessionCount(), 4);
+            Assert.assertNull(sessionManager.getHTTPSession(sessions.get(0).getId()));
+            // Invalidating again should not change the count
+            sessionManager.invalidateSession(sessions.get(0));
+            Assert.assertEquals(sessionManager.getActiveSessionCount(), 4);
+        } finally {
+            sessionManager.stop();
+        }
+    }
+
+    @Test(description = "Test the gauges of the active, expired and evicted session counts")
+    public void testMetrics() {
+        DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+        metricProvider.init();
+        MetricRegistry metricRegistry = new MetricRegistry(metricProvider);
+        SessionManager sessionManager = new SessionManager(4);
+        try {
+            sessionManager.registerMetrics(metricRegistry);
+            List<Session> sessions = createSessions(sessionManager, 6);
+            sessions.get(5).setMaxInactiveInterval(0);
+            // Expired on access, before the wheel gets to it
+            Assert.assertNull(sessionManager.getHTTPSession(sessions.get(5).getId()));
+
+            Assert.assertEquals(getGaugeValue(metricRegistry, "ballerina_http_session_active_count"), 3.0);
+            Assert.assertEquals(getGaugeValue(metricRegistry, "ballerina_http_session_expired_count"), 1.0);
+            Assert.assertEquals(getGaugeValue(metricRegistry, "ballerina_http_session_evicted_count"), 2.0);
+        } finally {
+            sessionManager.stop();
+        }
+    }
+
+    private static List<Session> createSessions(SessionManager sessionManager, int count) {
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            sessions.add(sessionManager.createHTTPSession("/"));
+        }
+        return sessions;
+    }
+
+    private static double getGaugeValue(MetricRegistry metricRegistry, String name) {
+        for (Metric metric : metricRegistry.getAllMetrics()) {
+            if (metric.getId().getName().equals(name)) {
+                return ((PolledGauge) metric).getValue();
+            }
+        }
+        Assert.fail("metric not registered: " + name);
+        return 0;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.services.dispatching;
+
+import org.ballerinalang.launcher.util.BServiceUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.test.services.testutils.HTTPTestRequest;
+import org.ballerinalang.test.services.testutils.MessageUtils;
+import org.ballerinalang.test.services.testutils.Services;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.transport.http.netty.message.HTTPCarbonMessage;
+import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
+
+/**
+ * Test class for dispatching to services whose base paths overlap.
+ */
+public class OverlappingBasePathDispatchingTest {
+
+    private static final String TEST_EP = "testEP";
+    private CompileResult application;
+
+    @BeforeClass()
+    public void setup() {
+        application = BServiceUtil
+                .setupProgramFile(this, "test-src/services/dispatching/overlapping-base-paths.bal");
+    }
+
+    @DataProvider(name = "requestPaths")
+    public Object[][] requestPaths() {
+        return new Object[][]{
+                {"/hello/world/greeting", "/hello/world"},
+                {"/hello/world", "/hello/world"},
+                {"/hello/worlds/greeting", "/hello"},
+                {"/hello/greeting", "/hello"},
+                {"/hello", "/hello"},
+                {"/helloworld/greeting", "/helloworld"},
+                {"/HELLO/World/greeting", "/hello/world"},
+                {"/greeting/hello/world", "/"},
+                {"/hell/world", "/"}
+        };
+    }
+
+    @Test(description = "Test dispatching to the most specific of overlapping base paths",
+          dataProvider = "requestPaths")
+    public void testMostSpecificBasePathDispatching(String path, String expectedBasePath) {
+        HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage(path, "GET");
+        HTTPCarbonMessage response = Services.invokeNew(application, TEST_EP, cMsg);
+
+        Assert.assertNotNull(response, "Response message not found");
+        BJSON bJson = new BJSON(new HttpMessageDataStreamer(response).getInputStream());
+        Assert.assertEquals(bJson.value().get("echo").asText(), expectedBasePath,
+                "Request to " + path + " dispatched to wrong service");
+    }
+}
@@ -22,6 +22,8 @@ import org.ballerinalang.launcher.util.BAssertUtil;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.util.JsonNode;
+import org.ballerinalang.model.util.JsonParser;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
@@ -34,6 +36,14 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Test class for ballerina map.
  */
@@ -492,4 +502,180 @@ public class BJSONValueTest {
         Assert.assertNotNull(returns[0]);
         Assert.assertEquals(((BFloat) returns[0]).floatValue(), 4.0);
     }
+
+    @Test(description = "Test that a json read from a stream is serialized again from its tree when written out")
+    public void testSerializeStreamedJsonFromTree() {
+        String payload = "{ \"name\" : \"John\", \"age\" : 30 }";
+        BJSON json = new BJSON(new ByteArrayInputStream(payload.getBytes(Charset.defaultCharset())));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.serializeData(out);
+        Assert.assertEquals(new String(out.toByteArray(), Charset.defaultCharset()), "{\"name\":\"John\",\"age\":30}");
+    }
+
+    @Test(description = "Test serializing strings with and without characters to be escaped")
+    public void testSerializeEscapedStrings() {
+        BJSON json = new BJSON("{\"plain\":\"John\", \"quoted\":\"say \\\"hi\\\"\\n\", \"a\\tb\":[\"x\\\\y\", \"z\"]}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.serializeData(out);
+        Assert.assertEquals(new String(out.toByteArray(), Charset.defaultCharset()),
+                "{\"plain\":\"John\",\"quoted\":\"say \\\"hi\\\"\\n\",\"a\\tb\":[\"x\\\\y\",\"z\"]}");
+    }
+
+    @Test(description = "Test writing out a json read from a stream after modifying it")
+    public void testSerializeModifiedStreamedJson() {
+        String payload = "{ \"name\" : \"John\", \"age\" : 30 }";
+        BJSON json = new BJSON(new ByteArrayInputStream(payload.getBytes(Charset.defaultCharset())));
+        json.value().set("age", 31);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.serializeData(out);
+        Assert.assertEquals(new String(out.toByteArray(), Charset.defaultCharset()), "{\"name\":\"John\",\"age\":31}");
+    }
+
+    @Test(description = "Test writing out a streamed json which is modified after it was written out")
+    public void testSerializeStreamedJsonModifiedAfterWrite() {
+        String payload = "{ \"name\" : \"John\", \"age\" : 30 }";
+        BJSON json = new BJSON(new ByteArrayInputStream(payload.getBytes(Charset.defaultCharset())));
+        JsonNode node = json.value();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.serializeData(out);
+
+        node.set("age", 32);
+        out = new ByteArrayOutputStream();
+        json.serializeData(out);
+        Assert.assertEquals(new String(out.toByteArray(), Charset.defaultCharset()), "{\"name\":\"John\",\"age\":32}");
+        Assert.assertEquals(json.getMessageAsString(), "{\"name\":\"John\",\"age\":32}");
+    }
+
+    @Test(description = "Test adding fields to a json object beyond the compact field limits")
+    public void testGrowJsonObjectFields() {
+        JsonNode node = new JsonNode();
+        List<String> expectedNames = new ArrayList<>();
+        StringBuilder expectedJson = new StringBuilder("{");
+        for (int i = 0; i < 12; i++) {
+            node.set("f" + i, i);
+            expectedNames.add("f" + i);
+            expectedJson.append(i == 0 ? "" : ",").append("\"f").append(i).append("\":").append(i);
+            // check the order and the lookups after every field, so that the switch at 4 and 8 fields is covered
+            Assert.assertEquals(getFieldNames(node), expectedNames);
+            for (int j = 0; j <= i; j++) {
+                Assert.assertEquals(node.get("f" + j).longValue(), j);
+            }
+            Assert.assertNull(node.get("f" + (i + 1)));
+        }
+        Assert.assertEquals(node.toString(), expectedJson.append("}").toString());
+    }
+
+    @Test(description = "Test removing and overwriting fields of a compact json object")
+    public void testRemoveAndOverwriteCompactJsonFields() {
+        JsonNode node = new JsonNode();
+        node.set("a", 1);
+        node.set("b", 2);
+        node.set("c", 3);
+
+        node.set("b", "two");
+        Assert.assertEquals(getFieldNames(node), Arrays.asList("a", "b", "c"));
+        Assert.assertEquals(node.get("b").stringValue(), "two");
+
+        node.remove("b");
+        node.remove("x");
+        Assert.assertEquals(getFieldNames(node), Arrays.asList("a", "c"));
+        Assert.assertFalse(node.has("b"));
+        Assert.assertEquals(node.get("c").longValue(), 3);
+
+        node.set("b", 4);
+        Assert.assertEquals(node.toString(), "{\"a\":1,\"c\":3,\"b\":4}");
+
+        node.remove("a");
+        node.remove("c");
+        node.remove("b");
+        Assert.assertFalse(node.fieldNames().hasNext());
+        Assert.assertEquals(node.toString(), "{}");
+    }
+
+    @Test(description = "Test removing and overwriting fields of a json object which has gone past the compact limit")
+    public void testRemoveAndOverwriteJsonFieldsAfterGrowing() {
+        JsonNode node = new JsonNode();
+        for (int i = 0; i < 10; i++) {
+            node.set("f" + i, i);
+        }
+        node.set("f3", "three");
+        node.remove("f5");
+        node.remove("f0");
+        Assert.assertEquals(getFieldNames(node), Arrays.asList("f1", "f2", "f3", "f4", "f6", "f7", "f8", "f9"));
+        Assert.assertEquals(node.get("f3").stringValue(), "three");
+        Assert.assertNull(node.get("f5"));
+    }
+
+    @Test(description = "Test modifying a json object while iterating its field names")
+    public void testModifyJsonObjectWhileIteratingFieldNames() {
+        for (int fieldCount : new int[]{3, 10}) {
+            JsonNode node = new JsonNode();
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < fieldCount; i++) {
+                node.set("f" + i, i);
+                names.add("f" + i);
+            }
+
+            List<String> iterated = new ArrayList<>();
+            Iterator<String> itr = node.fieldNames();
+            while (itr.hasNext()) {
+                String name = itr.next();
+                iterated.add(name);
+                node.remove(name);
+                node.set("added" + name, 0);
+            }
+            // the iteration sees the fields as they were when it started
+            Assert.assertEquals(iterated, names);
+            Assert.assertEquals(getFieldNames(node).size(), fieldCount);
+            Assert.assertNull(node.get("f0"));
+            Assert.assertNotNull(node.get("addedf0"));
+        }
+    }
+
+    @Test(description = "Test looking up the fields of parsed json objects by name")
+    public void testParsedJsonFieldLookup() {
+        String longName = "aFieldNameWhichIsTooLongToBeCachedByTheParser";
+        JsonNode array = JsonParser.parse("[{\"name\":\"John\", \"age\":30, \"" + longName + "\":1, \"q\\\"t\":2}, "
+                + "{\"age\":31, \"name\":\"Jane\", \"" + longName + "\":3, \"q\\\"t\":4}]");
+        JsonNode first = array.get(0);
+        JsonNode second = array.get(1);
+
+        // repeated field names are shared between the objects
+        Assert.assertSame(getFieldNames(second).get(1), getFieldNames(first).get(0));
+        Assert.assertSame(getFieldNames(second).get(0), getFieldNames(first).get(1));
+
+        // lookups with names which are not the parsed instances
+        Assert.assertEquals(first.get(new String("name")).stringValue(), "John");
+        Assert.assertEquals(second.get(new String("name")).stringValue(), "Jane");
+        Assert.assertEquals(second.get(new String("age")).longValue(), 31);
+        Assert.assertEquals(first.get(new String(longName)).longValue(), 1);
+        Assert.assertEquals(second.get(longName).longValue(), 3);
+        Assert.assertEquals(first.get("q\"t").longValue(), 2);
+        Assert.assertEquals(second.get("q\"t").longValue(), 4);
+        Assert.assertNull(first.get("nam"));
+    }
+
+    @Test(description = "Test looking up the fields of a parsed json object with more fields than the compact limit")
+    public void testParsedLargeJsonObjectFieldLookup() {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 10; i++) {
+            json.append(i == 0 ? "" : ",").append("\"f").append(i).append("\":").append(i);
+        }
+        JsonNode node = JsonParser.parse(json.append("}").toString());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(node.get(new String("f" + i)).longValue(), i);
+        }
+        Assert.assertEquals(getFieldNames(node),
+                Arrays.asList("f0", "f1", "f2", "f3", "f4", "f5", "f6", "f7", "f8", "f9"));
+        Assert.assertEquals(node.toString(), json.toString());
+    }
+
+    private List<String> getFieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        Iterator<String> itr = node.fieldNames();
+        while (itr.hasNext()) {
+            names.add(itr.next());
+        }
+        return names;
+    }
 }
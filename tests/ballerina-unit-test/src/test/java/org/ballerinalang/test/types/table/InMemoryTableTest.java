@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.types.table;
+
+import org.ballerinalang.model.types.BField;
+import org.ballerinalang.model.types.BRecordType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BStringArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.InMemoryTable;
+import org.ballerinalang.util.InMemoryTableIterator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for removing rows of the native in-memory table storage while it is iterated.
+ */
+public class InMemoryTableTest {
+
+    private BRecordType personType;
+
+    @BeforeClass
+    public void setup() {
+        personType = new BRecordType(null, "Person", "", 0);
+        personType.setFields(new BField[]{new BField(BTypes.typeInt, "id", 0),
+                new BField(BTypes.typeString, "name", 0)});
+    }
+
+    @Test(description = "Test removing rows through an iterator while another iterator of the table is created")
+    public void testRemoveWhileAnotherIteratorIsCreated() {
+        InMemoryTable table = createTable(5);
+        table.removeRow(0);
+
+        // the removed row is dropped when the first iterator is created, so the row of id 4 is at index 2
+        InMemoryTableIterator first = table.createIterator();
+        Assert.assertTrue(first.next());
+        Assert.assertEquals(first.getInt(1), 2);
+        table.removeRow(2);
+
+        // rows are not moved while the first iterator is open
+        InMemoryTableIterator second = table.createIterator();
+        Assert.assertEquals(getIds(second), new long[]{2, 3, 5});
+
+        Assert.assertTrue(first.next());
+        Assert.assertEquals(first.getInt(1), 3);
+        first.removeCurrent();
+        Assert.assertTrue(first.next());
+        Assert.assertEquals(first.getInt(1), 5);
+        Assert.assertFalse(first.next());
+        first.close(false);
+
+        Assert.assertEquals(getIds(table.createIterator()), new long[]{2, 5});
+        Assert.assertEquals(getIds(table.getRows()), new long[]{2, 5});
+    }
+
+    @Test(description = "Test that removed rows are dropped once every iterator is closed or reset")
+    public void testRemovedRowsDroppedAfterIteratorsReleased() {
+        InMemoryTable table = createTable(4);
+        InMemoryTableIterator first = table.createIterator();
+        InMemoryTableIterator second = table.createIterator();
+        table.removeRow(1);
+        first.reset(false);
+        first.close(false);
+
+        // the second iterator is still open, so its rows stay where they are
+        InMemoryTableIterator third = table.createIterator();
+        Assert.assertTrue(second.next());
+        Assert.assertEquals(second.getInt(1), 1);
+        Assert.assertTrue(second.next());
+        Assert.assertEquals(second.getInt(1), 3);
+        second.removeCurrent();
+        second.close(false);
+        third.close(false);
+
+        InMemoryTableIterator fourth = table.createIterator();
+        Assert.assertEquals(getIds(fourth), new long[]{1, 4});
+        fourth.close(false);
+
+        table.addData(createPerson(6));
+        Assert.assertEquals(getIds(table.createIterator()), new long[]{1, 4, 6});
+    }
+
+    private InMemoryTable createTable(int rows) {
+        InMemoryTable table = new InMemoryTable(personType, new BStringArray(new String[]{"id"}));
+        for (int i = 1; i <= rows; i++) {
+            table.addData(createPerson(i));
+        }
+        return table;
+    }
+
+    private BMap<String, BValue> createPerson(long id) {
+        BMap<String, BValue> person = new BMap<>(personType);
+        person.put("id", new BInteger(id));
+        person.put("name", new BString("person" + id));
+        return person;
+    }
+
+    private static long[] getIds(InMemoryTableIterator iterator) {
+        List<Long> ids = new ArrayList<>();
+        while (iterator.next()) {
+            ids.add(iterator.getInt(1));
+            Assert.assertEquals(iterator.getString(2), "person" + iterator.getInt(1));
+        }
+        iterator.close(false);
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long[] getIds(List<BMap<String, BValue>> rows) {
+        return rows.stream().mapToLong(row -> ((BInteger) row.get("id")).intValue()).toArray();
+    }
+}
@@ -107,4 +107,35 @@ public class TableSqlQueryTest {
                 + "married:false}, {id:3, age:27, salary:500.5, name:\"jack\", married:true}, {id:4, age:28, "
                 + "salary:600.5, name:\"alex\", married:false}]}");
     }
+
+    @Test(groups = "TableQueryTest", description = "Do a select all after removing data from the table")
+    public void testSelectAfterRemove() {
+        BValue[] args = {};
+        BValue[] returns = BRunUtil.invoke(result, "testSelectAfterRemove", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 4);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+    }
+
+    @Test(groups = "TableQueryTest", description = "Check that query results do not change with the queried table")
+    public void testQueryResultAfterSourceChanges() {
+        BValue[] returns = BRunUtil.invoke(result, "testQueryResultAfterSourceChanges");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 3);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 4);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 2);
+    }
+
+    @Test(groups = "TableQueryTest", description = "Iterate the result of a query more than once")
+    public void testIterateQueryResultAgain() {
+        BValue[] returns = BRunUtil.invoke(result, "testIterateQueryResultAgain");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 53);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+    }
+
+    @Test(groups = "TableQueryTest", description = "Add data to the result of a query and query it in turn")
+    public void testModifyAndQueryQueryResult() {
+        BValue[] returns = BRunUtil.invoke(result, "testModifyAndQueryQueryResult");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 3);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 2);
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.utils.mock;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * HSQLDB data source which records the fetch size of each prepared statement when it is executed, so that tests can
+ * check the options given to the SQL connector reach the statements.
+ */
+public class FetchSizeRecordingDataSource extends JDBCDataSource {
+
+    private static final List<Integer> fetchSizes = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the fetch sizes of the prepared statements executed since the recorded fetch sizes were cleared.
+     *
+     * @return fetch sizes in the order the statements were executed
+     */
+    public static List<Integer> getFetchSizes() {
+        return new ArrayList<>(fetchSizes);
+    }
+
+    public static void clearFetchSizes() {
+        fetchSizes.clear();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recordingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recordingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection recordingConnection(Connection connection) {
+        // one of the getConnection methods may be implemented by calling the other
+        if (Proxy.isProxyClass(connection.getClass())) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(FetchSizeRecordingDataSource.class.getClassLoader(),
+                new Class[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+                        return recordingStatement((PreparedStatement) result);
+                    }
+                    return result;
+                });
+    }
+
+    private static PreparedStatement recordingStatement(PreparedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(FetchSizeRecordingDataSource.class.getClassLoader(),
+                new Class[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        fetchSizes.add(statement.getFetchSize());
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.utils.mock;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingIONativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+/**
+ * Mocked native function which blocks on I/O. It returns twice the given value after the given delay, and fails
+ * for negative values.
+ *
+ * @since 0.976.1
+ */
+@BallerinaFunction(
+        packageName = "blocking.io",
+        functionName = "readValue",
+        args = {@Argument(name = "value", type = TypeKind.INT),
+                @Argument(name = "delayMillis", type = TypeKind.INT)},
+        returnType = {@ReturnType(type = TypeKind.INT)},
+        isPublic = true
+)
+public class MockBlockingIONative extends BlockingIONativeCallableUnit {
+
+    /* whether the calls are offloaded; b7a.runtime.scheduler.offloadblockingcalls is only read once, when the
+     * thread pools are created, so the tests switch it here */
+    private static volatile boolean offload;
+
+    private static volatile String lastThreadName;
+
+    public static void setOffload(boolean offload) {
+        MockBlockingIONative.offload = offload;
+    }
+
+    public static String getLastThreadName() {
+        return lastThreadName;
+    }
+
+    @Override
+    public void execute(Context ctx) {
+        long value = ctx.getIntArgument(0);
+        long delayMillis = ctx.getIntArgument(1);
+        lastThreadName = Thread.currentThread().getName();
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (value < 0) {
+            throw new BallerinaException("invalid value: " + value);
+        }
+        ctx.setReturnValues(new BInteger(value * 2));
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return !offload;
+    }
+}
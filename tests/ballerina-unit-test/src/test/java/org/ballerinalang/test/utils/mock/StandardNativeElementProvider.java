@@ -36,6 +36,12 @@ public class StandardNativeElementProvider implements NativeElementProvider {
                 new TypeKind[] { TypeKind.INT, TypeKind.FLOAT, TypeKind.STRING, TypeKind.INT, TypeKind.STRING,
                         TypeKind.ARRAY },
                 new TypeKind[] {}, "org.ballerinalang.test.utils.mock.TestOptionalArgsInNativeFunc"));
+        repo.registerNativeFunction(new NativeFunctionDef("testorg", "blocking.io:0.0.0", "readValue",
+                new TypeKind[] { TypeKind.INT, TypeKind.INT }, new TypeKind[] { TypeKind.INT },
+                "org.ballerinalang.test.utils.mock.MockBlockingIONative"));
+        repo.registerNativeFunction(new NativeFunctionDef("testorg", "blocking.io:0.0.0", "currentThreadName",
+                new TypeKind[] {}, new TypeKind[] { TypeKind.STRING },
+                "org.ballerinalang.test.utils.mock.MockCurrentThreadName"));
     }
 
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.NativeElementRepository;
+import org.ballerinalang.natives.NativeUnitLoader;
+import org.ballerinalang.test.utils.mock.MockBlockingIONative;
+import org.ballerinalang.test.utils.mock.StandardNativeElementProvider;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for native calls which block on I/O, executed in the calling worker's thread or offloaded to the
+ * blocking call executor.
+ */
+public class BlockingIONativeTest {
+
+    private static final String BLOCKING_THREAD_PREFIX = "blocking-thread-pool-";
+
+    private static final String WORKER_THREAD_PREFIX = "worker-thread-pool-";
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        NativeElementRepository repo = NativeUnitLoader.getInstance().getNativeElementRepository();
+        StandardNativeElementProvider provider = new StandardNativeElementProvider();
+        provider.populateNatives(repo);
+        result = BCompileUtil.compile(this, "test-src/vm/blocking-natives", "blocking.io");
+    }
+
+    @DataProvider(name = "offloadBlockingCalls")
+    public Object[][] offloadBlockingCalls() {
+        return new Object[][]{{true}, {false}};
+    }
+
+    @Test(dataProvider = "offloadBlockingCalls")
+    public void testBlockingCallResult(boolean offload) {
+        MockBlockingIONative.setOffload(offload);
+        BValue[] returns = BRunUtil.invoke(result, "testReadValue", new BValue[]{new BInteger(21)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 42);
+        Assert.assertEquals(MockBlockingIONative.getLastThreadName().startsWith(BLOCKING_THREAD_PREFIX), offload);
+        if (offload) {
+            // the caller is resumed in the worker executor, not in the thread which executed the call
+            Assert.assertTrue(returns[1].stringValue().startsWith(WORKER_THREAD_PREFIX), returns[1].stringValue());
+        }
+    }
+
+    @Test(dataProvider = "offloadBlockingCalls")
+    public void testBlockingCallError(boolean offload) {
+        MockBlockingIONative.setOffload(offload);
+        BValue[] returns = BRunUtil.invoke(result, "testReadValueError", new BValue[]{new BInteger(-1)});
+        Assert.assertEquals(returns[0].stringValue(), "invalid value: -1");
+        Assert.assertEquals(MockBlockingIONative.getLastThreadName().startsWith(BLOCKING_THREAD_PREFIX), offload);
+    }
+
+    @Test(dataProvider = "offloadBlockingCalls")
+    public void testAsyncBlockingCallResult(boolean offload) {
+        MockBlockingIONative.setOffload(offload);
+        // the delay makes the caller wait for the call, so that the call has to resume it
+        BValue[] returns = BRunUtil.invoke(result, "testReadValueAsync",
+                new BValue[]{new BInteger(21), new BInteger(200)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 42);
+        // both the offloaded call and the async execution of a blocking call run in the blocking call executor
+        Assert.assertTrue(MockBlockingIONative.getLastThreadName().startsWith(BLOCKING_THREAD_PREFIX),
+                MockBlockingIONative.getLastThreadName());
+        Assert.assertTrue(returns[1].stringValue().startsWith(WORKER_THREAD_PREFIX), returns[1].stringValue());
+    }
+
+    @Test(dataProvider = "offloadBlockingCalls")
+    public void testAsyncBlockingCallError(boolean offload) {
+        MockBlockingIONative.setOffload(offload);
+        BValue[] returns = BRunUtil.invoke(result, "testReadValueAsyncError",
+                new BValue[]{new BInteger(-1), new BInteger(200)});
+        // the error of the call is the cause of the error of the awaited future
+        Assert.assertEquals(returns[0].stringValue(), "call failed: invalid value: -1");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        MockBlockingIONative.setOffload(false);
+    }
+}
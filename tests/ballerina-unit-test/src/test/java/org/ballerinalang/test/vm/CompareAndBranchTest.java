@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BIntArray;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.InstructionCodes;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the integer compare-and-branch instructions which are fused when a program is loaded, and for the
+ * opcodes which are executed directly in the main loop of the BVM.
+ */
+public class CompareAndBranchTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        this.result = BCompileUtil.compile("test-src/vm/compare-and-branch.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testComparisonsAreFused() {
+        Instruction[] instructions = result.getProgFile().getEntryPackage().getInstructions();
+        int fusedCount = 0;
+        for (int ip = 0; ip < instructions.length; ip++) {
+            if (instructions[ip] instanceof Instruction.InstructionCmpBranch) {
+                fusedCount++;
+                // The original branch is kept in place for jumps and debugging
+                int nextOpcode = instructions[ip + 1].getOpcode();
+                Assert.assertTrue(nextOpcode == InstructionCodes.BR_TRUE || nextOpcode == InstructionCodes.BR_FALSE);
+            }
+        }
+        Assert.assertTrue(fusedCount >= 6, "expected the comparisons of the conditions to be fused, but found "
+                + fusedCount);
+    }
+
+    @DataProvider(name = "comparisons")
+    public Object[][] comparisons() {
+        return new Object[][]{
+                {5L, 3L, "gt,ge,ne,", "!lt,!le,!eq,"},
+                {3L, 5L, "lt,le,ne,", "!gt,!ge,!eq,"},
+                {4L, 4L, "ge,le,eq,", "!gt,!lt,!ne,"},
+                {-1L, Long.MIN_VALUE, "gt,ge,ne,", "!lt,!le,!eq,"}
+        };
+    }
+
+    @Test(dataProvider = "comparisons")
+    public void testIntComparisons(long a, long b, String expected, String expectedNegated) {
+        BValue[] args = {new BInteger(a), new BInteger(b)};
+        BValue[] returns = BRunUtil.invoke(result, "testIntComparisons", args);
+        Assert.assertEquals(returns[0].stringValue(), expected);
+
+        returns = BRunUtil.invoke(result, "testNegatedIntComparisons", args);
+        Assert.assertEquals(returns[0].stringValue(), expectedNegated);
+    }
+
+    @Test
+    public void testComparisonResultReuse() {
+        BValue[] returns = BRunUtil.invoke(result, "testComparisonResultReuse",
+                new BValue[]{new BInteger(5), new BInteger(3)});
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 11);
+
+        returns = BRunUtil.invoke(result, "testComparisonResultReuse", new BValue[]{new BInteger(3), new BInteger(3)});
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 10);
+
+        returns = BRunUtil.invoke(result, "testComparisonResultReuse", new BValue[]{new BInteger(2), new BInteger(3)});
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 0);
+    }
+
+    @Test
+    public void testNestedLoops() {
+        BValue[] returns = BRunUtil.invoke(result, "testNestedLoops", new BValue[]{new BInteger(3)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 10);
+
+        returns = BRunUtil.invoke(result, "testNestedLoops", new BValue[]{new BInteger(4)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 20);
+
+        returns = BRunUtil.invoke(result, "testNestedLoops", new BValue[]{new BInteger(0)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 0);
+    }
+
+    @Test
+    public void testLoopWithBreakAndContinue() {
+        BValue[] returns = BRunUtil.invoke(result, "testLoopWithBreakAndContinue", new BValue[]{new BInteger(10)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 25);
+
+        returns = BRunUtil.invoke(result, "testLoopWithBreakAndContinue", new BValue[]{new BInteger(2)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 3);
+    }
+
+    @Test
+    public void testMoves() {
+        BIntArray array = new BIntArray(new long[]{1, 2});
+        BValue[] returns = BRunUtil.invoke(result, "testMoves", new BValue[]{new BInteger(10), new BFloat(2.5),
+                new BString("value"), new BBoolean(true), array});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 9);
+        Assert.assertEquals(((BFloat) returns[1]).floatValue(), 2.5);
+        Assert.assertEquals(returns[2].stringValue(), "value");
+        Assert.assertTrue(((BBoolean) returns[3]).booleanValue());
+        Assert.assertEquals(((BIntArray) returns[4]).size(), 2);
+        Assert.assertEquals(((BIntArray) returns[4]).get(1), 2);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.InstructionCodes;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the threading of jumps when a program is loaded.
+ */
+public class JumpThreadingTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/vm/jump-threading.bal");
+    }
+
+    @Test
+    public void testJumpsThreadedOnLoad() {
+        assertNoJumpsToGoto(result.getProgFile().getEntryPackage().getInstructions());
+    }
+
+    @Test
+    public void testThreadedFunctionResults() {
+        for (int n = 0; n < 12; n++) {
+            BValue[] returns = BRunUtil.invoke(result, "classify", new BValue[]{new BInteger(n)});
+            Assert.assertEquals(((BInteger) returns[0]).intValue(), classify(n));
+        }
+
+        BValue[] returns = BRunUtil.invoke(result, "invokeRepeatedly",
+                new BValue[]{new BInteger(100), new BInteger(10)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 100 * classify(10));
+    }
+
+    private long classify(int n) {
+        long result = 0;
+        for (int i = 0; i < n; i++) {
+            if (i % 3 == 0) {
+                result += 3;
+            } else if (i % 3 == 1) {
+                result += 1;
+            } else {
+                result += i > 5 ? -1 : 2;
+            }
+        }
+        return result;
+    }
+
+    private void assertNoJumpsToGoto(Instruction[] instructions) {
+        Assert.assertEquals(countJumpsToGoto(instructions), 0);
+    }
+
+    private int countJumpsToGoto(Instruction[] instructions) {
+        int count = 0;
+        for (Instruction instruction : instructions) {
+            int target;
+            switch (instruction.getOpcode()) {
+                case InstructionCodes.GOTO:
+                    target = instruction.getOperands()[0];
+                    break;
+                case InstructionCodes.BR_TRUE:
+                case InstructionCodes.BR_FALSE:
+                    target = instruction.getOperands()[1];
+                    break;
+                default:
+                    continue;
+            }
+            // A GOTO to itself is an infinite loop which cannot be shortened
+            if (instructions[target].getOpcode() == InstructionCodes.GOTO && instructions[target] != instruction) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
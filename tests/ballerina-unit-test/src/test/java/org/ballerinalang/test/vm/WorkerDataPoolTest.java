@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.bre.bvm.WorkerDataPool;
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.attributes.CodeAttributeInfo;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the pooling of the local frames of workers.
+ */
+public class WorkerDataPoolTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        this.result = BCompileUtil.compile("test-src/vm/worker-data-pool.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testReleasedFrameIsClearedAndReused() {
+        CodeAttributeInfo codeAttributeInfo = new CodeAttributeInfo();
+        codeAttributeInfo.maxLongRegs = 3;
+        codeAttributeInfo.maxStringRegs = 2;
+        codeAttributeInfo.maxBValueRegs = 1;
+
+        WorkerData frame = WorkerDataPool.acquire(codeAttributeInfo);
+        frame.longRegs[2] = 10;
+        frame.stringRegs[1] = "value";
+        frame.refRegs[0] = new BString("ref");
+        WorkerDataPool.release(frame);
+
+        WorkerData reused = WorkerDataPool.acquire(codeAttributeInfo);
+        Assert.assertSame(reused, frame);
+        Assert.assertEquals(reused.longRegs[2], 0);
+        Assert.assertNull(reused.stringRegs[1]);
+        Assert.assertNull(reused.refRegs[0]);
+        WorkerDataPool.release(reused);
+    }
+
+    @Test
+    public void testLargeFramesAreNotPooled() {
+        CodeAttributeInfo codeAttributeInfo = new CodeAttributeInfo();
+        codeAttributeInfo.maxLongRegs = 1000;
+
+        WorkerData frame = WorkerDataPool.acquire(codeAttributeInfo);
+        Assert.assertEquals(frame.longRegs.length, 1000);
+        WorkerDataPool.release(frame);
+        Assert.assertNotSame(WorkerDataPool.acquire(codeAttributeInfo), frame);
+    }
+
+    @Test
+    public void testReuseAfterAsyncReturn() {
+        for (int i = 0; i < 20; i++) {
+            BValue[] returns = BRunUtil.invoke(result, "testReuseAfterAsyncReturn", new BValue[]{new BInteger(10)});
+            Assert.assertEquals(((BInteger) returns[0]).intValue(), 570);
+            Assert.assertEquals(((BInteger) returns[1]).intValue(), 385);
+            Assert.assertEquals(returns[2].stringValue(), "n=285");
+        }
+    }
+
+    @Test
+    public void testClosureAfterReturn() {
+        BValue[] returns = BRunUtil.invoke(result, "testClosureAfterReturn");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 60);
+    }
+
+    @Test
+    public void testWorkersOfReturnedFunction() {
+        for (int i = 0; i < 20; i++) {
+            BValue[] returns = BRunUtil.invoke(result, "testWorkersOfReturnedFunction",
+                    new BValue[]{new BInteger(3)});
+            Assert.assertEquals(((BInteger) returns[0]).intValue(), 213);
+        }
+    }
+}
@@ -598,3 +598,29 @@ function test28() returns (int, int) {
 }
 
 
+
+function test29() returns (int, string) {
+    int a = 3;
+    string prefix = "B";
+    boolean b = true;
+    var foo = (int x) => int {
+        if (b) {
+            return a + x;
+        }
+        return x;
+    };
+    var bar = (int x) => string {
+        return prefix + x;
+    };
+    int sum = 0;
+    string s = "";
+    int i = 0;
+    while (i < 100) {
+        sum = sum + foo(i);
+        if (i < 3) {
+            s = s + bar(i);
+        }
+        i = i + 1;
+    }
+    return (sum, s);
+}
@@ -17,6 +17,11 @@ sql:PoolOptions properties5 = { dataSourceClassName: "org.hsqldb.jdbc.JDBCDataSo
 map propertiesMap3 = { "url": "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_INIT" };
 sql:PoolOptions properties6 = { dataSourceClassName: "org.hsqldb.jdbc.JDBCDataSource" };
 
+sql:PoolOptions fetchSizeProperties = { maximumPoolSize: 1, fetchSize: 2,
+    dataSourceClassName: "org.ballerinalang.test.utils.mock.FetchSizeRecordingDataSource" };
+sql:PoolOptions defaultFetchSizeProperties = { maximumPoolSize: 1,
+    dataSourceClassName: "org.ballerinalang.test.utils.mock.FetchSizeRecordingDataSource" };
+
 function testConnectionPoolProperties1() returns (json) {
     endpoint jdbc:Client testDB {
         url: "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_INIT",
@@ -175,3 +180,100 @@ function testPropertiesGetUsedOnlyIfDataSourceGiven() returns (json) {
     testDB.stop();
     return j;
 }
+
+function testConnectionPoolFetchSize() returns (json) {
+    endpoint jdbc:Client testDB {
+        url: "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_INIT",
+        username: "SA",
+        password: "",
+        poolOptions: fetchSizeProperties
+    };
+
+    table dt = check testDB->select("SELECT  FirstName from Customers where registrationID = 1", ());
+
+    json j = check <json>dt;
+    testDB.stop();
+    return j;
+}
+
+function testConnectionPoolDefaultFetchSize() returns (json) {
+    endpoint jdbc:Client testDB {
+        url: "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_INIT",
+        username: "SA",
+        password: "",
+        poolOptions: defaultFetchSizeProperties
+    };
+
+    table dt = check testDB->select("SELECT  FirstName from Customers where registrationID = 1", ());
+
+    json j = check <json>dt;
+    testDB.stop();
+    return j;
+}
+
+function testConnectionPoolUpdateBatching() returns (json) {
+    endpoint jdbc:Client testDB {
+        url: "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_INIT",
+        username: "SA",
+        password: "",
+        poolOptions: { maximumPoolSize: 1, updateBatchSize: 10, updateBatchWindow: 1 }
+    };
+
+    sql:Parameter para1 = { sqlType: sql:TYPE_VARCHAR, value: "James" };
+    int insertCount = check testDB->update("insert into Customers (firstName,lastName,registrationID,creditLimit,country)
+                                     values (?, 'Smith', 10, 3400.5, 'Colombo')", para1);
+
+    table dt = check testDB->select("SELECT  FirstName from Customers where registrationID = 10", ());
+
+    json rows = check <json>dt;
+    json j = { count: insertCount, rows: rows };
+    testDB.stop();
+    return j;
+}
+
+function testConnectionPoolUpdateBatchFallback() returns (string) {
+    endpoint jdbc:Client testDB {
+        url: "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR_INIT",
+        username: "SA",
+        password: "",
+        poolOptions: { maximumPoolSize: 1, updateBatchSize: 3, updateBatchWindow: 1000 }
+    };
+
+    worker w1 {
+        // The id of the existing customer fails the batch
+        sql:Parameter id = { sqlType: sql:TYPE_INTEGER, value: 1 };
+        var insertResult = testDB->update("insert into Customers (customerId,firstName,lastName,registrationID,
+                creditLimit,country) values (?, 'James', 'Smith', 20, 3400.5, 'Colombo')", id);
+        string result = getUpdateResult(insertResult);
+        string secondResult;
+        string thirdResult;
+        secondResult <- w2;
+        thirdResult <- w3;
+
+        table dt = check testDB->select("SELECT COUNT(*) as countval from Customers where registrationID = 20", ());
+        json rows = check <json>dt;
+        testDB.stop();
+        return result + "," + secondResult + "," + thirdResult + "," + rows.toString();
+    }
+    worker w2 {
+        sql:Parameter id = { sqlType: sql:TYPE_INTEGER, value: 201 };
+        var insertResult = testDB->update("insert into Customers (customerId,firstName,lastName,registrationID,
+                creditLimit,country) values (?, 'James', 'Smith', 20, 3400.5, 'Colombo')", id);
+        string result = getUpdateResult(insertResult);
+        result -> w1;
+    }
+    worker w3 {
+        sql:Parameter id = { sqlType: sql:TYPE_INTEGER, value: 202 };
+        var insertResult = testDB->update("insert into Customers (customerId,firstName,lastName,registrationID,
+                creditLimit,country) values (?, 'James', 'Smith', 20, 3400.5, 'Colombo')", id);
+        string result = getUpdateResult(insertResult);
+        result -> w1;
+    }
+}
+
+function getUpdateResult(int|error updateResult) returns string {
+    match updateResult {
+        int count => return <string>count;
+        error e => return "error";
+    }
+}
@@ -381,3 +381,74 @@ function nextInsideLock() returns (int, string) {
     }
 }
 
+int contendedCounter = 0;
+
+function incrementInLock(int times) {
+    int i = 0;
+    while (i < times) {
+        lock {
+            int count = contendedCounter;
+            contendedCounter = count + 1;
+        }
+        i = i + 1;
+    }
+}
+
+function contendedLockAndUnlock() returns int {
+    contendedCounter = 0;
+    fork {
+        worker w1 {
+            incrementInLock(500);
+            1 -> fork;
+        }
+        worker w2 {
+            incrementInLock(500);
+            2 -> fork;
+        }
+        worker w3 {
+            incrementInLock(500);
+            3 -> fork;
+        }
+        worker w4 {
+            incrementInLock(500);
+            4 -> fork;
+        }
+    } join (all) (map results) {
+    } timeout (60000) (map results) {
+        return -1;
+    }
+    return contendedCounter;
+}
+
+string wakeUpOrder = "";
+
+function waitersWokenUpOnUnlock() returns string {
+    wakeUpOrder = "";
+    fork {
+        worker w1 {
+            lock {
+                wakeUpOrder = wakeUpOrder + "w1";
+                runtime:sleep(200);
+            }
+            1 -> fork;
+        }
+        worker w2 {
+            runtime:sleep(50);
+            lock {
+                wakeUpOrder = wakeUpOrder + "w2";
+            }
+            2 -> fork;
+        }
+        worker w3 {
+            runtime:sleep(50);
+            lock {
+                wakeUpOrder = wakeUpOrder + "w3";
+            }
+            3 -> fork;
+        }
+    } join (all) (map results) {
+    } timeout (60000) (map results) {
+        return "timed out";
+    }
+    return wakeUpOrder;
+}
@@ -0,0 +1,69 @@
+import ballerina/http;
+
+endpoint http:NonListener testEP {
+    port:9090
+};
+
+@http:ServiceConfig {
+    basePath:"/hello"
+}
+service<http:Service> hello bind testEP {
+
+    @http:ResourceConfig {
+        path:"/*"
+    }
+    echo (endpoint conn, http:Request req) {
+        http:Response res = new;
+        json responseJson = {"echo":"/hello"};
+        res.setJsonPayload(responseJson);
+        _ = conn -> respond(res);
+    }
+}
+
+@http:ServiceConfig {
+    basePath:"/hello/world"
+}
+service<http:Service> helloWorld bind testEP {
+
+    @http:ResourceConfig {
+        path:"/*"
+    }
+    echo (endpoint conn, http:Request req) {
+        http:Response res = new;
+        json responseJson = {"echo":"/hello/world"};
+        res.setJsonPayload(responseJson);
+        _ = conn -> respond(res);
+    }
+}
+
+@http:ServiceConfig {
+    basePath:"/helloworld"
+}
+service<http:Service> helloworldJoined bind testEP {
+
+    @http:ResourceConfig {
+        path:"/*"
+    }
+    echo (endpoint conn, http:Request req) {
+        http:Response res = new;
+        json responseJson = {"echo":"/helloworld"};
+        res.setJsonPayload(responseJson);
+        _ = conn -> respond(res);
+    }
+}
+
+@http:ServiceConfig {
+    basePath:"/"
+}
+service<http:Service> root bind testEP {
+
+    @http:ResourceConfig {
+        path:"/*"
+    }
+    echo (endpoint conn, http:Request req) {
+        http:Response res = new;
+        json responseJson = {"echo":"/"};
+        res.setJsonPayload(responseJson);
+        _ = conn -> respond(res);
+    }
+}
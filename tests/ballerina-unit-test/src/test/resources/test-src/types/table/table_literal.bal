@@ -243,6 +243,8 @@ function testTableDrop() {
 
     table<Person> dt = table{};
     _ = dt.add(p1);
+    // querying copies the data to the table database, which should be dropped along with the table
+    table<Person> dtCopy = from dt select *;
 }
 
 function testTableWithAllDataToJson() returns (json) {
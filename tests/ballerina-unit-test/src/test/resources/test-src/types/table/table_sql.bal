@@ -269,3 +269,84 @@ function testTableToString() returns table {
 
     return personTableCopy;
 }
+
+function testSelectAfterRemove() returns (int, int) {
+    table<Person> personTable = table{};
+    Person p1 = { id: 1, age: 25, salary: 300.50, name: "jane", married: true };
+    Person p2 = { id: 2, age: 26, salary: 400.50, name: "kane", married: false };
+    Person p3 = { id: 3, age: 27, salary: 500.50, name: "jack", married: true };
+    Person p4 = { id: 4, age: 28, salary: 600.50, name: "alex", married: false };
+
+    _ = personTable.add(p1);
+    _ = personTable.add(p2);
+    _ = personTable.add(p3);
+    _ = personTable.add(p4);
+
+    table<Person> personTableCopy = from personTable select *;
+    int countBeforeRemove = personTableCopy.count();
+
+    _ = personTable.remove(isAbove26);
+
+    table<Person> personTableAfterRemove = from personTable select *;
+    int countAfterRemove = personTableAfterRemove.count();
+    return (countBeforeRemove, countAfterRemove);
+}
+
+function isAbove26(Person p) returns (boolean) {
+    return p.age > 26;
+}
+
+function testQueryResultAfterSourceChanges() returns (int, int, int) {
+    table<Person> personTable = table{};
+    Person p1 = { id: 1, age: 25, salary: 300.50, name: "jane", married: true };
+    Person p2 = { id: 2, age: 26, salary: 400.50, name: "kane", married: false };
+    Person p3 = { id: 3, age: 27, salary: 500.50, name: "jack", married: true };
+    Person p4 = { id: 4, age: 28, salary: 600.50, name: "alex", married: false };
+
+    _ = personTable.add(p1);
+    _ = personTable.add(p2);
+    _ = personTable.add(p3);
+
+    table<Person> firstResult = from personTable select *;
+    _ = personTable.add(p4);
+    table<Person> secondResult = from personTable select *;
+    _ = personTable.remove(isAbove26);
+    table<Person> thirdResult = from personTable select *;
+
+    return (firstResult.count(), secondResult.count(), thirdResult.count());
+}
+
+function testIterateQueryResultAgain() returns (int, int) {
+    table<Person> personTable = table{};
+    Person p1 = { id: 1, age: 25, salary: 300.50, name: "jane", married: true };
+    Person p2 = { id: 2, age: 26, salary: 400.50, name: "kane", married: false };
+    Person p3 = { id: 3, age: 27, salary: 500.50, name: "jack", married: true };
+
+    _ = personTable.add(p1);
+    _ = personTable.add(p2);
+    _ = personTable.add(p3);
+
+    table<Person> queried = from personTable where age > 25 select *;
+    int ageSum = 0;
+    while (queried.hasNext()) {
+        Person p = check <Person>queried.getNext();
+        ageSum = ageSum + p.age;
+    }
+    return (ageSum, queried.count());
+}
+
+function testModifyAndQueryQueryResult() returns (int, int, int) {
+    table<Person> personTable = table{};
+    Person p1 = { id: 1, age: 25, salary: 300.50, name: "jane", married: true };
+    Person p2 = { id: 2, age: 26, salary: 400.50, name: "kane", married: false };
+    Person p3 = { id: 3, age: 27, salary: 500.50, name: "jack", married: true };
+
+    _ = personTable.add(p1);
+    _ = personTable.add(p2);
+
+    table<Person> queried = from personTable select *;
+    _ = queried.add(p3);
+    table<Person> filtered = from queried where married == true select *;
+
+    return (personTable.count(), queried.count(), filtered.count());
+}
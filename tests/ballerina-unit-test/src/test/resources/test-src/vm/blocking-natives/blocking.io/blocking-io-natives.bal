@@ -0,0 +1,36 @@
+public native function readValue(int value, int delayMillis) returns int;
+
+public native function currentThreadName() returns string;
+
+function testReadValue(int value) returns (int, string) {
+    int result = readValue(value, 0);
+    return (result, currentThreadName());
+}
+
+function testReadValueError(int value) returns string {
+    try {
+        int result = readValue(value, 0);
+        return "no error: " + result;
+    } catch (error e) {
+        return e.message;
+    }
+}
+
+function testReadValueAsync(int value, int delayMillis) returns (int, string) {
+    future<int> f = start readValue(value, delayMillis);
+    int result = await f;
+    return (result, currentThreadName());
+}
+
+function testReadValueAsyncError(int value, int delayMillis) returns string {
+    future<int> f = start readValue(value, delayMillis);
+    try {
+        int result = await f;
+        return "no error: " + result;
+    } catch (error e) {
+        match e.cause {
+            error cause => return e.message + ": " + cause.message;
+            () => return e.message;
+        }
+    }
+}
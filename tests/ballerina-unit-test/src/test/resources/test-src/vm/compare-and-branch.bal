@@ -0,0 +1,97 @@
+function testIntComparisons(int a, int b) returns (string) {
+    string result = "";
+    if (a > b) {
+        result = result + "gt,";
+    }
+    if (a >= b) {
+        result = result + "ge,";
+    }
+    if (a < b) {
+        result = result + "lt,";
+    }
+    if (a <= b) {
+        result = result + "le,";
+    }
+    if (a == b) {
+        result = result + "eq,";
+    }
+    if (a != b) {
+        result = result + "ne,";
+    }
+    return result;
+}
+
+function testNegatedIntComparisons(int a, int b) returns (string) {
+    string result = "";
+    if (!(a > b)) {
+        result = result + "!gt,";
+    }
+    if (!(a >= b)) {
+        result = result + "!ge,";
+    }
+    if (!(a < b)) {
+        result = result + "!lt,";
+    }
+    if (!(a <= b)) {
+        result = result + "!le,";
+    }
+    if (!(a == b)) {
+        result = result + "!eq,";
+    }
+    if (!(a != b)) {
+        result = result + "!ne,";
+    }
+    return result;
+}
+
+function testComparisonResultReuse(int a, int b) returns (boolean, int) {
+    boolean greater = a > b;
+    int count = 0;
+    if (greater) {
+        count = count + 1;
+    }
+    if (a > b || a == b) {
+        count = count + 10;
+    }
+    return (greater, count);
+}
+
+function testNestedLoops(int n) returns (int) {
+    int sum = 0;
+    int i = 0;
+    while (i < n) {
+        int j = n;
+        while (j > i) {
+            sum = sum + j - i;
+            j = j - 1;
+        }
+        i = i + 1;
+    }
+    return sum;
+}
+
+function testLoopWithBreakAndContinue(int n) returns (int) {
+    int i = 0;
+    int count = 0;
+    while (i <= n) {
+        i = i + 1;
+        if (i == 3) {
+            continue;
+        }
+        if (i >= 8) {
+            break;
+        }
+        count = count + i;
+    }
+    return count;
+}
+
+function testMoves(int i, float f, string s, boolean b, int[] r) returns (int, float, string, boolean, int[]) {
+    int i2 = i;
+    float f2 = f;
+    string s2 = s;
+    boolean b2 = b;
+    int[] r2 = r;
+    i2 = i2 - 1;
+    return (i2, f2, s2, b2, r2);
+}
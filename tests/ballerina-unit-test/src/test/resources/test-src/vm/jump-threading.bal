@@ -0,0 +1,29 @@
+function classify(int n) returns (int) {
+    int i = -1;
+    int result = 0;
+    while (i < n - 1) {
+        i = i + 1;
+        if (i % 3 == 0) {
+            result = result + 3;
+        } else if (i % 3 == 1) {
+            result = result + 1;
+        } else {
+            if (i > 5) {
+                result = result - 1;
+            } else {
+                result = result + 2;
+            }
+        }
+    }
+    return result;
+}
+
+function invokeRepeatedly(int times, int n) returns (int) {
+    int total = 0;
+    int i = 0;
+    while (i < times) {
+        total = total + classify(n);
+        i = i + 1;
+    }
+    return total;
+}
@@ -0,0 +1,60 @@
+function square(int n) returns int {
+    int result = n * n;
+    return result;
+}
+
+function describe(int n) returns string {
+    string text = "n=" + n;
+    return text;
+}
+
+function sumOfSquares(int n) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < n) {
+        sum = sum + square(i);
+        i = i + 1;
+    }
+    return sum;
+}
+
+function testReuseAfterAsyncReturn(int n) returns (int, int, string) {
+    future<int> f1 = start sumOfSquares(n);
+    future<int> f2 = start sumOfSquares(n + 1);
+    int first = await f1;
+    // The frames of the async calls are reused by the calls made after they returned
+    int local = sumOfSquares(n);
+    string text = describe(first);
+    int second = await f2;
+    return (first + local, second, text);
+}
+
+function makeAdder(int base) returns (function (int) returns int) {
+    int captured = base * 2;
+    return (int x) => int {
+        return x + captured;
+    };
+}
+
+function testClosureAfterReturn() returns int {
+    function (int) returns int adder = makeAdder(5);
+    // Reuses the frame of makeAdder, which the closure should not depend on
+    int unused = square(7);
+    return adder(1) + unused;
+}
+
+function testWorkersOfReturnedFunction(int n) returns int {
+    worker w1 {
+        int a = square(n);
+        a -> w2;
+        int b;
+        b <- w2;
+        return a + b;
+    }
+    worker w2 {
+        int a;
+        a <- w1;
+        int b = sumOfSquares(a);
+        b -> w1;
+    }
+}